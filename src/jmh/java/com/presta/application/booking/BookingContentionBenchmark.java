@@ -0,0 +1,65 @@
+package com.presta.application.booking;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Débit de réservations sous contention (user-013) : 16 threads réservent en même temps,
+ * chaque réservation gardant le verrou le temps d'une transaction simulée (attente, comme un aller-retour en base).
+ *
+ * - sameContractor : tous les threads visent le même contractor, les réservations passent une à une ;
+ * - distinctContractors : un contractor par thread, les bandes laissent les réservations avancer en parallèle ;
+ * - singleLock : un contractor par thread mais une seule bande, ce que donnerait un verrou global.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.include=BookingContentionBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(16)
+public class BookingContentionBenchmark {
+
+    private static final UUID POPULAR_CONTRACTOR = UUID.randomUUID();
+
+    @State(Scope.Benchmark)
+    public static class Coordinators {
+
+        @Param({"200"})
+        long transactionMicros;
+
+        final BookingCoordinator striped = new BookingCoordinator(256, Duration.ofSeconds(30));
+        final BookingCoordinator single = new BookingCoordinator(1, Duration.ofSeconds(30));
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+
+        final UUID contractorId = UUID.randomUUID();
+    }
+
+    @Benchmark
+    public int sameContractor(Coordinators coordinators) {
+        return coordinators.striped.execute(POPULAR_CONTRACTOR, () -> book(coordinators.transactionMicros));
+    }
+
+    @Benchmark
+    public int distinctContractors(Coordinators coordinators, Client client) {
+        return coordinators.striped.execute(client.contractorId, () -> book(coordinators.transactionMicros));
+    }
+
+    @Benchmark
+    public int singleLock(Coordinators coordinators, Client client) {
+        return coordinators.single.execute(client.contractorId, () -> book(coordinators.transactionMicros));
+    }
+
+    private static int book(long transactionMicros) {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(transactionMicros));
+        return 1;
+    }
+}
@@ -0,0 +1,85 @@
+package com.presta.domain.model.valueobject;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chevauchement d'un créneau avec une indisponibilité partielle « tous les matins de 8h à 9h » (user-024),
+ * pour des périodes d'un mois à dix ans : vérification ramenée aux jours du créneau
+ * contre l'ancien parcours de tous les jours de la période.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.include=UnavailabilityOverlapBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UnavailabilityOverlapBenchmark {
+
+    private static final int SLOTS = 1024;
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    @Param({"30", "365", "3650"})
+    private int periodDays;
+
+    private UnavailabilityPeriod everyMorning;
+    private final LocalDateTime[] slotStarts = new LocalDateTime[SLOTS];
+    private final LocalDateTime[] slotEnds = new LocalDateTime[SLOTS];
+
+    @Setup
+    public void setUp() {
+        everyMorning = new UnavailabilityPeriod(START, START.plusDays(periodDays - 1), LocalTime.of(8, 0), LocalTime.of(9, 0));
+
+        // Créneaux de 30 min entre 7h et 18h, répartis sur la période
+        Random random = new Random(42);
+        for (int i = 0; i < SLOTS; i++) {
+            slotStarts[i] = START.plusDays(random.nextInt(periodDays)).atTime(7 + random.nextInt(11), random.nextInt(2) * 30);
+            slotEnds[i] = slotStarts[i].plusMinutes(30);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SLOTS)
+    public int slotDays() {
+        int overlapping = 0;
+        for (int i = 0; i < SLOTS; i++) {
+            if (everyMorning.overlapsWithSlot(slotStarts[i], slotEnds[i])) {
+                overlapping++;
+            }
+        }
+        return overlapping;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SLOTS)
+    public int dayByDayScan() {
+        int overlapping = 0;
+        for (int i = 0; i < SLOTS; i++) {
+            if (scan(everyMorning, slotStarts[i], slotEnds[i])) {
+                overlapping++;
+            }
+        }
+        return overlapping;
+    }
+
+    /**
+     * Référence : l'ancien overlapsWithSlot, deux LocalDateTime par jour de la période
+     */
+    private static boolean scan(UnavailabilityPeriod period, LocalDateTime slotStart, LocalDateTime slotEnd) {
+        for (LocalDate date = period.startDate(); !date.isAfter(period.endDate()); date = date.plusDays(1)) {
+            LocalDateTime rangeStart = LocalDateTime.of(date, period.startTime());
+            LocalDateTime rangeEnd = LocalDateTime.of(date, period.endTime());
+            if (!slotEnd.isBefore(rangeStart) && !slotStart.isAfter(rangeEnd)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
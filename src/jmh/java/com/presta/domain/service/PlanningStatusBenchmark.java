@@ -0,0 +1,118 @@
+package com.presta.domain.service;
+
+import com.presta.domain.model.Appointment;
+import com.presta.domain.model.AvailabilityRule;
+import com.presta.domain.model.UnavailabilityRule;
+import com.presta.domain.model.valueobject.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Statuts d'un planning de 90 jours pour un prestataire chargé (user-001) :
+ * index d'intervalles construit une fois contre le parcours de toutes les contraintes à chaque créneau.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.include=PlanningStatusBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PlanningStatusBenchmark {
+
+    @Param({"200", "2000", "5000"})
+    private int appointmentCount;
+
+    private final ContractorScheduleService service = new ContractorScheduleService();
+    private final UUID contractorId = UUID.randomUUID();
+
+    private AvailabilityRule rule;
+    private List<UnavailabilityRule> unavailabilities;
+    private List<Appointment> appointments;
+    private LocalDate start;
+    private LocalDate end;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7);
+        start = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        end = start.plusDays(90);
+        rule = new AvailabilityRule(
+                UUID.randomUUID(),
+                contractorId,
+                EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY),
+                new TimeRange(LocalTime.of(8, 0), LocalTime.of(18, 0)),
+                new SlotConfiguration(15, 0),
+                List.of(),
+                true
+        );
+
+        appointments = new ArrayList<>();
+        for (int i = 0; i < appointmentCount; i++) {
+            LocalDateTime startTime = start.plusDays(random.nextInt(90))
+                    .atTime(8 + random.nextInt(10), random.nextInt(4) * 15);
+            AppointmentStatus status = AppointmentStatus.values()[random.nextInt(AppointmentStatus.values().length)];
+            appointments.add(new Appointment(
+                    UUID.randomUUID(),
+                    UUID.randomUUID(),
+                    contractorId,
+                    new TimeSlot(startTime, 15 + random.nextInt(4) * 15),
+                    status,
+                    new AppointmentDetails("Benchmark", ""),
+                    LocalDateTime.now(),
+                    LocalDateTime.now()
+            ));
+        }
+
+        unavailabilities = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            LocalDate day = start.plusDays(random.nextInt(90));
+            unavailabilities.add(i % 2 == 0
+                    ? UnavailabilityRule.createSingleDay(UUID.randomUUID(), contractorId, day, "Congé")
+                    : UnavailabilityRule.create(UUID.randomUUID(), contractorId, day, day.plusDays(5),
+                    LocalTime.of(12, 0), LocalTime.of(13, 30), "Pause"));
+        }
+    }
+
+    @Benchmark
+    public int intervalIndex() {
+        int booked = 0;
+        for (AvailableSlot slot : service.generateSlots(contractorId, rule, unavailabilities, appointments, start, end)) {
+            if (slot.status() == AvailabilityStatus.BOOKED) {
+                booked++;
+            }
+        }
+        return booked;
+    }
+
+    /**
+     * Référence : l'ancien determineSlotStatus, qui parcourait indisponibilités puis rendez-vous pour chaque créneau
+     */
+    @Benchmark
+    public int linearScan() {
+        int booked = 0;
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            for (TimeSlot timeSlot : rule.generateSlotsForDay(date)) {
+                if (unavailabilities.stream().anyMatch(u -> u.blocksTimeSlot(timeSlot))) {
+                    continue;
+                }
+                if (appointments.stream().anyMatch(a -> a.getStatus().isActive() && a.getSlot().overlaps(timeSlot))) {
+                    booked++;
+                }
+            }
+        }
+        return booked;
+    }
+}
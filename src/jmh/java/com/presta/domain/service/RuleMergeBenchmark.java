@@ -0,0 +1,95 @@
+package com.presta.domain.service;
+
+import com.presta.domain.model.AvailabilityRule;
+import com.presta.domain.model.valueobject.SlotConfiguration;
+import com.presta.domain.model.valueobject.TimeRange;
+import com.presta.domain.model.valueobject.TimeSlot;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Planning de 12 semaines à partir de plusieurs règles qui se chevauchent (user-006) :
+ * k-way merge des gabarits par jour de la semaine contre concaténation, tri et dédoublonnage jour par jour.
+ * La référence ne calcule pas les statuts, elle minore donc le coût de l'ancienne approche.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.include=RuleMergeBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RuleMergeBenchmark {
+
+    @Param({"2", "12", "24"})
+    private int ruleCount;
+
+    private final ContractorScheduleService service = new ContractorScheduleService();
+    private final UUID contractorId = UUID.randomUUID();
+
+    private List<AvailabilityRule> rules;
+    private LocalDate start;
+    private LocalDate end;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7);
+        rules = new ArrayList<>();
+        for (int i = 0; i < ruleCount; i++) {
+            EnumSet<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+            for (DayOfWeek day : DayOfWeek.values()) {
+                if (random.nextBoolean()) {
+                    days.add(day);
+                }
+            }
+            if (days.isEmpty()) {
+                days.add(DayOfWeek.MONDAY);
+            }
+            int startHour = 7 + random.nextInt(5);
+            rules.add(new AvailabilityRule(
+                    UUID.randomUUID(),
+                    contractorId,
+                    days,
+                    new TimeRange(LocalTime.of(startHour, 0), LocalTime.of(startHour + 4 + random.nextInt(5), 0)),
+                    new SlotConfiguration(15 * (1 + random.nextInt(4)), 5 * random.nextInt(3)),
+                    List.of(),
+                    true
+            ));
+        }
+        start = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        end = start.plusWeeks(12);
+    }
+
+    @Benchmark
+    public int kWayMerge() {
+        return service.generatePlanning(contractorId, rules, List.of(), List.of(), start, end).metadata().totalSlots();
+    }
+
+    @Benchmark
+    public int concatSortDistinct() {
+        int total = 0;
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            List<TimeSlot> daySlots = new ArrayList<>();
+            for (AvailabilityRule rule : rules) {
+                daySlots.addAll(rule.generateSlotsForDay(date));
+            }
+            total += (int) daySlots.stream()
+                    .distinct()
+                    .sorted(Comparator.comparing(TimeSlot::startDateTime).thenComparingInt(TimeSlot::duration))
+                    .count();
+        }
+        return total;
+    }
+}
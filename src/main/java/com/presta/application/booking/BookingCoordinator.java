@@ -0,0 +1,93 @@
+package com.presta.application.booking;
+
+import com.presta.domain.exception.AppointmentConflictException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Sérialise, au sein d'une instance, les réservations d'un même contractor.
+ *
+ * Chaque contractor est associé à l'un des verrous d'un tableau fixe (lock striping) : deux réservations
+ * pour le même contractor passent l'une après l'autre, celles de contractors différents avancent en parallèle
+ * (sauf collision de bande, rare avec assez de bandes). Les ReentrantLock n'épinglent pas les threads virtuels.
+ *
+ * La contrainte d'exclusion reste la garantie entre instances : le verrou évite seulement
+ * qu'une rafale sur un même contractor ne se transforme en conflits d'insertion en base.
+ */
+@Component
+public class BookingCoordinator {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+    private final long timeoutNanos;
+
+    public BookingCoordinator(
+            @Value("${presta.booking.lock-stripes:256}") int stripeCount,
+            @Value("${presta.booking.lock-timeout:PT5S}") Duration timeout) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("Le nombre de verrous doit être positif");
+        }
+
+        // Puissance de 2 pour choisir la bande par masque
+        int size = Integer.highestOneBit(stripeCount);
+        if (size < stripeCount) {
+            size <<= 1;
+        }
+
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    /**
+     * Exécute action en exclusion mutuelle avec les autres réservations du contractor.
+     * L'action doit englober la transaction pour que le verrou soit relâché après le commit.
+     */
+    public <T> T execute(UUID contractorId, Supplier<T> action) {
+        ReentrantLock lock = stripes[stripeOf(contractorId)];
+
+        boolean acquired;
+        try {
+            acquired = lock.tryLock(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw busy();
+        }
+        if (!acquired) {
+            throw busy();
+        }
+
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int stripeOf(UUID contractorId) {
+        long bits = contractorId.getMostSignificantBits() ^ contractorId.getLeastSignificantBits();
+        int hash = (int) (bits ^ (bits >>> 32));
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    int stripeCount() {
+        return stripes.length;
+    }
+
+    private static AppointmentConflictException busy() {
+        return new AppointmentConflictException(
+                "Trop de réservations simultanées pour ce prestataire, veuillez réessayer",
+                "BUSY",
+                503
+        );
+    }
+}
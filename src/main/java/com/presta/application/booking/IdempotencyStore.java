@@ -0,0 +1,88 @@
+package com.presta.application.booking;
+
+import com.presta.domain.model.Appointment;
+import com.presta.domain.port.AppointmentRepositoryPort;
+import com.presta.domain.port.IdempotencyKeyPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Réponses des réservations faites avec un en-tête Idempotency-Key, par client.
+ *
+ * Un cache LRU borné, avec expiration, sert les relances sans toucher la base ;
+ * la table idempotency_key prend le relais après éviction ou sur une autre instance.
+ * La clé est écrite dans la transaction de la réservation ({@link #record}),
+ * la réponse n'entre dans le cache qu'après commit ({@link #cache}).
+ */
+@Component
+public class IdempotencyStore {
+
+    private final IdempotencyKeyPort idempotencyKeyPort;
+    private final AppointmentRepositoryPort appointmentRepositoryPort;
+    private final Map<Key, Entry> entries;
+    private final Duration ttl;
+
+    public IdempotencyStore(
+            IdempotencyKeyPort idempotencyKeyPort,
+            AppointmentRepositoryPort appointmentRepositoryPort,
+            @Value("${presta.idempotency.max-entries:10000}") int maxEntries,
+            @Value("${presta.idempotency.ttl:PT24H}") Duration ttl) {
+        this.idempotencyKeyPort = idempotencyKeyPort;
+        this.appointmentRepositoryPort = appointmentRepositoryPort;
+        this.ttl = ttl;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * Rendez-vous déjà créé avec cette clé : depuis le cache, sinon depuis la base
+     */
+    public Optional<Appointment> find(UUID clientId, String idempotencyKey) {
+        Key key = new Key(clientId, idempotencyKey);
+        long now = System.currentTimeMillis();
+
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (now - entry.storedAtMillis() <= ttl.toMillis()) {
+                return Optional.of(entry.appointment());
+            }
+            entries.remove(key);
+        }
+
+        Optional<Appointment> stored = idempotencyKeyPort
+                .findAppointmentId(clientId, idempotencyKey, LocalDateTime.now().minus(ttl))
+                .flatMap(appointmentRepositoryPort::findById);
+        stored.ifPresent(appointment -> entries.put(key, new Entry(appointment, now)));
+        return stored;
+    }
+
+    /**
+     * Enregistre la clé en base, dans la transaction qui crée le rendez-vous
+     */
+    public void record(UUID clientId, String idempotencyKey, UUID appointmentId) {
+        idempotencyKeyPort.save(clientId, idempotencyKey, appointmentId);
+    }
+
+    /**
+     * Met la réponse en cache, une fois la transaction validée
+     */
+    public void cache(UUID clientId, String idempotencyKey, Appointment appointment) {
+        entries.put(new Key(clientId, idempotencyKey), new Entry(appointment, System.currentTimeMillis()));
+    }
+
+    private record Key(UUID clientId, String idempotencyKey) {}
+
+    private record Entry(Appointment appointment, long storedAtMillis) {}
+}
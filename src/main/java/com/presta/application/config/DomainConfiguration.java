@@ -3,7 +3,9 @@ package com.presta.application.config;
 
 import com.presta.domain.service.AppointmentDomainService;
 import com.presta.domain.service.ContractorScheduleService;
+import com.presta.application.snapshot.PlanningSnapshotStore;
 import com.presta.application.usecases.SchedulingUseCase;
+import com.presta.domain.port.AppointmentRepositoryPort;
 import com.presta.domain.port.UserProfilePort;
 import com.presta.domain.port.UserRepositoryPort;
 import com.presta.domain.port.UserSyncPort;
@@ -13,7 +15,6 @@ import com.presta.infrastructure.persistence.adapters.UserRepositoryAdapter;
 import com.presta.infrastructure.persistence.adapters.UnavailabilityRepositoryAdapter;
 import com.presta.infrastructure.persistence.mapper.AvailabilityRuleMapper;
 import com.presta.infrastructure.persistence.mapper.UnavailabilityRuleMapper;
-import com.presta.infrastructure.persistence.repositories.JpaAppointmentRepository;
 import com.presta.infrastructure.persistence.repositories.JpaAvailabilityRuleRepository;
 import com.presta.infrastructure.persistence.repositories.JpaContractorRepository;
 import org.springframework.context.annotation.Bean;
@@ -39,25 +40,27 @@ public class DomainConfiguration {
 
    @Bean
     public SchedulingUseCase schedulingUseCase(
-            JpaAppointmentRepository jpaAppointmentRepository,
+            AppointmentRepositoryPort appointmentRepositoryPort,
             JpaAvailabilityRuleRepository jpaAvailabilityRuleRepository,
             UnavailabilityRepositoryAdapter unavailabilityRepositoryAdapter,
             UnavailabilityRuleMapper unavailabilityRuleMapper,
             JpaContractorRepository jpaContractorRepository,
             ContractorScheduleService contractorScheduleService,
             AvailabilityRuleMapper availabilityRuleMapper,
-            UserRepositoryAdapter userRepositoryAdapter
+            UserRepositoryAdapter userRepositoryAdapter,
+            PlanningSnapshotStore planningSnapshotStore
     ) {
 
         return new  SchedulingUseCase(
-                 jpaAppointmentRepository,
+                 appointmentRepositoryPort,
                  jpaAvailabilityRuleRepository,
                 unavailabilityRepositoryAdapter,
                  jpaContractorRepository,
                  contractorScheduleService,
                  availabilityRuleMapper,
                  userRepositoryAdapter,
-                unavailabilityRuleMapper) ;
+                unavailabilityRuleMapper,
+                planningSnapshotStore) ;
 
     }
 
@@ -0,0 +1,30 @@
+package com.presta.application.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.presta.infrastructure.web.dtos.planning.CompactPlanningDto;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+
+/**
+ * Format binaire du planning compact : CBOR, négocié via l'en-tête Accept.
+ * Le mapper reprend la configuration Jackson de l'application (dates ISO, Optional...).
+ */
+@Configuration
+public class PlanningFormatConfiguration {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        MappingJackson2CborHttpMessageConverter converter =
+                new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+        converter.setSupportedMediaTypes(List.of(
+                MediaType.APPLICATION_CBOR,
+                MediaType.parseMediaType(CompactPlanningDto.MEDIA_TYPE_CBOR)
+        ));
+        return converter;
+    }
+}
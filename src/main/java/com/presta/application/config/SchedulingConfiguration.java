@@ -0,0 +1,12 @@
+package com.presta.application.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Tâches de fond planifiées (dispatcher de l'outbox)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
@@ -0,0 +1,140 @@
+package com.presta.application.outbox;
+
+import com.presta.domain.model.AppointmentEvent;
+import com.presta.domain.port.AppointmentEventHandler;
+import com.presta.domain.port.OutboxPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Livre en arrière-plan les événements de l'outbox aux {@link AppointmentEventHandler}.
+ *
+ * Les événements sont réservés par lots (bail en base, donc sûr à plusieurs instances), puis livrés
+ * sur des threads virtuels : un thread par rendez-vous, qui traite ses événements dans l'ordre.
+ * La réservation écarte tout événement dont un précédent du même rendez-vous n'est pas encore traité :
+ * l'ordre par rendez-vous tient aussi entre lots et entre instances, et un lot ne porte plusieurs événements
+ * d'un même rendez-vous que s'ils ont le même occurredAt (écrits ensemble).
+ * Un échec repousse l'événement, et ceux du lot qui le suivent pour ce rendez-vous, avec un délai exponentiel ;
+ * au-delà de maxAttempts livraisons, l'événement est abandonné avec sa dernière erreur.
+ */
+@Component
+public class OutboxDispatcher {
+
+    private final OutboxPort outboxPort;
+    private final List<AppointmentEventHandler> handlers;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+    private final Duration retention;
+
+    public OutboxDispatcher(
+            OutboxPort outboxPort,
+            List<AppointmentEventHandler> handlers,
+            @Value("${presta.outbox.batch-size:100}") int batchSize,
+            @Value("${presta.outbox.lease:PT1M}") Duration lease,
+            @Value("${presta.outbox.initial-backoff:PT5S}") Duration initialBackoff,
+            @Value("${presta.outbox.max-backoff:PT1H}") Duration maxBackoff,
+            @Value("${presta.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${presta.outbox.retention:P7D}") Duration retention) {
+        this.outboxPort = outboxPort;
+        this.handlers = List.copyOf(handlers);
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.maxAttempts = maxAttempts;
+        this.retention = retention;
+    }
+
+    /**
+     * Vide l'outbox lot par lot, jusqu'à un lot incomplet
+     * @return le nombre d'événements réservés
+     */
+    @Scheduled(fixedDelayString = "${presta.outbox.poll-interval:PT1S}")
+    public int dispatchPending() {
+        int claimed = 0;
+        List<AppointmentEvent> batch;
+        do {
+            batch = outboxPort.claim(batchSize, lease);
+            dispatch(batch);
+            claimed += batch.size();
+        } while (batch.size() == batchSize);
+        return claimed;
+    }
+
+    @Scheduled(fixedDelayString = "${presta.outbox.purge-interval:PT1H}")
+    public void purgeProcessed() {
+        outboxPort.purgeProcessedBefore(LocalDateTime.now().minus(retention));
+    }
+
+    private void dispatch(List<AppointmentEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, List<AppointmentEvent>> byAppointment = new LinkedHashMap<>();
+        batch.stream()
+                .sorted(Comparator.comparing(AppointmentEvent::occurredAt))
+                .forEach(event -> byAppointment.computeIfAbsent(event.appointmentId(), id -> new ArrayList<>()).add(event));
+
+        ConcurrentLinkedQueue<UUID> processed = new ConcurrentLinkedQueue<>();
+        // La fermeture de l'executor attend la fin de toutes les livraisons du lot
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (List<AppointmentEvent> events : byAppointment.values()) {
+                executor.execute(() -> deliverInOrder(events, processed));
+            }
+        }
+        outboxPort.markProcessed(processed);
+    }
+
+    private void deliverInOrder(List<AppointmentEvent> events, ConcurrentLinkedQueue<UUID> processed) {
+        for (int i = 0; i < events.size(); i++) {
+            AppointmentEvent event = events.get(i);
+            try {
+                for (AppointmentEventHandler handler : handlers) {
+                    handler.handle(event);
+                }
+                processed.add(event.id());
+            } catch (RuntimeException e) {
+                String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+                if (event.attempts() >= maxAttempts) {
+                    outboxPort.markAbandoned(event.id(), error);
+                    continue;
+                }
+
+                // Seuls des événements de même occurredAt peuvent le suivre dans le lot (la réservation retient
+                // les postérieurs) : ils attendent sa livraison
+                LocalDateTime retryAt = LocalDateTime.now().plus(backoff(event.attempts()));
+                outboxPort.markFailed(event.id(), retryAt, error);
+                for (AppointmentEvent next : events.subList(i + 1, events.size())) {
+                    outboxPort.markFailed(next.id(), retryAt.plusNanos(1_000), "En attente de l'événement " + event.id());
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * initialBackoff doublé à chaque livraison ratée, plafonné à maxBackoff
+     */
+    Duration backoff(int attempts) {
+        int doublings = Math.min(Math.max(attempts - 1, 0), 30);
+        Duration delay = initialBackoff.multipliedBy(1L << doublings);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
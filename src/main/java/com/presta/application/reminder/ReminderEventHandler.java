@@ -0,0 +1,27 @@
+package com.presta.application.reminder;
+
+import com.presta.domain.model.AppointmentEvent;
+import com.presta.domain.model.valueobject.AppointmentEventType;
+import com.presta.domain.port.AppointmentEventHandler;
+import com.presta.domain.port.ReminderSender;
+import org.springframework.stereotype.Component;
+
+/**
+ * Transmet les événements REMINDER_DUE de l'outbox au {@link ReminderSender}
+ */
+@Component
+public class ReminderEventHandler implements AppointmentEventHandler {
+
+    private final ReminderSender reminderSender;
+
+    public ReminderEventHandler(ReminderSender reminderSender) {
+        this.reminderSender = reminderSender;
+    }
+
+    @Override
+    public void handle(AppointmentEvent event) {
+        if (event.type() == AppointmentEventType.REMINDER_DUE) {
+            reminderSender.sendReminder(event);
+        }
+    }
+}
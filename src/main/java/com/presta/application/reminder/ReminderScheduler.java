@@ -0,0 +1,76 @@
+package com.presta.application.reminder;
+
+import com.presta.domain.model.Appointment;
+import com.presta.domain.port.AppointmentRepositoryPort;
+import com.presta.domain.service.AppointmentDomainService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Programme les rappels des rendez-vous confirmés qui entrent dans la fenêtre de
+ * {@link AppointmentDomainService#shouldSendReminder}.
+ *
+ * Chaque passage parcourt, page par page, l'index partiel des rendez-vous confirmés sans rappel,
+ * restreint à la fenêtre : un rendez-vous marqué en sort, si bien qu'un passage ne lit que les
+ * rendez-vous entrés dans la fenêtre depuis le précédent. Le marquage et l'événement REMINDER_DUE
+ * sont écrits ensemble ; l'envoi est fait par l'outbox, avec ses nouvelles tentatives.
+ */
+@Component
+public class ReminderScheduler {
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final AppointmentRepositoryPort appointmentRepositoryPort;
+    private final AppointmentDomainService appointmentDomainService;
+    private final int pageSize;
+
+    public ReminderScheduler(
+            AppointmentRepositoryPort appointmentRepositoryPort,
+            AppointmentDomainService appointmentDomainService,
+            @Value("${presta.reminder.page-size:500}") int pageSize) {
+        this.appointmentRepositoryPort = appointmentRepositoryPort;
+        this.appointmentDomainService = appointmentDomainService;
+        this.pageSize = pageSize;
+    }
+
+    @Scheduled(fixedDelayString = "${presta.reminder.interval:PT1M}")
+    public int scheduleDueReminders() {
+        return scheduleDueReminders(LocalDateTime.now());
+    }
+
+    /**
+     * @return le nombre de rappels programmés par ce passage
+     */
+    public int scheduleDueReminders(LocalDateTime now) {
+        LocalDateTime windowStart = appointmentDomainService.reminderWindowStart(now);
+        LocalDateTime windowEnd = appointmentDomainService.reminderWindowEnd(now);
+
+        int scheduled = 0;
+        LocalDateTime afterDateTime = windowStart;
+        UUID afterId = FIRST_ID;
+        List<Appointment> page;
+        do {
+            page = appointmentRepositoryPort.findReminderCandidates(windowStart, windowEnd, afterDateTime, afterId, pageSize);
+            if (page.isEmpty()) {
+                break;
+            }
+
+            List<UUID> due = page.stream()
+                    .filter(appointment -> appointmentDomainService.shouldSendReminder(appointment, now))
+                    .map(Appointment::getId)
+                    .toList();
+            scheduled += appointmentRepositoryPort.markRemindersDue(due, now);
+
+            Appointment last = page.get(page.size() - 1);
+            afterDateTime = last.getAppointmentDateTime();
+            afterId = last.getId();
+        } while (page.size() == pageSize);
+
+        return scheduled;
+    }
+}
@@ -0,0 +1,223 @@
+package com.presta.application.search;
+
+import com.presta.domain.exception.AssignmentNotFoundException;
+import com.presta.domain.model.AvailabilityRule;
+import com.presta.domain.model.ContractorSlot;
+import com.presta.domain.model.EarliestSlots;
+import com.presta.domain.model.ScheduleConstraints;
+import com.presta.domain.port.AppointmentRepositoryPort;
+import com.presta.domain.port.AssignmentPort;
+import com.presta.domain.port.AvailabilityRuleRepositoryPort;
+import com.presta.domain.port.UnavailabilityRuleRepositoryPort;
+import com.presta.domain.service.AvailabilityIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Recherche des créneaux libres les plus proches parmi tous les contractors d'une catégorie (assignment).
+ *
+ * Les règles de tous les candidats sont lues en une requête, ce qui écarte d'emblée ceux sans règle active.
+ * Les contraintes de chaque candidat (indisponibilités, créneaux réservés) sont ensuite chargées en parallèle
+ * sur des threads virtuels, au plus maxConcurrency à la fois et dans un budget de temps : un candidat
+ * encore en cours de chargement à l'échéance est ignoré et compté comme tel dans le résultat.
+ * Un chargement en erreur est compté à part et journalisé avec sa cause, pour ne pas passer pour une lenteur.
+ *
+ * Le premier créneau libre de chaque candidat entre dans un tas trié par début (k-way merge) :
+ * seul le candidat extrait avance jusqu'à son créneau suivant, et la fusion s'arrête dès que
+ * limit créneaux sont sortis, sans jamais générer les plannings complets.
+ */
+@Component
+public class EarliestSlotSearch {
+
+    private static final Logger log = LoggerFactory.getLogger(EarliestSlotSearch.class);
+
+    // Durée maximale d'un rendez-vous (contrainte check_appointment_duration)
+    private static final int MAX_APPOINTMENT_DURATION_MINUTES = 480;
+
+    private static final Comparator<Head> EARLIEST_FIRST = Comparator
+            .comparing(Head::start)
+            .thenComparing(Head::contractorId);
+
+    private final AssignmentPort assignmentPort;
+    private final AvailabilityRuleRepositoryPort availabilityRuleRepositoryPort;
+    private final UnavailabilityRuleRepositoryPort unavailabilityRuleRepositoryPort;
+    private final AppointmentRepositoryPort appointmentRepositoryPort;
+    private final int maxConcurrency;
+    private final Duration timeout;
+    private final int horizonDays;
+    private final int maxResults;
+
+    public EarliestSlotSearch(
+            AssignmentPort assignmentPort,
+            AvailabilityRuleRepositoryPort availabilityRuleRepositoryPort,
+            UnavailabilityRuleRepositoryPort unavailabilityRuleRepositoryPort,
+            AppointmentRepositoryPort appointmentRepositoryPort,
+            @Value("${presta.search.max-concurrency:16}") int maxConcurrency,
+            @Value("${presta.search.timeout:PT2S}") Duration timeout,
+            @Value("${presta.search.horizon-days:30}") int horizonDays,
+            @Value("${presta.search.max-results:50}") int maxResults) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Le nombre de chargements simultanés doit être positif");
+        }
+        this.assignmentPort = assignmentPort;
+        this.availabilityRuleRepositoryPort = availabilityRuleRepositoryPort;
+        this.unavailabilityRuleRepositoryPort = unavailabilityRuleRepositoryPort;
+        this.appointmentRepositoryPort = appointmentRepositoryPort;
+        this.maxConcurrency = maxConcurrency;
+        this.timeout = timeout;
+        this.horizonDays = horizonDays;
+        this.maxResults = maxResults;
+    }
+
+    /**
+     * Les limit créneaux libres de duration minutes les plus proches, tous contractors de la catégorie confondus,
+     * à partir de from (ou de maintenant s'il est passé) et sur horizonDays jours
+     */
+    public EarliestSlots findEarliest(UUID assignmentId, int duration, LocalDateTime from, int limit) {
+        if (duration <= 0) {
+            throw new IllegalArgumentException("La durée doit être positive");
+        }
+        if (limit <= 0 || limit > maxResults) {
+            throw new IllegalArgumentException("Le nombre de créneaux doit être compris entre 1 et " + maxResults);
+        }
+        if (!assignmentPort.exists(assignmentId)) {
+            throw new AssignmentNotFoundException(assignmentId);
+        }
+
+        List<UUID> contractorIds = assignmentPort.findActiveContractorIds(assignmentId);
+        if (contractorIds.isEmpty()) {
+            return EarliestSlots.none();
+        }
+
+        Map<UUID, List<AvailabilityRule>> rulesByContractor = new LinkedHashMap<>();
+        for (AvailabilityRule rule : availabilityRuleRepositoryPort.findActiveByContractorIds(contractorIds)) {
+            rulesByContractor.computeIfAbsent(rule.getContractorId(), id -> new ArrayList<>()).add(rule);
+        }
+        if (rulesByContractor.isEmpty()) {
+            return EarliestSlots.none();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime start = from != null && from.isAfter(now) ? from : now;
+        LocalDate endDate = start.toLocalDate().plusDays(horizonDays);
+
+        PriorityQueue<Head> heads = new PriorityQueue<>(rulesByContractor.size(), EARLIEST_FIRST);
+        LoadOutcome outcome = loadHeads(rulesByContractor, start, endDate, duration, heads);
+
+        List<ContractorSlot> slots = new ArrayList<>(limit);
+        while (slots.size() < limit && !heads.isEmpty()) {
+            Head head = heads.poll();
+            slots.add(new ContractorSlot(head.contractorId(), head.start(), duration));
+
+            head.index().findNextAvailable(head.start().plusSeconds(1), endDate, duration)
+                    .ifPresent(next -> heads.add(new Head(head.contractorId(), head.index(), next)));
+        }
+
+        return new EarliestSlots(slots, rulesByContractor.size(), outcome.timedOut(), outcome.failed());
+    }
+
+    /**
+     * Charge en parallèle l'index de chaque candidat et place son premier créneau libre dans le tas
+     * @return le nombre de candidats ignorés, à l'échéance et en erreur
+     */
+    private LoadOutcome loadHeads(
+            Map<UUID, List<AvailabilityRule>> rulesByContractor,
+            LocalDateTime start,
+            LocalDate endDate,
+            int duration,
+            PriorityQueue<Head> heads) {
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Semaphore permits = new Semaphore(maxConcurrency);
+        Map<UUID, Future<Head>> futures = new LinkedHashMap<>();
+        int timedOut = 0;
+        int failed = 0;
+
+        // Pas de try-with-resources : close() attendrait les chargements en retard au-delà du budget
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            rulesByContractor.forEach((contractorId, rules) -> futures.put(contractorId, executor.submit(() -> {
+                permits.acquire();
+                try {
+                    return loadHead(contractorId, rules, start, endDate, duration);
+                } finally {
+                    permits.release();
+                }
+            })));
+
+            for (Map.Entry<UUID, Future<Head>> entry : futures.entrySet()) {
+                try {
+                    Head head = entry.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    if (head != null) {
+                        heads.add(head);
+                    }
+                } catch (TimeoutException e) {
+                    timedOut++;
+                } catch (ExecutionException e) {
+                    log.warn("Chargement des contraintes du contractor {} en échec", entry.getKey(), e.getCause());
+                    failed++;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    timedOut++;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return new LoadOutcome(timedOut, failed);
+    }
+
+    /**
+     * Premier créneau libre du candidat, null s'il n'en a aucun sur l'horizon
+     */
+    private Head loadHead(
+            UUID contractorId,
+            List<AvailabilityRule> rules,
+            LocalDateTime start,
+            LocalDate endDate,
+            int duration) {
+
+        LocalDate startDate = start.toLocalDate();
+        ScheduleConstraints constraints = new ScheduleConstraints(
+                unavailabilityRuleRepositoryPort.findByContractorIdAndDateRange(contractorId, startDate, endDate),
+                // Un rendez-vous commencé la veille peut encore bloquer les premiers créneaux
+                appointmentRepositoryPort.findActiveSlotsByContractorIdAndPeriod(
+                        contractorId,
+                        startDate.atStartOfDay().minusMinutes(MAX_APPOINTMENT_DURATION_MINUTES),
+                        endDate.plusDays(1).atStartOfDay()
+                )
+        );
+
+        AvailabilityIndex index = AvailabilityIndex.of(rules, constraints, startDate, endDate);
+        return index.findNextAvailable(start, endDate, duration)
+                .map(first -> new Head(contractorId, index, first))
+                .orElse(null);
+    }
+
+    /**
+     * Prochain créneau libre d'un candidat ; l'index n'est lu que par le thread de fusion une fois chargé
+     */
+    private record Head(UUID contractorId, AvailabilityIndex index, LocalDateTime start) {}
+
+    private record LoadOutcome(int timedOut, int failed) {}
+}
@@ -0,0 +1,33 @@
+package com.presta.application.search;
+
+import com.presta.domain.model.AppointmentEvent;
+import com.presta.domain.port.AppointmentEventHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recalcule dans l'index des créneaux libres les jours touchés par une réservation, une annulation ou une fin.
+ * Terminer un rendez-vous en cours libère le reste de son créneau (il ne compte plus parmi les rendez-vous actifs).
+ */
+@Component
+public class FreeSlotIndexEventHandler implements AppointmentEventHandler {
+
+    private final FreeSlotIndexer freeSlotIndexer;
+
+    public FreeSlotIndexEventHandler(FreeSlotIndexer freeSlotIndexer) {
+        this.freeSlotIndexer = freeSlotIndexer;
+    }
+
+    @Override
+    public void handle(AppointmentEvent event) {
+        switch (event.type()) {
+            case BOOKED, CANCELLED, COMPLETED -> freeSlotIndexer.refresh(
+                    event.contractorId(),
+                    event.appointmentDateTime().toLocalDate(),
+                    event.appointmentDateTime().plusMinutes(event.duration()).toLocalDate()
+            );
+            default -> {
+                // Confirmation ou rappel : les créneaux occupés ne changent pas
+            }
+        }
+    }
+}
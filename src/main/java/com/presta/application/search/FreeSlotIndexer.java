@@ -0,0 +1,145 @@
+package com.presta.application.search;
+
+import com.presta.domain.model.AvailabilityRule;
+import com.presta.domain.model.ContractorSlot;
+import com.presta.domain.model.ScheduleConstraints;
+import com.presta.domain.model.valueobject.AvailabilityStatus;
+import com.presta.domain.port.AppointmentRepositoryPort;
+import com.presta.domain.port.AvailabilityRuleRepositoryPort;
+import com.presta.domain.port.FreeSlotIndexPort;
+import com.presta.domain.port.UnavailabilityRuleRepositoryPort;
+import com.presta.domain.service.ContractorScheduleService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Tient à jour la table des créneaux libres (contractor_free_slot) sur un horizon glissant de horizonDays jours.
+ *
+ * Les jours d'un contractor sont recalculés avec le même moteur que le planning, puis remplacés par un
+ * insert JDBC par lots, dans une transaction qui verrouille d'abord le contractor : les lectures et
+ * l'écriture d'un rafraîchissement ne s'entrelacent pas avec celles d'un autre. Les réservations et annulations arrivent par l'outbox, les
+ * modifications de règles et d'indisponibilités par leurs contrôleurs ; un passage périodique purge les
+ * jours échus et indexe les jours entrés dans l'horizon, ainsi que les contractors jamais indexés.
+ * L'index est donc à terme cohérent : la réservation reste validée contre les règles et la base.
+ */
+@Component
+public class FreeSlotIndexer {
+
+    // Durée maximale d'un rendez-vous (contrainte check_appointment_duration)
+    private static final int MAX_APPOINTMENT_DURATION_MINUTES = 480;
+
+    private final FreeSlotIndexPort freeSlotIndexPort;
+    private final AvailabilityRuleRepositoryPort availabilityRuleRepositoryPort;
+    private final UnavailabilityRuleRepositoryPort unavailabilityRuleRepositoryPort;
+    private final AppointmentRepositoryPort appointmentRepositoryPort;
+    private final ContractorScheduleService contractorScheduleService;
+    private final TransactionTemplate transactionTemplate;
+    private final int horizonDays;
+    private final int batchSize;
+
+    public FreeSlotIndexer(
+            FreeSlotIndexPort freeSlotIndexPort,
+            AvailabilityRuleRepositoryPort availabilityRuleRepositoryPort,
+            UnavailabilityRuleRepositoryPort unavailabilityRuleRepositoryPort,
+            AppointmentRepositoryPort appointmentRepositoryPort,
+            ContractorScheduleService contractorScheduleService,
+            TransactionTemplate transactionTemplate,
+            @Value("${presta.free-slot.horizon-days:30}") int horizonDays,
+            @Value("${presta.free-slot.batch-size:200}") int batchSize) {
+        this.freeSlotIndexPort = freeSlotIndexPort;
+        this.availabilityRuleRepositoryPort = availabilityRuleRepositoryPort;
+        this.unavailabilityRuleRepositoryPort = unavailabilityRuleRepositoryPort;
+        this.appointmentRepositoryPort = appointmentRepositoryPort;
+        this.contractorScheduleService = contractorScheduleService;
+        this.transactionTemplate = transactionTemplate;
+        this.horizonDays = horizonDays;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Recalcule les jours de [fromDate, toDate] du contractor, ramenés à l'horizon
+     */
+    public void refresh(UUID contractorId, LocalDate fromDate, LocalDate toDate) {
+        LocalDate today = LocalDate.now();
+        LocalDate from = fromDate.isBefore(today) ? today : fromDate;
+        LocalDate horizonEnd = today.plusDays(horizonDays);
+        LocalDate to = toDate.isAfter(horizonEnd) ? horizonEnd : toDate;
+        if (from.isAfter(to)) {
+            return;
+        }
+
+        // Lire après avoir pris le verrou : le dernier rafraîchissement écrit voit la dernière modification
+        transactionTemplate.executeWithoutResult(status -> {
+            freeSlotIndexPort.lockContractor(contractorId);
+            freeSlotIndexPort.replaceFreeSlots(contractorId, from, to, computeFreeSlots(contractorId, from, to));
+        });
+    }
+
+    /**
+     * Recalcule tout l'horizon du contractor (ex : après une modification de ses règles)
+     */
+    public void refreshContractor(UUID contractorId) {
+        LocalDate today = LocalDate.now();
+        refresh(contractorId, today, today.plusDays(horizonDays));
+    }
+
+    /**
+     * Purge les jours échus puis étend l'horizon des contractors en retard
+     * @return le nombre de contractors rafraîchis
+     */
+    @Scheduled(fixedDelayString = "${presta.free-slot.roll-interval:PT1H}")
+    public int roll() {
+        LocalDate today = LocalDate.now();
+        LocalDate horizonEnd = today.plusDays(horizonDays);
+        freeSlotIndexPort.purgeBefore(today);
+
+        int refreshed = 0;
+        UUID afterId = new UUID(0L, 0L);
+        List<FreeSlotIndexPort.Horizon> page;
+        do {
+            page = freeSlotIndexPort.findHorizonsBefore(horizonEnd, afterId, batchSize);
+            for (FreeSlotIndexPort.Horizon horizon : page) {
+                // Seuls les jours pas encore indexés : les autres sont tenus à jour par les événements
+                LocalDate from = horizon.refreshedUntil() != null ? horizon.refreshedUntil().plusDays(1) : today;
+                refresh(horizon.contractorId(), from, horizonEnd);
+                afterId = horizon.contractorId();
+                refreshed++;
+            }
+        } while (page.size() == batchSize);
+        return refreshed;
+    }
+
+    private List<ContractorSlot> computeFreeSlots(UUID contractorId, LocalDate from, LocalDate to) {
+        List<AvailabilityRule> rules = availabilityRuleRepositoryPort.findActiveByContractorIds(List.of(contractorId));
+        if (rules.isEmpty()) {
+            return List.of();
+        }
+
+        ScheduleConstraints constraints = new ScheduleConstraints(
+                unavailabilityRuleRepositoryPort.findByContractorIdAndDateRange(contractorId, from, to),
+                // Un rendez-vous commencé la veille peut encore bloquer les premiers créneaux
+                appointmentRepositoryPort.findActiveSlotsByContractorIdAndPeriod(
+                        contractorId,
+                        from.atStartOfDay().minusMinutes(MAX_APPOINTMENT_DURATION_MINUTES),
+                        to.plusDays(1).atStartOfDay()
+                )
+        );
+
+        List<ContractorSlot> slots = new ArrayList<>();
+        contractorScheduleService.streamSlots(contractorId, rules, constraints, from, to, (start, duration, status) -> {
+            if (status == AvailabilityStatus.AVAILABLE) {
+                slots.add(new ContractorSlot(contractorId, LocalDateTime.ofEpochSecond(start, 0, ZoneOffset.UTC), duration));
+            }
+        });
+        return slots;
+    }
+}
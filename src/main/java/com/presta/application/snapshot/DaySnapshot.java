@@ -0,0 +1,167 @@
+package com.presta.application.snapshot;
+
+import com.presta.domain.model.valueobject.AvailabilityStatus;
+import com.presta.domain.model.valueobject.PlanningMetadata;
+import com.presta.domain.port.ContractorSchedulePort.SlotConsumer;
+import com.presta.domain.service.PlanningMetadataAccumulator;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Statuts figés des créneaux d'une journée pour un contractor (début en secondes depuis minuit,
+ * durée en minutes, statut sur un octet). Immuable : une réservation produit une nouvelle instance.
+ *
+ * Le statut PAST dépend de l'heure de lecture : il est appliqué au rejeu, pas au calcul.
+ */
+public final class DaySnapshot {
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final AvailabilityStatus[] STATUSES = AvailabilityStatus.values();
+
+    private final long epochDay;
+    private final int[] startOffsets;
+    private final short[] durations;
+    private final byte[] statuses;
+    private final long builtAtMillis;
+
+    private DaySnapshot(long epochDay, int[] startOffsets, short[] durations, byte[] statuses, long builtAtMillis) {
+        this.epochDay = epochDay;
+        this.startOffsets = startOffsets;
+        this.durations = durations;
+        this.statuses = statuses;
+        this.builtAtMillis = builtAtMillis;
+    }
+
+    public LocalDate date() {
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    public long epochDay() {
+        return epochDay;
+    }
+
+    public int size() {
+        return startOffsets.length;
+    }
+
+    public long builtAtMillis() {
+        return builtAtMillis;
+    }
+
+    /**
+     * Marque BOOKED les créneaux disponibles qui chevauchent [start, end[ (secondes epoch, fin exclue).
+     * Renvoie la même instance si rien ne change.
+     */
+    public DaySnapshot withBooked(long start, long end) {
+        long midnight = epochDay * SECONDS_PER_DAY;
+        byte available = (byte) AvailabilityStatus.AVAILABLE.ordinal();
+        byte[] updated = null;
+
+        for (int i = 0; i < startOffsets.length; i++) {
+            long slotStart = midnight + startOffsets[i];
+            long slotEnd = slotStart + durations[i] * 60L;
+            if (statuses[i] == available && slotStart < end && slotEnd > start) {
+                if (updated == null) {
+                    updated = statuses.clone();
+                }
+                updated[i] = (byte) AvailabilityStatus.BOOKED.ordinal();
+            }
+        }
+
+        return updated == null
+                ? this
+                : new DaySnapshot(epochDay, startOffsets, durations, updated, builtAtMillis);
+    }
+
+    /**
+     * Rejoue les créneaux de la journée, les créneaux commencés avant pastLimit étant PAST
+     */
+    public void replay(SlotConsumer consumer, long pastLimit) {
+        long midnight = epochDay * SECONDS_PER_DAY;
+        for (int i = 0; i < startOffsets.length; i++) {
+            long start = midnight + startOffsets[i];
+            AvailabilityStatus status = start < pastLimit ? AvailabilityStatus.PAST : STATUSES[statuses[i]];
+            consumer.accept(start, durations[i], status);
+        }
+    }
+
+    /**
+     * Rejoue une suite de journées triées et calcule les métadonnées au passage
+     */
+    public static PlanningMetadata replayAll(List<DaySnapshot> days, SlotConsumer consumer) {
+        PlanningMetadataAccumulator metadata = new PlanningMetadataAccumulator(LocalDateTime.now());
+        long pastLimit = metadata.pastLimit();
+        SlotConsumer both = (start, duration, status) -> {
+            metadata.accept(start, duration, status);
+            consumer.accept(start, duration, status);
+        };
+
+        for (DaySnapshot day : days) {
+            day.replay(both, pastLimit);
+        }
+        return metadata.toMetadata();
+    }
+
+    /**
+     * Regroupe par jour les créneaux générés (dans l'ordre chronologique) sur [from, to].
+     * Les jours sans créneau produisent un instantané vide, pour ne pas être recalculés.
+     */
+    public static final class Collector implements SlotConsumer {
+
+        private final long lastDay;
+        private final long builtAtMillis = System.currentTimeMillis();
+        private final List<DaySnapshot> days = new ArrayList<>();
+
+        private long currentDay;
+        private int size;
+        private int[] startOffsets = new int[32];
+        private short[] durations = new short[32];
+        private byte[] statuses = new byte[32];
+
+        public Collector(LocalDate from, LocalDate to) {
+            this.currentDay = from.toEpochDay();
+            this.lastDay = to.toEpochDay();
+        }
+
+        @Override
+        public void accept(long startEpochSecond, int duration, AvailabilityStatus status) {
+            long day = Math.floorDiv(startEpochSecond, SECONDS_PER_DAY);
+            while (currentDay < day) {
+                closeDay();
+            }
+
+            if (size == startOffsets.length) {
+                startOffsets = Arrays.copyOf(startOffsets, size * 2);
+                durations = Arrays.copyOf(durations, size * 2);
+                statuses = Arrays.copyOf(statuses, size * 2);
+            }
+            startOffsets[size] = (int) (startEpochSecond - day * SECONDS_PER_DAY);
+            durations[size] = (short) duration;
+            statuses[size] = (byte) status.ordinal();
+            size++;
+        }
+
+        public List<DaySnapshot> build() {
+            while (currentDay <= lastDay) {
+                closeDay();
+            }
+            return days;
+        }
+
+        private void closeDay() {
+            days.add(new DaySnapshot(
+                    currentDay,
+                    Arrays.copyOf(startOffsets, size),
+                    Arrays.copyOf(durations, size),
+                    Arrays.copyOf(statuses, size),
+                    builtAtMillis
+            ));
+            size = 0;
+            currentDay++;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.presta.application.snapshot;
+
+import com.presta.domain.model.valueobject.TimeSlot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read model en mémoire des plannings : un instantané de statuts par contractor et par jour.
+ *
+ * Les jours absents (ou trop anciens) sont calculés une seule fois puis servis par simple lecture.
+ * Les écritures le tiennent à jour : une réservation marque ses créneaux BOOKED,
+ * une annulation ou une fin de rendez-vous invalide les jours concernés,
+ * une modification de règle invalide les jours ou le contractor entier.
+ *
+ * Chaque modification incrémente la version du contractor : un calcul commencé avant
+ * n'est pas enregistré, ce qui évite de réinstaller des données lues avant la modification.
+ * Les modifications doivent être signalées après commit.
+ */
+@Component
+public class PlanningSnapshotStore {
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+
+    /**
+     * Calcule les instantanés de tous les jours de [from, to], dans l'ordre
+     */
+    @FunctionalInterface
+    public interface DayLoader {
+        List<DaySnapshot> load(LocalDate from, LocalDate to);
+    }
+
+    private final Map<UUID, ContractorDays> contractors;
+    private final long ttlMillis;
+
+    public PlanningSnapshotStore(
+            @Value("${presta.planning.snapshot.max-contractors:1000}") int maxContractors,
+            @Value("${presta.planning.snapshot.ttl:PT10M}") Duration ttl) {
+        this.ttlMillis = ttl.toMillis();
+        this.contractors = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, ContractorDays> eldest) {
+                return size() > maxContractors;
+            }
+        });
+    }
+
+    /**
+     * Renvoie les instantanés des jours de [startDate, endDate], en ne calculant que les jours manquants
+     */
+    public List<DaySnapshot> getDays(UUID contractorId, LocalDate startDate, LocalDate endDate, DayLoader loader) {
+        if (startDate.isAfter(endDate)) {
+            return List.of();
+        }
+
+        ContractorDays contractor = contractors.computeIfAbsent(contractorId, id -> new ContractorDays());
+        long version = contractor.version;
+        long now = System.currentTimeMillis();
+
+        long first = startDate.toEpochDay();
+        long last = endDate.toEpochDay();
+        DaySnapshot[] result = new DaySnapshot[(int) (last - first + 1)];
+        long firstMissing = Long.MAX_VALUE;
+        long lastMissing = Long.MIN_VALUE;
+
+        for (long day = first; day <= last; day++) {
+            DaySnapshot snapshot = contractor.days.get(day);
+            if (snapshot != null && now - snapshot.builtAtMillis() <= ttlMillis) {
+                result[(int) (day - first)] = snapshot;
+            } else {
+                firstMissing = Math.min(firstMissing, day);
+                lastMissing = day;
+            }
+        }
+
+        if (firstMissing != Long.MAX_VALUE) {
+            List<DaySnapshot> loaded = loader.load(LocalDate.ofEpochDay(firstMissing), LocalDate.ofEpochDay(lastMissing));
+            for (DaySnapshot snapshot : loaded) {
+                result[(int) (snapshot.epochDay() - first)] = snapshot;
+            }
+            contractor.storeIfUnchanged(version, loaded);
+        }
+
+        List<DaySnapshot> days = new ArrayList<>(result.length);
+        Collections.addAll(days, result);
+        return days;
+    }
+
+    /**
+     * Une réservation vient d'être enregistrée : ses créneaux passent BOOKED
+     */
+    public void markBooked(UUID contractorId, TimeSlot slot) {
+        ContractorDays contractor = contractors.get(contractorId);
+        if (contractor == null) {
+            return;
+        }
+
+        long start = slot.startDateTime().toEpochSecond(ZoneOffset.UTC);
+        long end = slot.getEndDateTime().toEpochSecond(ZoneOffset.UTC);
+        synchronized (contractor) {
+            contractor.version++;
+            // Un créneau de la veille peut déborder sur le rendez-vous
+            for (long day = Math.floorDiv(start, SECONDS_PER_DAY) - 1; day <= Math.floorDiv(end, SECONDS_PER_DAY); day++) {
+                contractor.days.computeIfPresent(day, (key, snapshot) -> snapshot.withBooked(start, end));
+            }
+        }
+    }
+
+    /**
+     * Invalide les jours de [from, to] : ils seront recalculés à la prochaine lecture
+     */
+    public void evictDays(UUID contractorId, LocalDate from, LocalDate to) {
+        ContractorDays contractor = contractors.get(contractorId);
+        if (contractor == null) {
+            return;
+        }
+
+        long first = from.toEpochDay();
+        long last = to.toEpochDay();
+        synchronized (contractor) {
+            contractor.version++;
+            contractor.days.keySet().removeIf(day -> day >= first && day <= last);
+        }
+    }
+
+    /**
+     * Invalide tout le planning du contractor (ex : règle de disponibilité modifiée)
+     */
+    public void evictContractor(UUID contractorId) {
+        ContractorDays contractor = contractors.remove(contractorId);
+        if (contractor != null) {
+            synchronized (contractor) {
+                contractor.version++;
+            }
+        }
+    }
+
+    private static final class ContractorDays {
+
+        private final Map<Long, DaySnapshot> days = new ConcurrentHashMap<>();
+        private volatile long version;
+
+        private synchronized void storeIfUnchanged(long expectedVersion, List<DaySnapshot> loaded) {
+            if (version != expectedVersion) {
+                return;
+            }
+            for (DaySnapshot snapshot : loaded) {
+                days.put(snapshot.epochDay(), snapshot);
+            }
+        }
+    }
+}
@@ -1,24 +1,40 @@
 package com.presta.application.usecases;
 
 
+import com.presta.application.booking.BookingCoordinator;
+import com.presta.application.booking.IdempotencyStore;
+import com.presta.application.snapshot.PlanningSnapshotStore;
+import com.presta.domain.exception.AppointmentConflictException;
 import com.presta.domain.exception.AppointmentNotFoundException;
 import com.presta.domain.exception.ContractorNotActiveException;
+import com.presta.domain.exception.DomainException;
 import com.presta.domain.exception.SlotNotAvailableException;
 import com.presta.domain.exception.UnauthorizedAppointmentActionException;
 import com.presta.domain.model.Appointment;
+import com.presta.domain.model.BatchBookingResult;
+import com.presta.domain.model.BookingContext;
+import com.presta.domain.model.ScheduleConstraints;
 import com.presta.domain.model.valueobject.AppointmentStatus;
+import com.presta.domain.model.valueobject.AvailabilityStatus;
+import com.presta.domain.model.valueobject.BatchBookingMode;
 import com.presta.domain.port.*;
 import com.presta.domain.model.valueobject.TimeSlot;
 
 import com.presta.domain.service.AppointmentDomainService;
+import com.presta.domain.service.AvailabilityIndex;
 import com.presta.infrastructure.persistence.adapters.AvailabilityRepositoryAdapter;
 import com.presta.infrastructure.persistence.repositories.JpaAvailabilityRuleRepository;
 import com.presta.infrastructure.web.dtos.appointment.CreateAppointmentRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -26,6 +42,15 @@ import java.util.stream.Collectors;
 @Component
 public class AppointmentUseCase implements AppointmentQueryPort  {
 
+    // Durée maximale d'un rendez-vous (contrainte check_appointment_duration)
+    private static final int MAX_APPOINTMENT_DURATION_MINUTES = 480;
+
+    // Taille maximale d'une réservation groupée (un an de séances hebdomadaires)
+    private static final int MAX_BATCH_SIZE = 52;
+
+    // Longueur de la colonne idempotency_key.idempotency_key
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
     private final AppointmentRepositoryPort appointmentRepositoryPort;
     private final ContractorRepositoryPort contractorRepositoryPort;
     private final ClientRepositoryPort clientRepositoryPort;
@@ -34,8 +59,14 @@ public class AppointmentUseCase implements AppointmentQueryPort  {
     private final AppointmentDomainService appointmentDomainService;
     private final AvailabilityRuleRepositoryPort availabilityRuleRepositoryPort ;
     private final UnavailabilityRuleRepositoryPort unavailabilityRuleRepositoryPort;
-
-    public AppointmentUseCase(AppointmentRepositoryPort appointmentRepositoryPort, ContractorRepositoryPort contractorRepositoryPort, ClientRepositoryPort clientRepositoryPort, UserRepositoryPort userRepositoryPort, AppointmentDomainService appointmentDomainService, AvailabilityRuleRepositoryPort availabilityRuleRepositoryPort, UnavailabilityRuleRepositoryPort unavailabilityRuleRepositoryPort) {
+    private final PlanningSnapshotStore planningSnapshotStore;
+    private final ContractorScheduleUseCasePort contractorScheduleUseCasePort;
+    private final BookingContextPort bookingContextPort;
+    private final TransactionTemplate transactionTemplate;
+    private final BookingCoordinator bookingCoordinator;
+    private final IdempotencyStore idempotencyStore;
+
+    public AppointmentUseCase(AppointmentRepositoryPort appointmentRepositoryPort, ContractorRepositoryPort contractorRepositoryPort, ClientRepositoryPort clientRepositoryPort, UserRepositoryPort userRepositoryPort, AppointmentDomainService appointmentDomainService, AvailabilityRuleRepositoryPort availabilityRuleRepositoryPort, UnavailabilityRuleRepositoryPort unavailabilityRuleRepositoryPort, PlanningSnapshotStore planningSnapshotStore, ContractorScheduleUseCasePort contractorScheduleUseCasePort, BookingContextPort bookingContextPort, TransactionTemplate transactionTemplate, BookingCoordinator bookingCoordinator, IdempotencyStore idempotencyStore) {
         this.appointmentRepositoryPort = appointmentRepositoryPort;
         this.contractorRepositoryPort = contractorRepositoryPort;
         this.clientRepositoryPort = clientRepositoryPort;
@@ -43,6 +74,12 @@ public class AppointmentUseCase implements AppointmentQueryPort  {
         this.appointmentDomainService = appointmentDomainService;
         this.availabilityRuleRepositoryPort = availabilityRuleRepositoryPort;
         this.unavailabilityRuleRepositoryPort = unavailabilityRuleRepositoryPort;
+        this.planningSnapshotStore = planningSnapshotStore;
+        this.contractorScheduleUseCasePort = contractorScheduleUseCasePort;
+        this.bookingContextPort = bookingContextPort;
+        this.transactionTemplate = transactionTemplate;
+        this.bookingCoordinator = bookingCoordinator;
+        this.idempotencyStore = idempotencyStore;
     }
 
 
@@ -50,62 +87,148 @@ public class AppointmentUseCase implements AppointmentQueryPort  {
 
     @Override
     public Appointment bookAppointment(Appointment query) {
+        return bookAppointment(query, null);
+    }
 
-        if (!contractorRepositoryPort.isActive(query.getContractorId())) {
-            throw new ContractorNotActiveException(
-                    "Le prestataire n'existe pas ou n'est pas actif"
-            );
+    @Override
+    public Appointment bookAppointment(Appointment query, String idempotencyKey) {
+        boolean idempotent = idempotencyKey != null && !idempotencyKey.isBlank();
+        if (idempotent && idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "La clé d'idempotence ne peut dépasser " + MAX_IDEMPOTENCY_KEY_LENGTH + " caractères");
         }
 
-        if (!userRepositoryPort.isUserActive(query.getClientId())) {
-            throw new IllegalArgumentException("Le client n'existe pas");
+        // Relance d'une réservation déjà faite : réponse enregistrée, sans verrou ni validation
+        if (idempotent) {
+            Optional<Appointment> replay = idempotencyStore.find(query.getClientId(), idempotencyKey);
+            if (replay.isPresent()) {
+                return replayOf(query, replay.get());
+            }
         }
 
-
-        if (!isSlotAvailable(query.getContractorId(), query.getSlot().startDateTime(), query.getSlot().duration())) {
-            throw new SlotNotAvailableException(
-                    String.format("Le créneau du %s à %s n'est pas disponible",
-                            query.getSlot().startDateTime().toLocalDate(),
-                            query.getSlot().startDateTime().toLocalTime())
-            );
+        // Réservations d'un même contractor sérialisées sur cette instance ; chargement,
+        // validation en mémoire et insertion dans une même transaction, validée avant de relâcher le verrou
+        Appointment saved;
+        try {
+            saved = bookingCoordinator.execute(query.getContractorId(), () -> transactionTemplate.execute(status -> {
+
+                // 0. Une relance concurrente a pu attendre le verrou pendant que la première réservation était validée
+                if (idempotent) {
+                    Optional<Appointment> replay = idempotencyStore.find(query.getClientId(), idempotencyKey);
+                    if (replay.isPresent()) {
+                        return replayOf(query, replay.get());
+                    }
+                }
+
+                // 1. Tout le contexte de validation en un seul aller-retour
+                LocalDate startDate = query.getAppointmentDateTime().toLocalDate();
+                LocalDate endDate = query.getEndDateTime().toLocalDate();
+                BookingContext context = loadBookingContext(query.getContractorId(), query.getClientId(), startDate, endDate);
+
+                // 2. Règles, grille, indisponibilités, créneau non passé
+                AvailabilityIndex index = AvailabilityIndex.of(context.availabilityRules(), context.constraints(), startDate, endDate);
+                validateSlot(query, context, index, LocalDateTime.now());
+
+                // 3. Sauvegarder : les chevauchements avec un rendez-vous actif sont refusés par la contrainte
+                //    d'exclusion de la base (AppointmentConflictException), sans pré-vérification
+                Appointment created = appointmentRepositoryPort.save(newAppointment(query));
+                if (idempotent) {
+                    idempotencyStore.record(query.getClientId(), idempotencyKey, created.getId());
+                }
+                return created;
+            }));
+        } catch (AppointmentConflictException e) {
+            // Relance traitée sur une autre instance pendant la première réservation : le créneau est pris par elle
+            if (idempotent && "CONFLICT".equals(e.getCode())) {
+                Optional<Appointment> replay = idempotencyStore.find(query.getClientId(), idempotencyKey);
+                if (replay.isPresent()) {
+                    return replayOf(query, replay.get());
+                }
+            }
+            throw e;
         }
 
-        boolean alreadyBooked = appointmentRepositoryPort
-                .existsByContractorAndDateTime(query.getContractorId(), query.getSlot().startDateTime());
-
-        if (alreadyBooked) {
-            throw new SlotNotAvailableException("Ce créneau est déja réservé !");
+        // 4. Tenir le read model des plannings et le cache d'idempotence à jour, une fois la transaction validée
+        planningSnapshotStore.markBooked(saved.getContractorId(), saved.getSlot());
+        if (idempotent) {
+            idempotencyStore.cache(query.getClientId(), idempotencyKey, saved);
         }
+        return saved;
+    }
 
-
-
-        if(!this.appointmentDomainService.
-                canCreateAppointment(
-                     query.getAppointmentDateTime(),
-                     query.getDuration(),
-                        this.availabilityRuleRepositoryPort.findActiveByContractorId(query.getContractorId()),
-                        this.unavailabilityRuleRepositoryPort.findByContractorIdAndDateRange(
-                                    query.getContractorId(),
-                                    query.getAppointmentDateTime().toLocalDate(),
-                                    query.getEndDateTime().toLocalDate()
-                                ), List.of() // flemme de continuer
-                )
-        ){
-            throw new IllegalArgumentException("Vous ne pouvez pas réserver ce rendez-vous");
+    @Override
+    public BatchBookingResult bookAppointments(List<Appointment> commands, BatchBookingMode mode) {
+        if (commands == null || commands.isEmpty()) {
+            throw new IllegalArgumentException("Le lot de réservations est vide");
+        }
+        if (commands.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Un lot ne peut pas dépasser " + MAX_BATCH_SIZE + " réservations");
         }
 
-        Appointment appointment = Appointment.create(
-                null,
-                query.getClientId(),
-                query.getContractorId(),
-                query.getSlot().startDateTime(),
-                query.getSlot().duration(),
-                query.getReason(),
-                query.getNotes()
-        );
+        UUID contractorId = commands.get(0).getContractorId();
+        UUID clientId = commands.get(0).getClientId();
+        if (commands.stream().anyMatch(c -> !contractorId.equals(c.getContractorId()) || !clientId.equals(c.getClientId()))) {
+            throw new IllegalArgumentException("Un lot ne peut concerner qu'un seul prestataire et un seul client");
+        }
 
-        // 6. Sauvegarder
-        return appointmentRepositoryPort.save(appointment);
+        List<Appointment> sorted = commands.stream()
+                .sorted(Comparator.comparing(Appointment::getAppointmentDateTime))
+                .toList();
+        LocalDateTime first = sorted.get(0).getAppointmentDateTime();
+        LocalDateTime last = sorted.stream().map(Appointment::getEndDateTime).max(Comparator.naturalOrder()).orElseThrow();
+
+        BatchBookingResult result = bookingCoordinator.execute(contractorId, () -> transactionTemplate.execute(status -> {
+
+            // 1. Un seul chargement pour tout le lot
+            BookingContext context = loadBookingContext(contractorId, clientId, first.toLocalDate(), last.toLocalDate());
+            AvailabilityIndex index = AvailabilityIndex.of(
+                    context.availabilityRules(), context.constraints(), first.toLocalDate(), last.toLocalDate());
+
+            // Contrairement à la réservation unitaire, les conflits sont vérifiés en mémoire :
+            // un refus de la contrainte d'exclusion annulerait toute la transaction, y compris en BEST_EFFORT.
+            // Les créneaux acceptés rejoignent la liste pour détecter les chevauchements internes au lot.
+            List<TimeSlot> bookedSlots = new ArrayList<>(appointmentRepositoryPort.findActiveSlotsByContractorIdAndPeriod(
+                    contractorId,
+                    first.minusMinutes(MAX_APPOINTMENT_DURATION_MINUTES),
+                    last
+            ));
+
+            // 2. Validation de chaque créneau
+            LocalDateTime now = LocalDateTime.now();
+            List<Appointment> accepted = new ArrayList<>();
+            List<BatchBookingResult.Rejection> rejected = new ArrayList<>();
+            for (Appointment command : sorted) {
+                try {
+                    validateSlot(command, context, index, now);
+                    if (appointmentDomainService.hasConflictWithBookedSlots(
+                            command.getAppointmentDateTime(), command.getDuration(), bookedSlots)) {
+                        throw new AppointmentConflictException(
+                                String.format("Le créneau proposé (%s, durée: %d min) entre en conflit avec un rendez-vous existant",
+                                        command.getAppointmentDateTime(), command.getDuration()),
+                                "CONFLICT",
+                                409
+                        );
+                    }
+                    bookedSlots.add(command.getSlot());
+                    accepted.add(newAppointment(command));
+                } catch (DomainException | IllegalArgumentException e) {
+                    if (mode == BatchBookingMode.ALL_OR_NOTHING) {
+                        throw e;
+                    }
+                    String code = e instanceof DomainException domainException ? domainException.getCode() : "INVALID_SLOT";
+                    rejected.add(new BatchBookingResult.Rejection(command.getAppointmentDateTime(), code, e.getMessage()));
+                }
+            }
+
+            // 3. Insertion en lot JDBC
+            List<Appointment> booked = accepted.isEmpty() ? List.of() : appointmentRepositoryPort.saveAll(accepted);
+            return new BatchBookingResult(booked, rejected);
+        }));
+
+        for (Appointment appointment : result.booked()) {
+            planningSnapshotStore.markBooked(appointment.getContractorId(), appointment.getSlot());
+        }
+        return result;
     }
 
     // ========== ManageAppointmentUseCase ==========
@@ -113,10 +236,10 @@ public class AppointmentUseCase implements AppointmentQueryPort  {
     @Override
     public void confirmAppointment(UUID appointmentId) {
         Appointment appointment = getAppointmentOrThrow(appointmentId);
-
+        AppointmentStatus previousStatus = appointment.getStatus();
 
         appointment.confirm();
-        appointmentRepositoryPort.save(appointment);
+        appointmentRepositoryPort.updateState(appointment, previousStatus);
     }
 
     @Override
@@ -131,22 +254,60 @@ public class AppointmentUseCase implements AppointmentQueryPort  {
             );
         }
 
+        AppointmentStatus previousStatus = appointment.getStatus();
         appointment.cancel(reason != null ? reason : "Annulation demandée");
-        appointmentRepositoryPort.save(appointment);
+        appointmentRepositoryPort.updateState(appointment, previousStatus);
+        releaseSlot(appointment);
     }
 
     @Override
     public void completeAppointment(UUID appointmentId) {
         Appointment appointment = getAppointmentOrThrow(appointmentId);
+        AppointmentStatus previousStatus = appointment.getStatus();
         appointment.complete();
-        appointmentRepositoryPort.save(appointment);
+        appointmentRepositoryPort.updateState(appointment, previousStatus);
+        releaseSlot(appointment);
+    }
+
+    @Override
+    public int confirmAllPendingForDate(UUID contractorId, LocalDate date) {
+        // Mêmes statuts de départ que confirm() ; aucune règle de date
+        return appointmentRepositoryPort.updateStatusBetween(
+                contractorId,
+                date.atStartOfDay(),
+                date.plusDays(1).atStartOfDay(),
+                AppointmentStatus.confirmableStatuses(),
+                AppointmentStatus.CONFIRMED
+        );
+    }
+
+    @Override
+    public int completeAllPast(UUID contractorId) {
+        // Mêmes règles que complete() : statut terminable et rendez-vous déjà commencé
+        LocalDateTime now = LocalDateTime.now();
+        int completed = appointmentRepositoryPort.updateStatusStartedBefore(
+                contractorId,
+                now,
+                AppointmentStatus.completableStatuses(),
+                AppointmentStatus.COMPLETED
+        );
+
+        // Seuls les rendez-vous encore en cours (480 min max) bloquaient des créneaux à venir
+        if (completed > 0) {
+            planningSnapshotStore.evictDays(
+                    contractorId,
+                    now.minusMinutes(MAX_APPOINTMENT_DURATION_MINUTES).toLocalDate(),
+                    now.toLocalDate()
+            );
+        }
+        return completed;
     }
 
     @Override
     public void addNoteToAppointment(UUID appointmentId, String note) {
         Appointment appointment = getAppointmentOrThrow(appointmentId);
         appointment.addNote(note);
-        appointmentRepositoryPort.save(appointment);
+        appointmentRepositoryPort.updateState(appointment, appointment.getStatus());
     }
 
     // ========== ViewAppointmentsUseCase ==========
@@ -188,14 +349,42 @@ public class AppointmentUseCase implements AppointmentQueryPort  {
 
     @Override
     public boolean isSlotAvailable(UUID contractorId, LocalDateTime startDateTime, int duration) {
-        return true;
-        //return slotGeneratorService.isSlotAvailable(startDateTime, duration);
+        LocalDate date = startDateTime.toLocalDate();
+        LocalDateTime endDateTime = startDateTime.plusMinutes(duration);
+
+        // Seules les contraintes autour du créneau sont chargées : un RDV (480 min max)
+        // commencé avant le créneau peut encore le chevaucher
+        ScheduleConstraints constraints = new ScheduleConstraints(
+                unavailabilityRuleRepositoryPort.findByContractorIdAndDateRange(contractorId, date, endDateTime.toLocalDate()),
+                appointmentRepositoryPort.findActiveSlotsByContractorIdAndPeriod(
+                        contractorId,
+                        startDateTime.minusMinutes(MAX_APPOINTMENT_DURATION_MINUTES),
+                        endDateTime
+                )
+        );
+
+        return AvailabilityIndex.of(
+                availabilityRuleRepositoryPort.findActiveByContractorId(contractorId),
+                constraints,
+                date,
+                date
+        ).isSlotAvailable(startDateTime, duration, LocalDateTime.now());
     }
 
     @Override
     public List<TimeSlot> getAvailableSlots(UUID contractorId, LocalDate startDate, LocalDate endDate) {
-        return  null;
-        //return slotGeneratorService.findOnlyAvailableSlots(contractorId, startDate, endDate);
+        // Servi par le read model des plannings : seuls les jours absents sont générés
+        List<TimeSlot> availableSlots = new ArrayList<>();
+        contractorScheduleUseCasePort.openPlanningStream(contractorId, startDate, endDate)
+                .writeTo((startEpochSecond, duration, status) -> {
+                    if (status == AvailabilityStatus.AVAILABLE) {
+                        availableSlots.add(new TimeSlot(
+                                LocalDateTime.ofEpochSecond(startEpochSecond, 0, ZoneOffset.UTC),
+                                duration
+                        ));
+                    }
+                });
+        return availableSlots;
     }
 
     @Override
@@ -211,4 +400,85 @@ public class AppointmentUseCase implements AppointmentQueryPort  {
                         "Rendez-vous non trouvé avec l'ID: " + appointmentId
                 ));
     }
+
+    /**
+     * Contexte de validation, après vérification des deux comptes
+     */
+    private BookingContext loadBookingContext(UUID contractorId, UUID clientId, LocalDate startDate, LocalDate endDate) {
+        BookingContext context = bookingContextPort.loadBookingContext(contractorId, clientId, startDate, endDate);
+
+        if (!context.contractorActive()) {
+            throw new ContractorNotActiveException(
+                    "Le prestataire n'existe pas ou n'est pas actif"
+            );
+        }
+
+        if (!context.clientActive()) {
+            throw new IllegalArgumentException("Le client n'existe pas");
+        }
+        return context;
+    }
+
+    /**
+     * Vérifie en mémoire un créneau demandé : règles, indisponibilités, grille fusionnée et créneau non passé
+     */
+    private void validateSlot(Appointment query, BookingContext context, AvailabilityIndex index, LocalDateTime now) {
+        if(!this.appointmentDomainService.
+                canCreateAppointment(
+                     query.getAppointmentDateTime(),
+                     query.getDuration(),
+                        context.availabilityRules(),
+                        context.unavailabilities(),
+                        List.of()
+                )
+        ){
+            throw new IllegalArgumentException("Vous ne pouvez pas réserver ce rendez-vous");
+        }
+
+        if (!index.isSlotAvailable(query.getAppointmentDateTime(), query.getDuration(), now)) {
+            throw new SlotNotAvailableException(
+                    String.format("Le créneau du %s à %s n'est pas disponible",
+                            query.getSlot().startDateTime().toLocalDate(),
+                            query.getSlot().startDateTime().toLocalTime())
+            );
+        }
+    }
+
+    /**
+     * Réponse d'une réservation déjà faite avec la même clé, à condition qu'elle porte sur le même créneau
+     */
+    private Appointment replayOf(Appointment query, Appointment stored) {
+        if (!stored.getContractorId().equals(query.getContractorId())
+                || !stored.getSlot().equals(query.getSlot())) {
+            throw new AppointmentConflictException(
+                    "Cette clé d'idempotence a déjà servi pour une autre réservation",
+                    "IDEMPOTENCY_KEY_REUSED",
+                    422
+            );
+        }
+        return stored;
+    }
+
+    private Appointment newAppointment(Appointment query) {
+        return Appointment.create(
+                null,
+                query.getClientId(),
+                query.getContractorId(),
+                query.getSlot().startDateTime(),
+                query.getSlot().duration(),
+                query.getReason(),
+                query.getNotes()
+        );
+    }
+
+    /**
+     * Le créneau n'est plus bloqué : les jours concernés du planning seront recalculés
+     */
+    private void releaseSlot(Appointment appointment) {
+        planningSnapshotStore.evictDays(
+                appointment.getContractorId(),
+                appointment.getAppointmentDateTime().toLocalDate(),
+                appointment.getEndDateTime().toLocalDate()
+        );
+    }
 }
\ No newline at end of file
@@ -38,6 +38,8 @@ public class ContractorRepositoryUseCase implements ContractorRepositoryPort {
                 criteria.speciality(),
                 criteria.assignmentId(),
                 criteria.address(),
+                criteria.availableOn(),
+                criteria.availableAt(),
                 pageable
         );
     }
@@ -0,0 +1,78 @@
+package com.presta.application.usecases;
+
+import com.presta.domain.model.OccupancyStat;
+import com.presta.domain.model.valueobject.OccupancyGranularity;
+import com.presta.domain.port.AssignmentPort;
+import com.presta.domain.port.AvailabilityRuleRepositoryPort;
+import com.presta.domain.port.OccupancyQueryPort;
+import com.presta.domain.service.OccupancyCalculator;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Tableaux de bord d'occupation : quel que soit le nombre de contractors, une requête pour les règles
+ * et une requête agrégée pour les rendez-vous
+ */
+@Component
+public class OccupancyAnalyticsUseCase {
+
+    // Une année de statistiques journalières par contractor
+    private static final int MAX_PERIOD_DAYS = 366;
+
+    private final OccupancyQueryPort occupancyQueryPort;
+    private final AvailabilityRuleRepositoryPort availabilityRuleRepositoryPort;
+    private final AssignmentPort assignmentPort;
+
+    public OccupancyAnalyticsUseCase(OccupancyQueryPort occupancyQueryPort,
+                                     AvailabilityRuleRepositoryPort availabilityRuleRepositoryPort,
+                                     AssignmentPort assignmentPort) {
+        this.occupancyQueryPort = occupancyQueryPort;
+        this.availabilityRuleRepositoryPort = availabilityRuleRepositoryPort;
+        this.assignmentPort = assignmentPort;
+    }
+
+    public List<OccupancyStat> getOccupancy(
+            List<UUID> contractorIds,
+            LocalDate startDate,
+            LocalDate endDate,
+            OccupancyGranularity granularity) {
+
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("La date de début doit précéder la date de fin");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_PERIOD_DAYS) {
+            throw new IllegalArgumentException("La période ne peut pas dépasser " + MAX_PERIOD_DAYS + " jours");
+        }
+
+        List<UUID> ids = List.copyOf(new LinkedHashSet<>(contractorIds));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return OccupancyCalculator.compute(
+                ids,
+                availabilityRuleRepositoryPort.findActiveByContractorIds(ids),
+                occupancyQueryPort.countBookingsByDay(ids, startDate, endDate),
+                startDate,
+                endDate,
+                granularity
+        );
+    }
+
+    /**
+     * Occupation des contractors actifs d'une catégorie (assignment), les seuls réservables
+     */
+    public List<OccupancyStat> getAssignmentOccupancy(
+            UUID assignmentId,
+            LocalDate startDate,
+            LocalDate endDate,
+            OccupancyGranularity granularity) {
+
+        return getOccupancy(assignmentPort.findActiveContractorIds(assignmentId), startDate, endDate, granularity);
+    }
+}
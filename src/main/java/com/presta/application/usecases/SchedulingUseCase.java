@@ -1,14 +1,19 @@
 package com.presta.application.usecases;
 
+import com.presta.application.snapshot.DaySnapshot;
+import com.presta.application.snapshot.PlanningSnapshotStore;
 import com.presta.domain.exception.UserNotFoundException;
 import com.presta.domain.model.*;
+import com.presta.domain.model.valueobject.PackedSlotList;
+import com.presta.domain.model.valueobject.PlanningMetadata;
+import com.presta.domain.model.valueobject.TimeSlot;
+import com.presta.domain.port.AppointmentRepositoryPort;
 import com.presta.domain.port.ContractorScheduleUseCasePort;
 import com.presta.domain.service.ContractorScheduleService;
 import com.presta.infrastructure.persistence.adapters.UserRepositoryAdapter;
 import com.presta.infrastructure.persistence.adapters.UnavailabilityRepositoryAdapter;
 import com.presta.infrastructure.persistence.mapper.AvailabilityRuleMapper;
 import com.presta.infrastructure.persistence.mapper.UnavailabilityRuleMapper;
-import com.presta.infrastructure.persistence.repositories.JpaAppointmentRepository;
 import com.presta.infrastructure.persistence.repositories.JpaAvailabilityRuleRepository;
 import com.presta.infrastructure.persistence.repositories.JpaContractorRepository;
 import org.springframework.stereotype.Component;
@@ -18,12 +23,13 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-import static java.util.Collections.emptyList;
-
 @Component
 public class SchedulingUseCase implements ContractorScheduleUseCasePort {
 
-    private final JpaAppointmentRepository jpaAppointmentRepository;
+    // Durée maximale d'un rendez-vous (contrainte check_appointment_duration)
+    private static final int MAX_APPOINTMENT_DURATION_MINUTES = 480;
+
+    private final AppointmentRepositoryPort appointmentRepositoryPort;
     private final JpaAvailabilityRuleRepository jpaAvailabilityRuleRepository;
     private final UnavailabilityRepositoryAdapter unavailabilityRepositoryAdapter;
     private final JpaContractorRepository jpaContractorRepository;
@@ -31,9 +37,10 @@ public class SchedulingUseCase implements ContractorScheduleUseCasePort {
     private final AvailabilityRuleMapper availabilityRuleMapper;
     private final UserRepositoryAdapter userRepositoryAdapter;
     private final UnavailabilityRuleMapper unavailabilityRuleMapper;
+    private final PlanningSnapshotStore planningSnapshotStore;
 
-    public SchedulingUseCase(JpaAppointmentRepository jpaAppointmentRepository, JpaAvailabilityRuleRepository jpaAvailabilityRuleRepository, UnavailabilityRepositoryAdapter unavailabilityRepositoryAdapter, JpaContractorRepository jpaContractorRepository, ContractorScheduleService contractorScheduleService, AvailabilityRuleMapper availabilityRuleMapper, UserRepositoryAdapter userRepositoryAdapter, UnavailabilityRuleMapper unavailabilityRuleMapper) {
-        this.jpaAppointmentRepository = jpaAppointmentRepository;
+    public SchedulingUseCase(AppointmentRepositoryPort appointmentRepositoryPort, JpaAvailabilityRuleRepository jpaAvailabilityRuleRepository, UnavailabilityRepositoryAdapter unavailabilityRepositoryAdapter, JpaContractorRepository jpaContractorRepository, ContractorScheduleService contractorScheduleService, AvailabilityRuleMapper availabilityRuleMapper, UserRepositoryAdapter userRepositoryAdapter, UnavailabilityRuleMapper unavailabilityRuleMapper, PlanningSnapshotStore planningSnapshotStore) {
+        this.appointmentRepositoryPort = appointmentRepositoryPort;
         this.jpaAvailabilityRuleRepository = jpaAvailabilityRuleRepository;
         this.unavailabilityRepositoryAdapter = unavailabilityRepositoryAdapter;
         this.jpaContractorRepository = jpaContractorRepository;
@@ -41,6 +48,7 @@ public class SchedulingUseCase implements ContractorScheduleUseCasePort {
         this.availabilityRuleMapper = availabilityRuleMapper;
         this.userRepositoryAdapter = userRepositoryAdapter;
         this.unavailabilityRuleMapper = unavailabilityRuleMapper;
+        this.planningSnapshotStore = planningSnapshotStore;
     }
 
 
@@ -49,26 +57,71 @@ public class SchedulingUseCase implements ContractorScheduleUseCasePort {
                                                LocalDate startDate,
                                                LocalDate endDate) {
 
+        List<DaySnapshot> days = loadDays(contractorId, startDate, endDate);
+
+        PackedSlotList.Builder slots = PackedSlotList.builder(contractorId);
+        PlanningMetadata metadata = DaySnapshot.replayAll(days, slots::add);
+
+        return new ContractorPlanning(contractorId, startDate, endDate, slots.build(), metadata);
+    }
+
+    @Override
+    public PlanningStream openPlanningStream(UUID contractorId,
+                                             LocalDate startDate,
+                                             LocalDate endDate) {
+
+        List<DaySnapshot> days = loadDays(contractorId, startDate, endDate);
+
+        return consumer -> DaySnapshot.replayAll(days, consumer);
+    }
+
+    /**
+     * Jours de la période lus depuis le read model ; seuls les jours absents ou expirés sont recalculés
+     */
+    private List<DaySnapshot> loadDays(UUID contractorId, LocalDate startDate, LocalDate endDate) {
         Optional<Contractor> contractor = this.userRepositoryAdapter.findContractorById(contractorId);
         if(contractor.isEmpty()){
             throw new UserNotFoundException(contractorId);
         }
 
+        return this.planningSnapshotStore.getDays(contractorId, startDate, endDate,
+                (from, to) -> computeDays(contractorId, from, to));
+    }
+
+    private List<DaySnapshot> computeDays(UUID contractorId, LocalDate startDate, LocalDate endDate) {
+        PlanningInputs inputs = loadPlanningInputs(contractorId, startDate, endDate);
+
+        DaySnapshot.Collector collector = new DaySnapshot.Collector(startDate, endDate);
+        this.contractorScheduleService.streamSlots(contractorId,
+                inputs.availabilityRules(),
+                inputs.constraints(),
+                startDate,
+                endDate,
+                collector
+                );
+        return collector.build();
+    }
+
+    private PlanningInputs loadPlanningInputs(UUID contractorId, LocalDate startDate, LocalDate endDate) {
         List<AvailabilityRule> availabilityRuleList = this.jpaAvailabilityRuleRepository.findByIsActiveAndContractorId(contractorId).stream().map(
                 this.availabilityRuleMapper::toDomain
         ).toList();
 
         List<UnavailabilityRule> unavailabilityRuleList = this.unavailabilityRepositoryAdapter.findByContractorIdAndDateRange(contractorId,startDate,endDate);
-        List<Appointment> appointmentList = emptyList();
-
 
+        // Seuls les rendez-vous actifs chevauchant la période : un rendez-vous commencé la veille
+        // (au plus 480 min plus tôt) peut encore bloquer les premiers créneaux
+        List<TimeSlot> bookedSlots = this.appointmentRepositoryPort.findActiveSlotsByContractorIdAndPeriod(
+                contractorId,
+                startDate.atStartOfDay().minusMinutes(MAX_APPOINTMENT_DURATION_MINUTES),
+                endDate.plusDays(1).atStartOfDay()
+        );
 
-        return this.contractorScheduleService.generatePlanning(contractorId,
-                availabilityRuleList.get(0),
-                unavailabilityRuleList,
-                appointmentList,
-                startDate,
-                endDate
-                );
+        return new PlanningInputs(availabilityRuleList, new ScheduleConstraints(unavailabilityRuleList, bookedSlots));
     }
+
+    private record PlanningInputs(
+            List<AvailabilityRule> availabilityRules,
+            ScheduleConstraints constraints
+    ) {}
 }
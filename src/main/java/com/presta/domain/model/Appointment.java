@@ -17,6 +17,8 @@ public class Appointment {
     private AppointmentDetails details;
     private final LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    // Version de la ligne lue : une transition n'est enregistrée que si personne ne l'a modifiée depuis
+    private final long version;
 
     // Factory method pour création
     public static Appointment create(
@@ -51,6 +53,19 @@ public class Appointment {
             AppointmentDetails details,
             LocalDateTime createdAt,
             LocalDateTime updatedAt) {
+        this(id, clientId, contractorId, slot, status, details, createdAt, updatedAt, 0L);
+    }
+
+    public Appointment(
+            UUID id,
+            UUID clientId,
+            UUID contractorId,
+            TimeSlot slot,
+            AppointmentStatus status,
+            AppointmentDetails details,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            long version) {
 
         validateAppointment(clientId, contractorId, slot);
 
@@ -62,6 +77,7 @@ public class Appointment {
         this.details = details != null ? details : new AppointmentDetails(null, null);
         this.createdAt = createdAt != null ? createdAt : LocalDateTime.now();
         this.updatedAt = updatedAt != null ? updatedAt : LocalDateTime.now();
+        this.version = version;
     }
 
     // Business Methods
@@ -182,4 +198,5 @@ public class Appointment {
     public String getNotes() { return details.notes(); }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public long getVersion() { return version; }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.presta.domain.model;
+
+import com.presta.domain.model.valueobject.AppointmentEventType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Événement de rendez-vous écrit dans l'outbox, dans la transaction qui modifie le rendez-vous.
+ * Il porte le créneau pour que les consommateurs n'aient pas à relire le rendez-vous.
+ * attempts compte les livraisons déjà tentées, celle en cours comprise.
+ */
+public record AppointmentEvent(
+        UUID id,
+        AppointmentEventType type,
+        UUID appointmentId,
+        UUID contractorId,
+        UUID clientId,
+        LocalDateTime appointmentDateTime,
+        int duration,
+        LocalDateTime occurredAt,
+        int attempts
+) {
+
+    public static AppointmentEvent of(AppointmentEventType type, Appointment appointment) {
+        return new AppointmentEvent(
+                UUID.randomUUID(),
+                type,
+                appointment.getId(),
+                appointment.getContractorId(),
+                appointment.getClientId(),
+                appointment.getAppointmentDateTime(),
+                appointment.getDuration(),
+                LocalDateTime.now(),
+                0
+        );
+    }
+}
@@ -1,14 +1,15 @@
 package com.presta.domain.model;
 
+import com.presta.domain.model.valueobject.DaySlotTemplate;
 import com.presta.domain.model.valueobject.SlotConfiguration;
 import com.presta.domain.model.valueobject.TimeRange;
 import com.presta.domain.model.valueobject.TimeSlot;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -23,6 +24,9 @@ public class AvailabilityRule {
     private List<BreakTime> breakTimes;
     private boolean isActive; // contractor
 
+    // Gabarits compilés par jour de la semaine (index = DayOfWeek.ordinal()), calculés à la demande
+    private final DaySlotTemplate[] slotTemplates = new DaySlotTemplate[7];
+
     // Factory method pour création
     public static AvailabilityRule create(
             UUID contractorId,
@@ -87,14 +91,17 @@ public class AvailabilityRule {
         }
 
         this.breakTimes.add(breakTime);
+        invalidateSlotTemplates();
     }
 
     public void removeBreakTime(BreakTime breakTime) {
         this.breakTimes.remove(breakTime);
+        invalidateSlotTemplates();
     }
 
     public void clearBreakTimes() {
         this.breakTimes.clear();
+        invalidateSlotTemplates();
     }
     public void updateSchedule(Set<DayOfWeek> newWeekDays, TimeRange newTimeRange) {
         if (newWeekDays == null || newWeekDays.isEmpty()) {
@@ -102,6 +109,7 @@ public class AvailabilityRule {
         }
         this.weekDays = Set.copyOf(newWeekDays);
         this.timeRange = newTimeRange;
+        invalidateSlotTemplates();
     }
 
     public void updateSlotConfiguration(SlotConfiguration newConfig) {
@@ -109,6 +117,7 @@ public class AvailabilityRule {
             throw new IllegalArgumentException("La configuration est obligatoire");
         }
         this.slotConfig = newConfig;
+        invalidateSlotTemplates();
     }
 
     public void activate() {
@@ -135,35 +144,78 @@ public class AvailabilityRule {
         if (!appliesTo(date.getDayOfWeek())) {
             return List.of();
         }
+        return slotTemplateFor(date.getDayOfWeek()).stamp(date);
+    }
 
+    /**
+     * Génère tous les créneaux entre deux dates incluses, en appliquant le gabarit de chaque jour
+     */
+    public List<TimeSlot> generateSlotsBetween(LocalDate startDate, LocalDate endDate) {
         List<TimeSlot> slots = new ArrayList<>();
-        LocalDateTime currentStart = LocalDateTime.of(date, timeRange.startTime());
-        LocalDateTime dayEnd = LocalDateTime.of(date, timeRange.endTime());
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            slots.addAll(generateSlotsForDay(date));
+        }
+        return slots;
+    }
 
-        while (currentStart.plusMinutes(slotConfig.slotDuration()).isBefore(dayEnd) ||
-                currentStart.plusMinutes(slotConfig.slotDuration()).equals(dayEnd)) {
+    /**
+     * Retourne le gabarit compilé d'un jour de la semaine (pauses déjà retirées).
+     * Le gabarit ne tient pas compte de l'activation de la règle, voir {@link #appliesTo}.
+     */
+    public DaySlotTemplate slotTemplateFor(DayOfWeek dayOfWeek) {
+        DaySlotTemplate template = slotTemplates[dayOfWeek.ordinal()];
+        if (template == null) {
+            template = compileSlotTemplate(dayOfWeek);
+            slotTemplates[dayOfWeek.ordinal()] = template;
+        }
+        return template;
+    }
 
-            LocalDateTime slotEnd = currentStart.plusMinutes(slotConfig.slotDuration());
+    private DaySlotTemplate compileSlotTemplate(DayOfWeek dayOfWeek) {
+        if (!weekDays.contains(dayOfWeek)) {
+            return DaySlotTemplate.empty();
+        }
+
+        int slotSeconds = slotConfig.slotDuration() * 60;
+        int stepSeconds = slotConfig.getTotalSlotTime() * 60;
+        int dayStart = timeRange.startTime().toSecondOfDay();
+        int dayEnd = timeRange.endTime().toSecondOfDay();
+
+        // Ne garder que les pauses de ce jour, en secondes depuis minuit
+        List<int[]> dayBreaks = new ArrayList<>();
+        for (BreakTime breakTime : breakTimes) {
+            if (breakTime.appliesTo(dayOfWeek)) {
+                dayBreaks.add(new int[]{
+                        breakTime.timeRange().startTime().toSecondOfDay(),
+                        breakTime.timeRange().endTime().toSecondOfDay()
+                });
+            }
+        }
+
+        int[] offsets = new int[(dayEnd - dayStart) / stepSeconds + 1];
+        int count = 0;
+
+        for (int start = dayStart; start + slotSeconds <= dayEnd; start += stepSeconds) {
+            int end = start + slotSeconds;
 
             boolean isDuringBreak = false;
-            for (BreakTime breakTime : breakTimes) {
-                if (breakTime.overlapsWithSlot(currentStart, slotEnd)) {
+            for (int[] dayBreak : dayBreaks) {
+                if (start < dayBreak[1] && end > dayBreak[0]) {
                     isDuringBreak = true;
                     break;
                 }
             }
 
             if (!isDuringBreak) {
-                slots.add(new TimeSlot(
-                        currentStart,
-                        slotConfig.slotDuration()
-                ));
+                offsets[count++] = start;
             }
-
-            currentStart = slotEnd.plusMinutes(slotConfig.restTime());
         }
 
-        return slots;
+        return new DaySlotTemplate(Arrays.copyOf(offsets, count), slotConfig.slotDuration());
+    }
+
+    private void invalidateSlotTemplates() {
+        Arrays.fill(slotTemplates, null);
     }
 
     // Validation
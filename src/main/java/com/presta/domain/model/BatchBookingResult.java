@@ -0,0 +1,23 @@
+package com.presta.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Résultat d'une réservation groupée : rendez-vous créés et créneaux refusés, avec la raison du refus
+ */
+public record BatchBookingResult(
+        List<Appointment> booked,
+        List<Rejection> rejected
+) {
+
+    public record Rejection(
+            LocalDateTime appointmentDateTime,
+            String code,
+            String message
+    ) {}
+
+    public boolean isComplete() {
+        return rejected.isEmpty();
+    }
+}
@@ -0,0 +1,25 @@
+package com.presta.domain.model;
+
+import java.util.List;
+
+/**
+ * Tout ce que la validation d'une réservation doit lire, chargé en une fois :
+ * état des deux comptes, règles actives et indisponibilités des jours du créneau demandé.
+ * Un compte introuvable est vu comme inactif. Les chevauchements entre rendez-vous sont refusés par la base.
+ */
+public record BookingContext(
+        boolean contractorActive,
+        boolean clientActive,
+        List<AvailabilityRule> availabilityRules,
+        List<UnavailabilityRule> unavailabilities
+) {
+
+    public BookingContext {
+        availabilityRules = availabilityRules != null ? availabilityRules : List.of();
+        unavailabilities = unavailabilities != null ? unavailabilities : List.of();
+    }
+
+    public ScheduleConstraints constraints() {
+        return new ScheduleConstraints(unavailabilities, List.of());
+    }
+}
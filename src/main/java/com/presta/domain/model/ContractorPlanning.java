@@ -2,6 +2,7 @@ package com.presta.domain.model;
 
 import com.presta.domain.model.valueobject.AvailabilityStatus;
 import com.presta.domain.model.valueobject.AvailableSlot;
+import com.presta.domain.model.valueobject.PackedSlotList;
 import com.presta.domain.model.valueobject.PlanningMetadata;
 import com.presta.domain.model.valueobject.TimeSlot;
 
@@ -28,6 +29,9 @@ public record ContractorPlanning(
      * Retourne uniquement les créneaux disponibles
      */
     public List<TimeSlot> getAvailableSlots() {
+        if (slots instanceof PackedSlotList packed) {
+            return packed.timeSlotsWithStatus(AvailabilityStatus.AVAILABLE);
+        }
         return slots.stream()
                 .filter(s -> s.status() == AvailabilityStatus.AVAILABLE)
                 .map(AvailableSlot::timeSlot)
@@ -38,6 +42,9 @@ public record ContractorPlanning(
      * Retourne uniquement les créneaux réservés
      */
     public List<TimeSlot> getBookedSlots() {
+        if (slots instanceof PackedSlotList packed) {
+            return packed.timeSlotsWithStatus(AvailabilityStatus.BOOKED);
+        }
         return slots.stream()
                 .filter(s -> s.status() == AvailabilityStatus.BOOKED)
                 .map(AvailableSlot::timeSlot)
@@ -48,6 +55,9 @@ public record ContractorPlanning(
      * Compte le nombre de créneaux par statut
      */
     public int countByStatus(AvailabilityStatus status) {
+        if (slots instanceof PackedSlotList packed) {
+            return packed.countByStatus(status);
+        }
         return (int) slots.stream()
                 .filter(s -> s.status() == status)
                 .count();
@@ -0,0 +1,13 @@
+package com.presta.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Créneau libre d'un contractor, tel que proposé par une recherche multi-contractors
+ */
+public record ContractorSlot(
+        UUID contractorId,
+        LocalDateTime startDateTime,
+        int duration
+) {}
@@ -0,0 +1,13 @@
+package com.presta.domain.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Nombre de rendez-vous non annulés d'un contractor commençant ce jour-là
+ */
+public record DailyBookingCount(
+        UUID contractorId,
+        LocalDate date,
+        long count
+) {}
@@ -0,0 +1,21 @@
+package com.presta.domain.model;
+
+import java.util.List;
+
+/**
+ * Créneaux libres les plus proches d'une catégorie, triés par début.
+ * Les contractors dont les contraintes n'ont pas pu être lues dans le budget de temps sont comptés
+ * dans skippedContractors, ceux dont le chargement a échoué dans failedContractors :
+ * le résultat n'est exhaustif que si ces deux compteurs valent 0.
+ */
+public record EarliestSlots(
+        List<ContractorSlot> slots,
+        int searchedContractors,
+        int skippedContractors,
+        int failedContractors
+) {
+
+    public static EarliestSlots none() {
+        return new EarliestSlots(List.of(), 0, 0, 0);
+    }
+}
@@ -0,0 +1,24 @@
+package com.presta.domain.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Occupation d'un contractor sur une période : créneaux offerts par ses règles et rendez-vous non annulés.
+ * Les bornes de la période sont ramenées à la plage demandée.
+ */
+public record OccupancyStat(
+        UUID contractorId,
+        LocalDate periodStart,
+        LocalDate periodEnd,
+        long capacity,
+        long booked
+) {
+
+    /**
+     * Taux d'occupation en pourcentage (0 sans créneau offert)
+     */
+    public double rate() {
+        return capacity == 0 ? 0.0 : (double) booked / capacity * 100;
+    }
+}
@@ -0,0 +1,40 @@
+package com.presta.domain.model;
+
+import com.presta.domain.model.valueobject.TimeSlot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Contraintes appliquées aux créneaux d'un planning : indisponibilités et créneaux déjà réservés.
+ * Les réservations sont réduites à leur TimeSlot : le planning n'a besoin ni du client ni des notes.
+ */
+public record ScheduleConstraints(
+        List<UnavailabilityRule> unavailabilities,
+        List<TimeSlot> bookedSlots
+) {
+
+    public ScheduleConstraints {
+        unavailabilities = unavailabilities != null ? unavailabilities : List.of();
+        bookedSlots = bookedSlots != null ? bookedSlots : List.of();
+    }
+
+    public static ScheduleConstraints none() {
+        return new ScheduleConstraints(List.of(), List.of());
+    }
+
+    /**
+     * Ne retient que les rendez-vous actifs (PENDING et CONFIRMED)
+     */
+    public static ScheduleConstraints of(List<UnavailabilityRule> unavailabilities, List<Appointment> appointments) {
+        List<TimeSlot> bookedSlots = new ArrayList<>();
+        if (appointments != null) {
+            for (Appointment appointment : appointments) {
+                if (appointment.getStatus().isActive()) {
+                    bookedSlots.add(appointment.getSlot());
+                }
+            }
+        }
+        return new ScheduleConstraints(unavailabilities, bookedSlots);
+    }
+}
@@ -1,5 +1,6 @@
 package com.presta.domain.model;
 
+import com.presta.domain.model.valueobject.RecurrenceRule;
 import com.presta.domain.model.valueobject.TimeSlot;
 import com.presta.domain.model.valueobject.UnavailabilityPeriod;
 
@@ -25,10 +26,24 @@ public class UnavailabilityRule {
             LocalTime endTime,
             String reason) {
 
+        return create(id, contractorId, startDate, endDate, startTime, endTime, null, reason);
+    }
+
+    // Factory method pour indisponibilité récurrente (recurrence null = tous les jours de la période)
+    public static UnavailabilityRule create(
+            UUID id,
+            UUID contractorId,
+            LocalDate startDate,
+            LocalDate endDate,
+            LocalTime startTime,
+            LocalTime endTime,
+            RecurrenceRule recurrence,
+            String reason) {
+
         return new UnavailabilityRule(
                 id,
                 contractorId,
-                new UnavailabilityPeriod(startDate, endDate, startTime, endTime),
+                new UnavailabilityPeriod(startDate, endDate, startTime, endTime, recurrence),
                 reason,
                 LocalDateTime.now()
         );
@@ -80,7 +95,7 @@ public class UnavailabilityRule {
      * Vérifie si cette règle est active pour une date donnée
      */
     public boolean isActiveOn(LocalDate date) {
-        return !date.isBefore(period.startDate()) && !date.isAfter(period.endDate());
+        return period.occursOn(date);
     }
 
     /**
@@ -122,7 +137,8 @@ public class UnavailabilityRule {
                         period.startDate(),
                         newEndDate,
                         period.startTime(),
-                        period.endTime()
+                        period.endTime(),
+                        period.recurrence()
                 ),
                 this.reason,
                 this.createdAt
@@ -0,0 +1,24 @@
+package com.presta.domain.model.valueobject;
+
+/**
+ * Nature d'un événement de rendez-vous publié par l'outbox
+ */
+public enum AppointmentEventType {
+    BOOKED,
+    CONFIRMED,
+    CANCELLED,
+    COMPLETED,
+    REMINDER_DUE;
+
+    /**
+     * Événement correspondant au passage d'un rendez-vous existant au statut donné
+     */
+    public static AppointmentEventType transitionTo(AppointmentStatus status) {
+        return switch (status) {
+            case PENDING -> BOOKED;
+            case CONFIRMED -> CONFIRMED;
+            case CANCELLED -> CANCELLED;
+            case COMPLETED -> COMPLETED;
+        };
+    }
+}
@@ -1,5 +1,9 @@
 package com.presta.domain.model.valueobject;
 
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
 public enum AppointmentStatus {
     PENDING("En attente"),
     CONFIRMED("Confirmé"),
@@ -31,4 +35,28 @@ public enum AppointmentStatus {
     public boolean canBeCompleted() {
         return this == CONFIRMED;
     }
+
+    /**
+     * Statuts acceptés par confirm(), pour les transitions en masse
+     */
+    public static Set<AppointmentStatus> confirmableStatuses() {
+        return statusesWhere(AppointmentStatus::canBeConfirmed);
+    }
+
+    /**
+     * Statuts acceptés par complete(), pour les transitions en masse
+     */
+    public static Set<AppointmentStatus> completableStatuses() {
+        return statusesWhere(AppointmentStatus::canBeCompleted);
+    }
+
+    private static Set<AppointmentStatus> statusesWhere(Predicate<AppointmentStatus> rule) {
+        EnumSet<AppointmentStatus> statuses = EnumSet.noneOf(AppointmentStatus.class);
+        for (AppointmentStatus status : values()) {
+            if (rule.test(status)) {
+                statuses.add(status);
+            }
+        }
+        return statuses;
+    }
 }
\ No newline at end of file
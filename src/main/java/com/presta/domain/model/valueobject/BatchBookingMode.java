@@ -0,0 +1,9 @@
+package com.presta.domain.model.valueobject;
+
+/**
+ * Comportement d'une réservation groupée lorsqu'un des créneaux est refusé
+ */
+public enum BatchBookingMode {
+    ALL_OR_NOTHING, // le premier refus annule tout le lot
+    BEST_EFFORT     // les créneaux valides sont réservés, les autres sont listés
+}
@@ -0,0 +1,74 @@
+package com.presta.domain.model.valueobject;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Value Object - Gabarit compilé des créneaux d'une journée
+ * Débuts de créneaux en secondes depuis minuit, pauses déjà retirées.
+ * Immuable : il suffit d'y apposer une date pour obtenir les créneaux du jour.
+ */
+public final class DaySlotTemplate {
+
+    private static final DaySlotTemplate EMPTY = new DaySlotTemplate(new int[0], 1);
+
+    private final int[] startOffsets;
+    private final int slotDuration; // en minutes
+
+    public DaySlotTemplate(int[] startOffsets, int slotDuration) {
+        if (startOffsets == null) {
+            throw new IllegalArgumentException("Les débuts de créneaux sont obligatoires");
+        }
+        this.startOffsets = startOffsets.clone();
+        this.slotDuration = slotDuration;
+    }
+
+    public static DaySlotTemplate empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return startOffsets.length;
+    }
+
+    public boolean isEmpty() {
+        return startOffsets.length == 0;
+    }
+
+    public int slotDuration() {
+        return slotDuration;
+    }
+
+    /**
+     * Début du i-ème créneau, en secondes depuis minuit
+     */
+    public int startOffsetAt(int index) {
+        return startOffsets[index];
+    }
+
+    /**
+     * Vérifie si un créneau commence exactement à ce décalage (recherche dichotomique)
+     */
+    public boolean startsAt(int secondOfDay) {
+        return Arrays.binarySearch(startOffsets, secondOfDay) >= 0;
+    }
+
+    /**
+     * Appose une date sur le gabarit pour produire les créneaux du jour
+     */
+    public List<TimeSlot> stamp(LocalDate date) {
+        if (startOffsets.length == 0) {
+            return List.of();
+        }
+
+        LocalDateTime midnight = date.atStartOfDay();
+        List<TimeSlot> slots = new ArrayList<>(startOffsets.length);
+        for (int offset : startOffsets) {
+            slots.add(new TimeSlot(midnight.plusSeconds(offset), slotDuration));
+        }
+        return slots;
+    }
+}
@@ -0,0 +1,36 @@
+package com.presta.domain.model.valueobject;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Regroupement des statistiques d'occupation
+ */
+public enum OccupancyGranularity {
+    DAY,
+    WEEK,  // semaines commençant le lundi
+    MONTH;
+
+    /**
+     * Premier jour de la période contenant date
+     */
+    public LocalDate periodStart(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    /**
+     * Dernier jour de la période commençant à periodStart
+     */
+    public LocalDate periodEnd(LocalDate periodStart) {
+        return switch (this) {
+            case DAY -> periodStart;
+            case WEEK -> periodStart.plusDays(6);
+            case MONTH -> periodStart.with(TemporalAdjusters.lastDayOfMonth());
+        };
+    }
+}
@@ -0,0 +1,152 @@
+package com.presta.domain.model.valueobject;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.UUID;
+
+/**
+ * Liste compacte de créneaux stockée en tableaux primitifs parallèles :
+ * début en secondes epoch (LocalDateTime vu comme UTC), durée en minutes et statut.
+ *
+ * Les {@link AvailableSlot} ne sont créés qu'à la lecture (sérialisation JSON),
+ * un par élément parcouru, ce qui évite de garder des dizaines de milliers d'objets en mémoire.
+ * La liste est immuable une fois construite.
+ */
+public final class PackedSlotList extends AbstractList<AvailableSlot> implements RandomAccess {
+
+    private static final AvailabilityStatus[] STATUSES = AvailabilityStatus.values();
+
+    private final UUID contractorId;
+    private final long[] starts;
+    private final short[] durations;
+    private final byte[] statuses;
+    private final int[] statusCounts;
+
+    private PackedSlotList(UUID contractorId, long[] starts, short[] durations, byte[] statuses, int[] statusCounts) {
+        this.contractorId = contractorId;
+        this.starts = starts;
+        this.durations = durations;
+        this.statuses = statuses;
+        this.statusCounts = statusCounts;
+    }
+
+    public static Builder builder(UUID contractorId) {
+        return new Builder(contractorId);
+    }
+
+    @Override
+    public AvailableSlot get(int index) {
+        return new AvailableSlot(contractorId, timeSlotAt(index), statusAt(index));
+    }
+
+    @Override
+    public int size() {
+        return starts.length;
+    }
+
+    public UUID contractorId() {
+        return contractorId;
+    }
+
+    /**
+     * Début du créneau en secondes epoch
+     */
+    public long startAt(int index) {
+        return starts[index];
+    }
+
+    public int durationAt(int index) {
+        return durations[index];
+    }
+
+    public AvailabilityStatus statusAt(int index) {
+        return STATUSES[statuses[index]];
+    }
+
+    public TimeSlot timeSlotAt(int index) {
+        return new TimeSlot(LocalDateTime.ofEpochSecond(starts[index], 0, ZoneOffset.UTC), durations[index]);
+    }
+
+    public int countByStatus(AvailabilityStatus status) {
+        return statusCounts[status.ordinal()];
+    }
+
+    /**
+     * Index du premier créneau ayant ce statut et commençant strictement après l'instant donné, -1 sinon
+     */
+    public int indexOfFirst(AvailabilityStatus status, long afterEpochSecond) {
+        byte code = (byte) status.ordinal();
+        for (int i = 0; i < starts.length; i++) {
+            if (statuses[i] == code && starts[i] > afterEpochSecond) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Extrait les créneaux d'un statut sans passer par des AvailableSlot intermédiaires
+     */
+    public List<TimeSlot> timeSlotsWithStatus(AvailabilityStatus status) {
+        byte code = (byte) status.ordinal();
+        List<TimeSlot> result = new ArrayList<>(statusCounts[status.ordinal()]);
+        for (int i = 0; i < starts.length; i++) {
+            if (statuses[i] == code) {
+                result.add(timeSlotAt(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Accumule les créneaux dans des tableaux qui grossissent par doublement
+     */
+    public static final class Builder {
+
+        private final UUID contractorId;
+        private long[] starts = new long[64];
+        private short[] durations = new short[64];
+        private byte[] statuses = new byte[64];
+        private final int[] statusCounts = new int[STATUSES.length];
+        private int size;
+
+        private Builder(UUID contractorId) {
+            this.contractorId = contractorId;
+        }
+
+        public Builder add(long startEpochSecond, int duration, AvailabilityStatus status) {
+            if (size == starts.length) {
+                int capacity = size * 2;
+                starts = Arrays.copyOf(starts, capacity);
+                durations = Arrays.copyOf(durations, capacity);
+                statuses = Arrays.copyOf(statuses, capacity);
+            }
+
+            starts[size] = startEpochSecond;
+            durations[size] = (short) duration;
+            statuses[size] = (byte) status.ordinal();
+            statusCounts[status.ordinal()]++;
+            size++;
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public PackedSlotList build() {
+            return new PackedSlotList(
+                    contractorId,
+                    Arrays.copyOf(starts, size),
+                    Arrays.copyOf(durations, size),
+                    Arrays.copyOf(statuses, size),
+                    statusCounts.clone()
+            );
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.presta.domain.model.valueobject;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Value Object - Récurrence d'une indisponibilité, sous-ensemble de RRULE (RFC 5545) :
+ * FREQ (DAILY, WEEKLY, MONTHLY), INTERVAL, BYDAY et BYSETPOS.
+ *
+ * Les occurrences sont comptées à partir de la date de début de la période (ancre), semaines
+ * commençant le lundi. Sans BYDAY, une récurrence hebdomadaire reprend le jour de l'ancre et une
+ * récurrence mensuelle son quantième (les mois trop courts sont sautés).
+ * BYSETPOS choisit, chaque mois, la n-ième date correspondant à BYDAY (-1 pour la dernière).
+ *
+ * Exemples : "FREQ=MONTHLY;BYDAY=MO;BYSETPOS=1" (premier lundi du mois),
+ * "FREQ=WEEKLY;INTERVAL=2;BYDAY=FR" (un vendredi sur deux).
+ */
+public record RecurrenceRule(
+        Frequency frequency,
+        int interval,
+        Set<DayOfWeek> byDays,
+        Integer bySetPos
+) {
+
+    public enum Frequency {
+        DAILY,
+        WEEKLY,
+        MONTHLY
+    }
+
+    private static final Map<String, DayOfWeek> DAY_CODES = Map.of(
+            "MO", DayOfWeek.MONDAY,
+            "TU", DayOfWeek.TUESDAY,
+            "WE", DayOfWeek.WEDNESDAY,
+            "TH", DayOfWeek.THURSDAY,
+            "FR", DayOfWeek.FRIDAY,
+            "SA", DayOfWeek.SATURDAY,
+            "SU", DayOfWeek.SUNDAY
+    );
+
+    public RecurrenceRule {
+        if (frequency == null) {
+            throw new IllegalArgumentException("La fréquence de la récurrence est obligatoire");
+        }
+        if (interval < 1 || interval > 99) {
+            throw new IllegalArgumentException("L'intervalle de la récurrence doit être entre 1 et 99");
+        }
+
+        byDays = byDays == null || byDays.isEmpty() ? Set.of() : Set.copyOf(EnumSet.copyOf(byDays));
+        if (frequency == Frequency.DAILY && !byDays.isEmpty()) {
+            throw new IllegalArgumentException("BYDAY n'est pas permis avec une récurrence quotidienne");
+        }
+
+        if (bySetPos != null) {
+            if (frequency != Frequency.MONTHLY || byDays.isEmpty()) {
+                throw new IllegalArgumentException("BYSETPOS n'est permis qu'avec une récurrence mensuelle et BYDAY");
+            }
+            if (bySetPos == 0 || bySetPos < -5 || bySetPos > 5) {
+                throw new IllegalArgumentException("BYSETPOS doit être entre 1 et 5, ou entre -5 et -1");
+            }
+        }
+    }
+
+    /**
+     * Lit une règle de la forme "FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,FR" (préfixe "RRULE:" toléré)
+     */
+    public static RecurrenceRule parse(String rrule) {
+        if (rrule == null || rrule.isBlank()) {
+            throw new IllegalArgumentException("La règle de récurrence est vide");
+        }
+
+        String value = rrule.strip();
+        if (value.regionMatches(true, 0, "RRULE:", 0, 6)) {
+            value = value.substring(6);
+        }
+
+        Frequency frequency = null;
+        int interval = 1;
+        Set<DayOfWeek> byDays = EnumSet.noneOf(DayOfWeek.class);
+        Integer bySetPos = null;
+
+        for (String part : value.split(";")) {
+            String[] keyValue = part.split("=", 2);
+            if (keyValue.length != 2) {
+                throw new IllegalArgumentException("Partie de récurrence invalide : " + part);
+            }
+
+            String key = keyValue[0].strip().toUpperCase();
+            String partValue = keyValue[1].strip().toUpperCase();
+            try {
+                switch (key) {
+                    case "FREQ" -> frequency = Frequency.valueOf(partValue);
+                    case "INTERVAL" -> interval = Integer.parseInt(partValue);
+                    case "BYDAY" -> {
+                        for (String code : partValue.split(",")) {
+                            DayOfWeek day = DAY_CODES.get(code.strip());
+                            if (day == null) {
+                                throw new IllegalArgumentException("Jour de récurrence inconnu : " + code);
+                            }
+                            byDays.add(day);
+                        }
+                    }
+                    case "BYSETPOS" -> bySetPos = Integer.parseInt(partValue);
+                    default -> throw new IllegalArgumentException("Propriété de récurrence non prise en charge : " + key);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Valeur numérique invalide pour " + key + " : " + partValue);
+            }
+        }
+
+        if (frequency == null) {
+            throw new IllegalArgumentException("FREQ est obligatoire dans une règle de récurrence");
+        }
+        return new RecurrenceRule(frequency, interval, byDays, bySetPos);
+    }
+
+    /**
+     * Forme RRULE stockée en base, relue par {@link #parse(String)}
+     */
+    public String toRRule() {
+        StringBuilder rrule = new StringBuilder("FREQ=").append(frequency);
+        if (interval > 1) {
+            rrule.append(";INTERVAL=").append(interval);
+        }
+        if (!byDays.isEmpty()) {
+            StringJoiner days = new StringJoiner(",");
+            for (DayOfWeek day : EnumSet.copyOf(byDays)) {
+                days.add(day.name().substring(0, 2));
+            }
+            rrule.append(";BYDAY=").append(days);
+        }
+        if (bySetPos != null) {
+            rrule.append(";BYSETPOS=").append(bySetPos);
+        }
+        return rrule.toString();
+    }
+
+    /**
+     * Vérifie si date est une occurrence de la règle ancrée à anchor, en temps constant
+     */
+    public boolean occursOn(LocalDate date, LocalDate anchor) {
+        if (date.isBefore(anchor)) {
+            return false;
+        }
+
+        return switch (frequency) {
+            case DAILY -> ChronoUnit.DAYS.between(anchor, date) % interval == 0;
+            case WEEKLY -> {
+                long weeks = ChronoUnit.WEEKS.between(
+                        anchor.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)),
+                        date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                );
+                DayOfWeek day = date.getDayOfWeek();
+                yield weeks % interval == 0
+                        && (byDays.isEmpty() ? day == anchor.getDayOfWeek() : byDays.contains(day));
+            }
+            case MONTHLY -> ChronoUnit.MONTHS.between(YearMonth.from(anchor), YearMonth.from(date)) % interval == 0
+                    && matchesInMonth(date, anchor);
+        };
+    }
+
+    private boolean matchesInMonth(LocalDate date, LocalDate anchor) {
+        if (byDays.isEmpty()) {
+            return date.getDayOfMonth() == anchor.getDayOfMonth();
+        }
+        if (!byDays.contains(date.getDayOfWeek())) {
+            return false;
+        }
+        if (bySetPos == null) {
+            return true;
+        }
+
+        // Rang de date parmi les jours du mois retenus par BYDAY (au plus 31 jours examinés)
+        int firstDay = date.withDayOfMonth(1).getDayOfWeek().ordinal();
+        int position = 0;
+        int total = 0;
+        for (int dayOfMonth = 1; dayOfMonth <= date.lengthOfMonth(); dayOfMonth++) {
+            if (byDays.contains(DayOfWeek.values()[(firstDay + dayOfMonth - 1) % 7])) {
+                total++;
+                if (dayOfMonth == date.getDayOfMonth()) {
+                    position = total;
+                }
+            }
+        }
+        return bySetPos > 0 ? position == bySetPos : position == total + 1 + bySetPos;
+    }
+}
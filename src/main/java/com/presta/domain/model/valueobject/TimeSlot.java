@@ -39,14 +39,17 @@ public record TimeSlot(
         return !dateTime.isBefore(startDateTime) && !dateTime.isAfter(getEndDateTime());
     }
 
+    /**
+     * Créneaux demi-ouverts [début, fin[, comme la contrainte d'exclusion des rendez-vous :
+     * deux créneaux qui se touchent ne se chevauchent pas
+     */
     public boolean overlaps(TimeSlot other) {
-        return !this.getEndDateTime().isBefore(other.startDateTime) &&
-                !other.getEndDateTime().isBefore(this.startDateTime);
+        return overlaps(other.startDateTime, other.duration);
     }
 
     public boolean overlaps(LocalDateTime otherStart, int otherDuration) {
         LocalDateTime otherEnd = otherStart.plusMinutes(otherDuration);
-        return !this.getEndDateTime().isBefore(otherStart) &&
-                !otherEnd.isBefore(this.startDateTime);
+        return this.startDateTime.isBefore(otherEnd) &&
+                otherStart.isBefore(this.getEndDateTime());
     }
 }
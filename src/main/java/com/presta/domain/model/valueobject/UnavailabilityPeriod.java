@@ -8,14 +8,22 @@ import java.util.UUID;
 /**
  * Value Object - Période d'indisponibilité
  * Représente la période exacte où le prestataire n'est pas disponible
+ *
+ * Avec une récurrence, [startDate, endDate] n'est que l'enveloppe des occurrences :
+ * seuls les jours retenus par la règle sont indisponibles, sur la plage horaire ou en entier.
  */
 public record UnavailabilityPeriod(
         LocalDate startDate,
         LocalDate endDate,
         LocalTime startTime,
-        LocalTime endTime
+        LocalTime endTime,
+        RecurrenceRule recurrence  // null = tous les jours de la période
 ) {
 
+    public UnavailabilityPeriod(LocalDate startDate, LocalDate endDate, LocalTime startTime, LocalTime endTime) {
+        this(startDate, endDate, startTime, endTime, null);
+    }
+
     public UnavailabilityPeriod {
         if (startDate == null || endDate == null) {
             throw new IllegalArgumentException("Les dates de début et fin sont obligatoires");
@@ -44,14 +52,28 @@ public record UnavailabilityPeriod(
         return startTime == null && endTime == null;
     }
 
+    public boolean isRecurring() {
+        return recurrence != null;
+    }
+
+    /**
+     * Vérifie si la période s'applique ce jour-là (dans l'enveloppe et, le cas échéant, jour d'occurrence)
+     */
+    public boolean occursOn(LocalDate date) {
+        if (date.isBefore(startDate) || date.isAfter(endDate)) {
+            return false;
+        }
+        return recurrence == null || recurrence.occursOn(date, startDate);
+    }
+
     /**
      * Vérifie si une date/heure spécifique tombe dans cette période d'indisponibilité
      */
     public boolean contains(LocalDateTime dateTime) {
         LocalDate date = dateTime.toLocalDate();
 
-        // Vérifier si la date est dans la période
-        if (date.isBefore(startDate) || date.isAfter(endDate)) {
+        // Vérifier si la date est dans la période (et est une occurrence)
+        if (!occursOn(date)) {
             return false;
         }
 
@@ -66,39 +88,76 @@ public record UnavailabilityPeriod(
     }
 
     /**
-     * Vérifie si cette période chevauche avec un créneau
+     * Vérifie si cette période chevauche avec un créneau (bornes incluses)
+     *
+     * Seuls les jours du créneau peuvent porter une plage qui le chevauche : la recherche est ramenée
+     * à ces jours, quelle que soit la longueur de la période, et compare directement les heures.
      */
     public boolean overlapsWithSlot(LocalDateTime slotStart, LocalDateTime slotEnd) {
-        // Si le slot est complètement avant ou après la période
-        if (slotEnd.toLocalDate().isBefore(startDate) ||
-                slotStart.toLocalDate().isAfter(endDate)) {
+        LocalDate slotStartDate = slotStart.toLocalDate();
+        LocalDate slotEndDate = slotEnd.toLocalDate();
+
+        // Jours communs au créneau et à la période
+        LocalDate first = slotStartDate.isAfter(startDate) ? slotStartDate : startDate;
+        LocalDate last = slotEndDate.isBefore(endDate) ? slotEndDate : endDate;
+        if (first.isAfter(last)) {
             return false;
         }
 
-        // Si journée complète, vérifier si le slot tombe dans les jours
+        if (recurrence != null) {
+            return recurringOverlaps(first, last, slotStart, slotEnd);
+        }
+
+        // Si journée complète, tout jour commun est indisponible
         if (isFullDay()) {
-            return !slotEnd.toLocalDate().isBefore(startDate) &&
-                    !slotStart.toLocalDate().isAfter(endDate);
+            return true;
         }
 
-        // Vérification plus fine avec les heures
-        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-            LocalDateTime periodStart = LocalDateTime.of(date, startTime);
-            LocalDateTime periodEnd = LocalDateTime.of(date, endTime);
+        // Un jour commun strictement intérieur au créneau est couvert en entier, plage horaire comprise
+        if (last.toEpochDay() - first.toEpochDay() >= 2) {
+            return true;
+        }
 
-            // Vérifier le chevauchement
-            if (!slotEnd.isBefore(periodStart) && !slotStart.isAfter(periodEnd)) {
+        return overlapsOn(first, slotStart, slotEnd) || overlapsOn(last, slotStart, slotEnd);
+    }
+
+    /**
+     * Même vérification, limitée aux jours d'occurrence parmi les jours communs
+     * (autant de jours que le créneau en couvre, indépendamment de la longueur de la période)
+     */
+    private boolean recurringOverlaps(LocalDate first, LocalDate last, LocalDateTime slotStart, LocalDateTime slotEnd) {
+        for (LocalDate date = first; !date.isAfter(last); date = date.plusDays(1)) {
+            if (!recurrence.occursOn(date, startDate)) {
+                continue;
+            }
+            if (isFullDay()
+                    || (date.isAfter(slotStart.toLocalDate()) && date.isBefore(slotEnd.toLocalDate()))
+                    || overlapsOn(date, slotStart, slotEnd)) {
                 return true;
             }
         }
-
         return false;
     }
 
+    /**
+     * Compare la plage horaire du jour date à la portion du créneau tombant ce jour-là
+     */
+    private boolean overlapsOn(LocalDate date, LocalDateTime slotStart, LocalDateTime slotEnd) {
+        boolean startsBeforeRangeEnd = date.isAfter(slotStart.toLocalDate())
+                || !slotStart.toLocalTime().isAfter(endTime);
+        boolean endsAfterRangeStart = date.isBefore(slotEnd.toLocalDate())
+                || !slotEnd.toLocalTime().isBefore(startTime);
+        return startsBeforeRangeEnd && endsAfterRangeStart;
+    }
+
     /**
      * Retourne une représentation textuelle de la période
      */
     public String toDisplayString() {
+        if (recurrence != null) {
+            String window = isFullDay() ? "journées complètes" : String.format("de %s à %s", startTime, endTime);
+            return String.format("Du %s au %s, %s, selon %s", startDate, endDate, window, recurrence.toRRule());
+        }
         if (startDate.equals(endDate)) {
             if (isFullDay()) {
                 return String.format("Le %s (journée complète)", startDate);
@@ -0,0 +1,13 @@
+package com.presta.domain.port;
+
+import com.presta.domain.model.AppointmentEvent;
+
+/**
+ * Consommateur des événements de rendez-vous (notifications, rappels, invalidations...),
+ * appelé hors des requêtes par le dispatcher de l'outbox.
+ * Un événement peut être livré plusieurs fois : le traitement doit être idempotent.
+ */
+public interface AppointmentEventHandler {
+
+    void handle(AppointmentEvent event);
+}
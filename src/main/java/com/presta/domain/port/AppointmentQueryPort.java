@@ -1,6 +1,8 @@
 package com.presta.domain.port;
 
 import com.presta.domain.model.Appointment;
+import com.presta.domain.model.BatchBookingResult;
+import com.presta.domain.model.valueobject.BatchBookingMode;
 import com.presta.domain.model.valueobject.TimeSlot;
 
 import java.time.LocalDate;
@@ -42,6 +44,20 @@ public interface AppointmentQueryPort {
      */
     Appointment bookAppointment(Appointment command);
 
+    /**
+     * Réserve un rendez-vous de façon idempotente : une relance du même client avec la même clé
+     * renvoie le rendez-vous déjà créé sans refaire la réservation (clé null : réservation classique)
+     * @throws AppointmentConflictException si la clé a déjà servi pour un autre créneau
+     */
+    Appointment bookAppointment(Appointment command, String idempotencyKey);
+
+    /**
+     * Réserve plusieurs créneaux d'un même client chez un même prestataire (série, récurrence),
+     * validés contre un seul chargement des règles, indisponibilités et rendez-vous
+     * @throws IllegalArgumentException si le lot mélange plusieurs prestataires ou clients
+     */
+    BatchBookingResult bookAppointments(List<Appointment> commands, BatchBookingMode mode);
+
 
     /**
      * Confirme un rendez-vous (action du prestataire)
@@ -61,6 +77,18 @@ public interface AppointmentQueryPort {
      */
     void completeAppointment(UUID appointmentId);
 
+    /**
+     * Confirme en une seule requête tous les rendez-vous confirmables du prestataire pour ce jour
+     * @return le nombre de rendez-vous confirmés
+     */
+    int confirmAllPendingForDate(UUID contractorId, LocalDate date);
+
+    /**
+     * Termine en une seule requête tous les rendez-vous du prestataire qui ont commencé et peuvent être terminés
+     * @return le nombre de rendez-vous terminés
+     */
+    int completeAllPast(UUID contractorId);
+
     /**
      * Ajoute une note à un rendez-vous
      */
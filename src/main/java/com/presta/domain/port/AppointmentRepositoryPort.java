@@ -1,14 +1,76 @@
 package com.presta.domain.port;
 
+import com.presta.domain.exception.AppointmentConflictException;
 import com.presta.domain.model.Appointment;
+import com.presta.domain.model.valueobject.AppointmentStatus;
+import com.presta.domain.model.valueobject.TimeSlot;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface AppointmentRepositoryPort {
     Appointment save(Appointment appointment);
+
+    /**
+     * Insère plusieurs nouveaux rendez-vous en un lot JDBC
+     */
+    List<Appointment> saveAll(List<Appointment> appointments);
+
+    /**
+     * Enregistre le statut et les notes d'un rendez-vous lu puis modifié, à condition qu'il ait encore
+     * le statut expectedStatus et la version lue
+     * @throws AppointmentConflictException si une autre transition l'a modifié entre-temps
+     */
+    void updateState(Appointment appointment, AppointmentStatus expectedStatus);
+
+    /**
+     * Passe à toStatus, en une seule requête, les rendez-vous du contractor commençant dans [start, end)
+     * dont le statut est dans fromStatuses
+     * @return le nombre de rendez-vous modifiés
+     */
+    int updateStatusBetween(
+            UUID contractorId,
+            LocalDateTime start,
+            LocalDateTime end,
+            Set<AppointmentStatus> fromStatuses,
+            AppointmentStatus toStatus
+    );
+
+    /**
+     * Passe à toStatus, en une seule requête, les rendez-vous du contractor commencés au plus tard à before
+     * dont le statut est dans fromStatuses
+     * @return le nombre de rendez-vous modifiés
+     */
+    int updateStatusStartedBefore(
+            UUID contractorId,
+            LocalDateTime before,
+            Set<AppointmentStatus> fromStatuses,
+            AppointmentStatus toStatus
+    );
+
+    /**
+     * Rendez-vous confirmés sans rappel commençant dans [start, end), triés par (début, id),
+     * strictement après le curseur (afterDateTime, afterId) : pagination par clé
+     */
+    List<Appointment> findReminderCandidates(
+            LocalDateTime start,
+            LocalDateTime end,
+            LocalDateTime afterDateTime,
+            UUID afterId,
+            int limit
+    );
+
+    /**
+     * Marque le rappel de ces rendez-vous comme dû et le confie à l'outbox. Un rendez-vous déjà marqué
+     * ou qui n'est plus confirmé est ignoré : deux planificateurs ne programment jamais le même rappel
+     * @return le nombre de rappels programmés
+     */
+    int markRemindersDue(Collection<UUID> appointmentIds, LocalDateTime now);
+
     Optional<Appointment> findById(UUID id);
     List<Appointment> findByClientId(UUID clientId);
     List<Appointment> findByContractorId(UUID contractorId);
@@ -23,6 +85,16 @@ public interface AppointmentRepositoryPort {
             LocalDateTime end
     );
 
+    /**
+     * Créneaux des rendez-vous actifs (PENDING, CONFIRMED) commençant dans [start, end],
+     * triés par début. Lecture légère pour le planning et la détection de conflits.
+     */
+    List<TimeSlot> findActiveSlotsByContractorIdAndPeriod(
+            UUID contractorId,
+            LocalDateTime start,
+            LocalDateTime end
+    );
+
     boolean existsByContractorAndDateTime(UUID contractorId, LocalDateTime dateTime);
     void deleteById(UUID id);
 
@@ -24,5 +24,10 @@ public interface AssignmentPort {
     List<Assignment> findAll();
     void deleteById(UUID id);
     boolean exists(UUID id);
+
+    /**
+     * Contractors actifs de la catégorie (compte utilisateur non désactivé)
+     */
+    List<UUID> findActiveContractorIds(UUID assignmentId);
     Page<Assignment> findAssignments(String searchName, Pageable pageable);
 }
\ No newline at end of file
@@ -2,12 +2,18 @@ package com.presta.domain.port;
 
 import com.presta.domain.model.AvailabilityRule;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface AvailabilityRuleRepositoryPort {
     List<AvailabilityRule> findActiveByContractorId(UUID id);
+
+    /**
+     * Règles actives de plusieurs contractors, pauses comprises, en une seule requête
+     */
+    List<AvailabilityRule> findActiveByContractorIds(Collection<UUID> contractorIds);
     AvailabilityRule save(AvailabilityRule availabilityRule);
     Optional<AvailabilityRule> findById(UUID id);
     void deleteById(UUID id);
@@ -0,0 +1,19 @@
+package com.presta.domain.port;
+
+import com.presta.domain.model.BookingContext;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface BookingContextPort {
+
+    /**
+     * Charge en un seul aller-retour le contexte de validation des réservations tombant dans [startDate, endDate]
+     */
+    BookingContext loadBookingContext(
+            UUID contractorId,
+            UUID clientId,
+            LocalDate startDate,
+            LocalDate endDate
+    );
+}
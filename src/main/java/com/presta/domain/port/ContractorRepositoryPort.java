@@ -3,6 +3,8 @@ package com.presta.domain.port;
 import com.presta.domain.model.Contractor;
 import org.springframework.data.domain.Page;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,11 +16,19 @@ public interface ContractorRepositoryPort {
             String speciality,
             String assignmentId,    // NOUVEAU
             String address,         // NOUVEAU
+            LocalDate availableOn,  // créneau libre ce jour-là
+            LocalTime availableAt,  // ... commençant à cette heure (avec availableOn)
             int page,
             int size,
             String sortBy,
             String sortDirection
-    ) {}
+    ) {
+        public ContractorSearchCriteria {
+            if (availableAt != null && availableOn == null) {
+                throw new IllegalArgumentException("availableAt nécessite availableOn");
+            }
+        }
+    }
 
     Page<Contractor> searchContractors(ContractorSearchCriteria criteria);
     Contractor updateContractor( UUID contractorId , String address , UUID assignmentId , String speciality);
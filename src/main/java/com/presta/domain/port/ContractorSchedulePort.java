@@ -3,9 +3,11 @@ package com.presta.domain.port;
 import com.presta.domain.model.Appointment;
 import com.presta.domain.model.AvailabilityRule;
 import com.presta.domain.model.ContractorPlanning;
+import com.presta.domain.model.ScheduleConstraints;
 import com.presta.domain.model.UnavailabilityRule;
 import com.presta.domain.model.valueobject.AvailabilityStatus;
 import com.presta.domain.model.valueobject.AvailableSlot;
+import com.presta.domain.model.valueobject.PlanningMetadata;
 import com.presta.domain.model.valueobject.TimeSlot;
 
 import java.time.LocalDate;
@@ -43,6 +45,41 @@ public interface ContractorSchedulePort {
             LocalDate endDate
     );
 
+    /**
+     * Génère le planning à partir de plusieurs règles de disponibilité actives
+     * (ex : matin / après-midi, semaine / week-end).
+     * Les créneaux des règles sont fusionnés triés ; un créneau identique (même début, même durée)
+     * fourni par plusieurs règles n'apparaît qu'une fois. Aucune règle active : planning vide.
+     *
+     * @param contractorId         ID du contractor
+     * @param availabilityRules    Règles de disponibilité du contractor (les inactives sont ignorées)
+     * @param unavailabilityRules  Liste des indisponibilités (vacances, absences) à partir d'aujourd'hui
+     * @param existingAppointments Rendez-vous déjà pris sur la période
+     * @param startDate            Date de début du planning
+     * @param endDate              Date de fin du planning
+     * @return Planning complet avec tous les créneaux et leur statut
+     */
+    ContractorPlanning generatePlanning(
+            UUID contractorId,
+            List<AvailabilityRule> availabilityRules,
+            List<UnavailabilityRule> unavailabilityRules,
+            List<Appointment> existingAppointments,
+            LocalDate startDate,
+            LocalDate endDate
+    );
+
+    /**
+     * Variante recevant les contraintes déjà réduites à l'essentiel
+     * (indisponibilités et créneaux réservés issus d'une projection)
+     */
+    ContractorPlanning generatePlanning(
+            UUID contractorId,
+            List<AvailabilityRule> availabilityRules,
+            ScheduleConstraints constraints,
+            LocalDate startDate,
+            LocalDate endDate
+    );
+
     /**
      * Génère uniquement la liste des créneaux avec leur statut
      * Version simplifiée sans wrapper object
@@ -64,6 +101,65 @@ public interface ContractorSchedulePort {
             LocalDate endDate
     );
 
+    /**
+     * Génère les créneaux dans l'ordre chronologique et les transmet un par un
+     * au consommateur, sans jamais construire la liste complète en mémoire.
+     * Les métadonnées sont calculées au fil de la génération.
+     *
+     * @param contractorId        ID du contractor
+     * @param availabilityRule    Règle de disponibilité avec BreakTimes
+     * @param unavailabilityRules Indisponibilités futures
+     * @param appointments        Rendez-vous existants
+     * @param startDate           Date de début
+     * @param endDate             Date de fin
+     * @param consumer            Reçoit chaque créneau dès qu'il est marqué
+     * @return Métadonnées du planning, connues une fois le dernier créneau émis
+     */
+    PlanningMetadata streamSlots(
+            UUID contractorId,
+            AvailabilityRule availabilityRule,
+            List<UnavailabilityRule> unavailabilityRules,
+            List<Appointment> appointments,
+            LocalDate startDate,
+            LocalDate endDate,
+            SlotConsumer consumer
+    );
+
+    /**
+     * Version multi-règles de {@link #streamSlots(UUID, AvailabilityRule, List, List, LocalDate, LocalDate, SlotConsumer)},
+     * avec la même fusion que {@link #generatePlanning(UUID, List, List, List, LocalDate, LocalDate)}
+     */
+    PlanningMetadata streamSlots(
+            UUID contractorId,
+            List<AvailabilityRule> availabilityRules,
+            List<UnavailabilityRule> unavailabilityRules,
+            List<Appointment> appointments,
+            LocalDate startDate,
+            LocalDate endDate,
+            SlotConsumer consumer
+    );
+
+    /**
+     * Variante en flux de {@link #generatePlanning(UUID, List, ScheduleConstraints, LocalDate, LocalDate)}
+     */
+    PlanningMetadata streamSlots(
+            UUID contractorId,
+            List<AvailabilityRule> availabilityRules,
+            ScheduleConstraints constraints,
+            LocalDate startDate,
+            LocalDate endDate,
+            SlotConsumer consumer
+    );
+
+    /**
+     * Reçoit un créneau généré : début en secondes epoch (LocalDateTime vu comme UTC),
+     * durée en minutes et statut
+     */
+    @FunctionalInterface
+    interface SlotConsumer {
+        void accept(long startEpochSecond, int duration, AvailabilityStatus status);
+    }
+
     // ========== RECHERCHE DE CRÉNEAUX SPÉCIFIQUES ==========
 
     /**
@@ -1,6 +1,7 @@
 package com.presta.domain.port;
 
 import com.presta.domain.model.ContractorPlanning;
+import com.presta.domain.model.valueobject.PlanningMetadata;
 
 import java.time.LocalDate;
 import java.util.UUID;
@@ -12,4 +13,22 @@ public interface ContractorScheduleUseCasePort {
             LocalDate startDate,
             LocalDate endDate
     );
+
+    /**
+     * Charge immédiatement les données nécessaires au planning (les erreurs sont levées ici),
+     * mais ne génère les créneaux qu'à l'appel de {@link PlanningStream#writeTo}
+     */
+    PlanningStream openPlanningStream(
+            UUID contractorId,
+            LocalDate startDate,
+            LocalDate endDate
+    );
+
+    /**
+     * Génération différée d'un planning, créneau par créneau
+     */
+    @FunctionalInterface
+    interface PlanningStream {
+        PlanningMetadata writeTo(ContractorSchedulePort.SlotConsumer consumer);
+    }
 }
@@ -0,0 +1,39 @@
+package com.presta.domain.port;
+
+import com.presta.domain.model.ContractorSlot;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Index SQL des créneaux libres des contractors, sur un horizon glissant
+ */
+public interface FreeSlotIndexPort {
+
+    /**
+     * Dernier jour indexé d'un contractor, null s'il n'a jamais été indexé
+     */
+    record Horizon(UUID contractorId, LocalDate refreshedUntil) {}
+
+    /**
+     * Verrou du contractor jusqu'à la fin de la transaction courante : à prendre avant de lire ses
+     * règles, indisponibilités et réservations, pour qu'un calcul périmé ne puisse pas être écrit
+     * après celui qui a suivi une modification
+     */
+    void lockContractor(UUID contractorId);
+
+    /**
+     * Remplace, en une transaction, les créneaux libres du contractor pour les jours de [fromDate, toDate]
+     * et repousse son horizon à toDate s'il était plus court
+     */
+    void replaceFreeSlots(UUID contractorId, LocalDate fromDate, LocalDate toDate, List<ContractorSlot> slots);
+
+    /**
+     * Contractors ayant au moins une règle active dont l'horizon n'atteint pas until,
+     * par identifiant croissant après afterId
+     */
+    List<Horizon> findHorizonsBefore(LocalDate until, UUID afterId, int limit);
+
+    int purgeBefore(LocalDate date);
+}
@@ -0,0 +1,18 @@
+package com.presta.domain.port;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface IdempotencyKeyPort {
+
+    /**
+     * Rendez-vous créé avec cette clé par ce client, si la clé a été enregistrée après notBefore
+     */
+    Optional<UUID> findAppointmentId(UUID clientId, String idempotencyKey, LocalDateTime notBefore);
+
+    /**
+     * Associe la clé au rendez-vous créé (remplace une clé expirée)
+     */
+    void save(UUID clientId, String idempotencyKey, UUID appointmentId);
+}
@@ -0,0 +1,17 @@
+package com.presta.domain.port;
+
+import com.presta.domain.model.DailyBookingCount;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface OccupancyQueryPort {
+
+    /**
+     * Rendez-vous non annulés par contractor et par jour de [startDate, endDate], en une seule requête agrégée.
+     * Les jours sans rendez-vous sont absents.
+     */
+    List<DailyBookingCount> countBookingsByDay(Collection<UUID> contractorIds, LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,42 @@
+package com.presta.domain.port;
+
+import com.presta.domain.model.AppointmentEvent;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface OutboxPort {
+
+    /**
+     * Ajoute des événements à l'outbox, dans la transaction en cours
+     */
+    void append(List<AppointmentEvent> events);
+
+    /**
+     * Réserve jusqu'à limit événements dus, les plus anciens d'abord : ils restent invisibles
+     * des autres dispatchers pendant lease, puis redeviennent dus s'ils n'ont pas été acquittés.
+     * Un événement n'est pas réservé tant qu'un événement antérieur du même rendez-vous reste à traiter.
+     */
+    List<AppointmentEvent> claim(int limit, Duration lease);
+
+    void markProcessed(Collection<UUID> eventIds);
+
+    /**
+     * Livraison échouée : l'événement redevient dû à retryAt
+     */
+    void markFailed(UUID eventId, LocalDateTime retryAt, String error);
+
+    /**
+     * Livraison abandonnée : l'événement n'est plus proposé et garde son erreur
+     */
+    void markAbandoned(UUID eventId, String error);
+
+    /**
+     * Supprime les événements livrés avant before
+     * @return le nombre d'événements supprimés
+     */
+    int purgeProcessedBefore(LocalDateTime before);
+}
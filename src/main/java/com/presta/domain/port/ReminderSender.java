@@ -0,0 +1,11 @@
+package com.presta.domain.port;
+
+import com.presta.domain.model.AppointmentEvent;
+
+/**
+ * Envoi du rappel d'un rendez-vous au client (mail, SMS, push...)
+ */
+public interface ReminderSender {
+
+    void sendReminder(AppointmentEvent reminder);
+}
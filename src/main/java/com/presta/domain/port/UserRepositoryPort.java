@@ -7,6 +7,8 @@ import com.presta.domain.model.valueobject.KeycloakUserId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -31,7 +33,12 @@ public interface UserRepositoryPort {
     Optional<Contractor> findContractorById(UUID id);
 
 
-    Page<Contractor> findContractors(String name, String speciality, String assignmentId, String address, Pageable pageable);
+    /**
+     * availableOn (et availableAt) restreignent aux contractors ayant un créneau libre ce jour-là (à cette heure),
+     * d'après l'index des créneaux libres ; aujourd'hui, seuls les créneaux pas encore commencés comptent
+     */
+    Page<Contractor> findContractors(String name, String speciality, String assignmentId, String address,
+                                     LocalDate availableOn, LocalTime availableAt, Pageable pageable);
     Page<Client> findClients(String name, Pageable pageable);
 
 }
@@ -6,6 +6,7 @@ import com.presta.domain.exception.OutsideAvailabilityException;
 import com.presta.domain.exception.UnavailabilityConflictException;
 import com.presta.domain.model.Appointment;
 import com.presta.domain.model.AvailabilityRule;
+import com.presta.domain.model.ScheduleConstraints;
 import com.presta.domain.model.UnavailabilityRule;
 import com.presta.domain.model.valueobject.AppointmentStatus;
 import com.presta.domain.model.valueobject.TimeSlot;
@@ -14,7 +15,6 @@ import java.time.*;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public class AppointmentDomainService {
 
@@ -125,6 +125,20 @@ public class AppointmentDomainService {
                 .anyMatch(apt -> apt.blocksTimeSlot(proposedDateTime, duration));
     }
 
+    /**
+     * Même vérification à partir des seuls créneaux des rendez-vous actifs (projection)
+     */
+    public boolean hasConflictWithBookedSlots(
+            LocalDateTime proposedDateTime,
+            int duration,
+            List<TimeSlot> bookedSlots) {
+
+        if (bookedSlots == null) return false;
+
+        return bookedSlots.stream()
+                .anyMatch(slot -> slot.overlaps(proposedDateTime, duration));
+    }
+
 
     public LocalDateTime findNextAvailableSlot(
             LocalDateTime afterDateTime,
@@ -133,57 +147,19 @@ public class AppointmentDomainService {
             List<UnavailabilityRule> unavailabilities,
             List<Appointment> existingAppointments) {
 
-        if (rules == null || rules.isEmpty()) return null;
-
-        var searchDate = afterDateTime.toLocalDate();
-        var endDate = searchDate.plusDays(MAX_SEARCH_DAYS);
-
-        while (!searchDate.isAfter(endDate)) {
-            for (var rule : rules) {
-                if (!rule.appliesTo(searchDate.getDayOfWeek()) || !rule.isActive() ||
-                        rule.getSlotConfig().slotDuration() != requiredDuration) continue;
-
-                var totalSlot = rule.getSlotConfig().slotDuration() + rule.getSlotConfig().restTime();
-                var ruleStart = rule.getTimeRange().startTime();
-                var ruleEnd = rule.getTimeRange().endTime();
-
-                // Calculer le premier créneau valide
-                var startTime = searchDate.equals(afterDateTime.toLocalDate()) ?
-                        afterDateTime.toLocalTime().isAfter(ruleStart) ? afterDateTime.toLocalTime() : ruleStart
-                        : ruleStart;
-
-                // Aligner sur la grille
-                var offset = Duration.between(ruleStart, startTime).toMinutes();
-                if (offset % totalSlot != 0) {
-                    startTime = ruleStart.plusMinutes(((offset / totalSlot) + 1) * totalSlot);
-                }
-
-                // Tester chaque créneau de cette règle
-                for (var slot = searchDate.atTime(startTime);
-                     !slot.toLocalTime().plusMinutes(requiredDuration).isAfter(ruleEnd);
-                     slot = slot.plusMinutes(totalSlot)) {
-
-                    // Vérifier uniquement les blocages (pas besoin de re-vérifier les règles)
-                    var proposedSlot = new TimeSlot(slot, requiredDuration);
-
-                    boolean blocked = unavailabilities != null &&
-                            unavailabilities.stream().anyMatch(u -> u.blocksTimeSlot(proposedSlot));
-
-                    LocalDateTime finalSlot = slot;
-                    boolean hasConflict = existingAppointments != null &&
-                            existingAppointments.stream()
-                                    .filter(apt -> apt.getStatus() != AppointmentStatus.CANCELLED &&
-                                            apt.getStatus() != AppointmentStatus.COMPLETED)
-                                    .anyMatch(apt -> apt.blocksTimeSlot(finalSlot, requiredDuration));
-
-                    if (!blocked && !hasConflict) {
-                        return slot;
-                    }
-                }
-            }
-            searchDate = searchDate.plusDays(1);
-        }
-        return null;
+        if (rules == null || rules.isEmpty() || afterDateTime == null) return null;
+
+        // Grille fusionnée et contraintes indexées une seule fois : les journées indisponibles
+        // et les plages réservées sont sautées au lieu d'être testées créneau par créneau
+        LocalDate searchDate = afterDateTime.toLocalDate();
+        LocalDate endDate = searchDate.plusDays(MAX_SEARCH_DAYS);
+        AvailabilityIndex index = AvailabilityIndex.of(
+                rules,
+                ScheduleConstraints.of(unavailabilities, existingAppointments),
+                searchDate,
+                endDate
+        );
+        return index.findNextAvailable(afterDateTime, endDate, requiredDuration).orElse(null);
     }
 
     private List<LocalDateTime> generatePossibleSlotsForDay(
@@ -225,26 +201,18 @@ public class AppointmentDomainService {
 
         if (!isValidPeriod(rules, startDate, endDate)) return 0.0;
 
-        long totalSlots = countTotalPossibleSlots(rules, startDate, endDate);
+        long totalSlots = SlotCapacity.of(rules).slotsBetween(startDate, endDate);
         if (totalSlots == 0) return 0.0;
 
         long occupiedSlots = countOccupiedSlots(appointments, startDate, endDate);
         return (double) occupiedSlots / totalSlots * 100;
     }
 
-    private long countTotalPossibleSlots(List<AvailabilityRule> rules, LocalDate startDate, LocalDate endDate) {
-        return Stream.iterate(startDate, date -> date.plusDays(1))
-                .takeWhile(date -> !date.isAfter(endDate))
-                .flatMap(date -> rules.stream()
-                        .filter(rule -> rule.appliesTo(date.getDayOfWeek()) && rule.isActive())
-                        .flatMap(rule -> rule.generateSlotsForDay(date).stream()))
-                .count();
-    }
-
+    // Un rendez-vous terminé a occupé son créneau : seuls les annulés sont exclus
     private long countOccupiedSlots(List<Appointment> appointments, LocalDate startDate, LocalDate endDate) {
         return appointments.stream()
                 .filter(apt -> isAppointmentInPeriod(apt, startDate, endDate))
-                .filter(this::isActiveAppointment)
+                .filter(apt -> apt.getStatus() != AppointmentStatus.CANCELLED)
                 .count();
     }
 
@@ -266,6 +234,20 @@ public class AppointmentDomainService {
         return hoursUntil >= REMINDER_MIN_HOURS && hoursUntil <= REMINDER_MAX_HOURS;
     }
 
+    /**
+     * Début de la plage [start, end) des rendez-vous pour lesquels shouldSendReminder peut être vrai à now
+     */
+    public LocalDateTime reminderWindowStart(LocalDateTime now) {
+        return now.plusHours(REMINDER_MIN_HOURS);
+    }
+
+    /**
+     * Fin exclue de la plage : le nombre d'heures restant est tronqué, 48h59 compte encore pour 48h
+     */
+    public LocalDateTime reminderWindowEnd(LocalDateTime now) {
+        return now.plusHours(REMINDER_MAX_HOURS + 1);
+    }
+
     // Méthodes utilitaires privées
     private boolean hasAvailabilityRules(List<AvailabilityRule> rules) {
         return rules != null && !rules.isEmpty();
@@ -0,0 +1,152 @@
+package com.presta.domain.service;
+
+import com.presta.domain.model.AvailabilityRule;
+import com.presta.domain.model.ScheduleConstraints;
+import com.presta.domain.model.valueobject.AvailabilityStatus;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Moteur de disponibilité d'un contractor sur une fenêtre de dates : grille fusionnée des règles actives,
+ * index des indisponibilités et index des créneaux réservés, construits une seule fois.
+ *
+ * Le statut d'un créneau s'obtient en O(log n) (recherche dans la grille du jour puis dans chaque index),
+ * sans générer les autres créneaux. Comme {@link IntervalIndex}, une instance n'est pas thread-safe.
+ */
+public final class AvailabilityIndex {
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+
+    private final MergedSlotGrid grid;
+    private final IntervalIndex unavailabilityIndex;
+    private final IntervalIndex bookedIndex;
+
+    private AvailabilityIndex(MergedSlotGrid grid, IntervalIndex unavailabilityIndex, IntervalIndex bookedIndex) {
+        this.grid = grid;
+        this.unavailabilityIndex = unavailabilityIndex;
+        this.bookedIndex = bookedIndex;
+    }
+
+    /**
+     * Indexe les règles et contraintes pour des créneaux compris dans [fromDate, toDate] (contraintes null tolérées)
+     */
+    public static AvailabilityIndex of(
+            List<AvailabilityRule> availabilityRules,
+            ScheduleConstraints constraints,
+            LocalDate fromDate,
+            LocalDate toDate) {
+
+        ScheduleConstraints effectiveConstraints = constraints != null ? constraints : ScheduleConstraints.none();
+        return new AvailabilityIndex(
+                MergedSlotGrid.of(availabilityRules),
+                IntervalIndex.ofUnavailabilities(effectiveConstraints.unavailabilities(), fromDate, toDate),
+                IntervalIndex.ofTimeSlots(effectiveConstraints.bookedSlots())
+        );
+    }
+
+    public MergedSlotGrid grid() {
+        return grid;
+    }
+
+    /**
+     * Statut du créneau [start, end] (secondes epoch)
+     * Ordre de priorité : PAST > UNAVAILABLE > BOOKED > AVAILABLE
+     */
+    public AvailabilityStatus statusOf(long start, long end, long pastLimit) {
+        if (start < pastLimit) {
+            return AvailabilityStatus.PAST;
+        }
+        if (unavailabilityIndex.overlaps(start, end)) {
+            return AvailabilityStatus.UNAVAILABLE;
+        }
+        if (bookedIndex.overlaps(start, end)) {
+            return AvailabilityStatus.BOOKED;
+        }
+        return AvailabilityStatus.AVAILABLE;
+    }
+
+    /**
+     * Vérifie qu'un créneau de la grille commence exactement à startDateTime avec cette durée,
+     * qu'il n'est pas passé par rapport à now et qu'il est disponible
+     */
+    public boolean isSlotAvailable(LocalDateTime startDateTime, int duration, LocalDateTime now) {
+        if (startDateTime.isBefore(now)) {
+            return false;
+        }
+
+        DayOfWeek dayOfWeek = startDateTime.getDayOfWeek();
+        int startOffset = startDateTime.toLocalTime().toSecondOfDay();
+        if (grid.indexOf(dayOfWeek, startOffset, duration) < 0) {
+            return false;
+        }
+
+        long start = startDateTime.toLocalDate().toEpochDay() * SECONDS_PER_DAY + startOffset;
+        return statusOf(start, start + duration * 60L, Long.MIN_VALUE) == AvailabilityStatus.AVAILABLE;
+    }
+
+    /**
+     * Premier créneau disponible de la grille durant duration minutes, commençant à from ou après
+     * et au plus tard le jour toDate.
+     *
+     * Une fin de journée couverte par une indisponibilité est sautée d'un bloc, jusqu'à la fin de celle-ci.
+     * Un créneau bloqué fait reprendre la recherche après la fin de l'intervalle qui le bloque :
+     * une journée complète coûte une recherche dichotomique par rendez-vous, pas un test par créneau.
+     */
+    public Optional<LocalDateTime> findNextAvailable(LocalDateTime from, LocalDate toDate, int duration) {
+        if (grid.isEmpty()) {
+            return Optional.empty();
+        }
+
+        long limit = (toDate.toEpochDay() + 1) * SECONDS_PER_DAY;
+        long slotLength = duration * 60L;
+        long cursor = IntervalIndex.toSeconds(from);
+
+        while (cursor < limit) {
+            long epochDay = Math.floorDiv(cursor, SECONDS_PER_DAY);
+            long midnight = epochDay * SECONDS_PER_DAY;
+            long nextMidnight = midnight + SECONDS_PER_DAY;
+
+            // Reste de la journée indisponible : reprendre directement à la fin de l'indisponibilité
+            long unavailableUntil = unavailabilityIndex.blockedUntil(cursor, cursor);
+            if (unavailableUntil >= nextMidnight - 1) {
+                cursor = unavailableUntil + 1;
+                continue;
+            }
+
+            DayOfWeek dayOfWeek = LocalDate.ofEpochDay(epochDay).getDayOfWeek();
+            int size = grid.size(dayOfWeek);
+            int i = grid.firstStartingAtOrAfter(dayOfWeek, (int) (cursor - midnight));
+            cursor = nextMidnight;
+
+            while (i < size) {
+                if (grid.durationAt(dayOfWeek, i) != duration) {
+                    i++;
+                    continue;
+                }
+
+                long start = midnight + grid.startOffsetAt(dayOfWeek, i);
+                long end = start + slotLength;
+                long blockedUntil = Math.max(
+                        unavailabilityIndex.blockedUntil(start, end),
+                        bookedIndex.blockedUntil(start, end)
+                );
+                if (blockedUntil == Long.MIN_VALUE) {
+                    return Optional.of(LocalDateTime.ofEpochSecond(start, 0, ZoneOffset.UTC));
+                }
+
+                // Les créneaux de même durée commençant avant cette fin sont bloqués eux aussi
+                if (blockedUntil >= nextMidnight) {
+                    cursor = blockedUntil + 1;
+                    break;
+                }
+                i = grid.firstStartingAtOrAfter(dayOfWeek, (int) (blockedUntil - midnight) + 1);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -4,12 +4,15 @@ import com.presta.domain.model.*;
 import com.presta.domain.model.valueobject.*;
 import com.presta.domain.port.ContractorSchedulePort;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 public class ContractorScheduleService  implements ContractorSchedulePort {
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+
     @Override
     public ContractorPlanning generatePlanning(
             UUID contractorId,
@@ -33,120 +36,220 @@ public class ContractorScheduleService  implements ContractorSchedulePort {
             );
         }
 
-        // 2. Générer les créneaux avec leur statut
-        List<AvailableSlot> slots = generateSlots(
+        return generatePlanning(
                 contractorId,
-                availabilityRule,
+                List.of(availabilityRule),
                 unavailabilityRules,
                 existingAppointments,
                 startDate,
                 endDate
         );
+    }
+
+    @Override
+    public ContractorPlanning generatePlanning(
+            UUID contractorId,
+            List<AvailabilityRule> availabilityRules,
+            List<UnavailabilityRule> unavailabilityRules,
+            List<Appointment> existingAppointments,
+            LocalDate startDate,
+            LocalDate endDate) {
+
+        return generatePlanning(
+                contractorId,
+                availabilityRules,
+                ScheduleConstraints.of(unavailabilityRules, existingAppointments),
+                startDate,
+                endDate
+        );
+    }
+
+    @Override
+    public ContractorPlanning generatePlanning(
+            UUID contractorId,
+            List<AvailabilityRule> availabilityRules,
+            ScheduleConstraints constraints,
+            LocalDate startDate,
+            LocalDate endDate) {
+
+        // 1. Validation des paramètres obligatoires
+        if (contractorId == null || startDate == null || endDate == null) {
+            return new ContractorPlanning(
+                    contractorId,
+                    startDate,
+                    endDate,
+                    Collections.emptyList(),
+                    createEmptyMetadata()
+            );
+        }
 
-        // 3. Calculer les métadonnées du planning
-        PlanningMetadata metadata = calculatePlanningMetadata(slots);
+        // 2. Générer les créneaux avec leur statut (représentation compacte),
+        //    les métadonnées étant calculées pendant la génération
+        PackedSlotList.Builder builder = PackedSlotList.builder(contractorId);
+        PlanningMetadata metadata = streamSlots(
+                contractorId,
+                availabilityRules,
+                constraints,
+                startDate,
+                endDate,
+                builder::add
+        );
 
-        // 4. Créer et retourner le planning complet
+        // 3. Créer et retourner le planning complet
         return new ContractorPlanning(
                 contractorId,
                 startDate,
                 endDate,
-                slots,
+                builder.build(),
                 metadata
         );
     }
 
+    @Override
+    public List<AvailableSlot> generateSlots(
+            UUID contractorId,
+            AvailabilityRule availabilityRule,
+            List<UnavailabilityRule> unavailabilityRules,
+            List<Appointment> appointments,
+            LocalDate startDate,
+            LocalDate endDate) {
+
+        return generatePackedSlots(
+                contractorId,
+                availabilityRule,
+                unavailabilityRules,
+                appointments,
+                startDate,
+                endDate
+        );
+    }
+
     /**
-     * Calcule les métadonnées à partir des créneaux générés
+     * Génère les créneaux marqués sous forme de tableaux primitifs.
+     * Aucun TimeSlot ni AvailableSlot n'est créé pendant la génération.
      */
-    private PlanningMetadata calculatePlanningMetadata(List<AvailableSlot> slots) {
-        // Compter les créneaux par statut
-        Map<AvailabilityStatus, Long> statusCounts = slots.stream()
-                .collect(Collectors.groupingBy(
-                        AvailableSlot::status,
-                        Collectors.counting()
-                ));
-
-        int totalSlots = slots.size();
-        int availableCount = statusCounts.getOrDefault(AvailabilityStatus.AVAILABLE, 0L).intValue();
-        int bookedCount = statusCounts.getOrDefault(AvailabilityStatus.BOOKED, 0L).intValue();
-        int unavailableCount = statusCounts.getOrDefault(AvailabilityStatus.UNAVAILABLE, 0L).intValue();
-
-        // Trouver le prochain créneau disponible
-        Optional<TimeSlot> nextAvailable = findNextAvailableSlotFromNow(slots);
+    private PackedSlotList generatePackedSlots(
+            UUID contractorId,
+            AvailabilityRule availabilityRule,
+            List<UnavailabilityRule> unavailabilityRules,
+            List<Appointment> appointments,
+            LocalDate startDate,
+            LocalDate endDate) {
 
-        return new PlanningMetadata(
-                totalSlots,
-                availableCount,
-                bookedCount,
-                unavailableCount,
-                nextAvailable,
-                LocalDateTime.now()
-        );
+        PackedSlotList.Builder builder = PackedSlotList.builder(contractorId);
+        streamSlots(contractorId, availabilityRule, unavailabilityRules, appointments, startDate, endDate, builder::add);
+        return builder.build();
     }
 
     @Override
-    public List<AvailableSlot> generateSlots(
+    public PlanningMetadata streamSlots(
             UUID contractorId,
             AvailabilityRule availabilityRule,
             List<UnavailabilityRule> unavailabilityRules,
             List<Appointment> appointments,
             LocalDate startDate,
-            LocalDate endDate) {
+            LocalDate endDate,
+            SlotConsumer consumer) {
+
+        if (availabilityRule == null) {
+            return createEmptyMetadata();
+        }
+
+        return streamSlots(
+                contractorId,
+                List.of(availabilityRule),
+                unavailabilityRules,
+                appointments,
+                startDate,
+                endDate,
+                consumer
+        );
+    }
+
+    @Override
+    public PlanningMetadata streamSlots(
+            UUID contractorId,
+            List<AvailabilityRule> availabilityRules,
+            List<UnavailabilityRule> unavailabilityRules,
+            List<Appointment> appointments,
+            LocalDate startDate,
+            LocalDate endDate,
+            SlotConsumer consumer) {
+
+        return streamSlots(
+                contractorId,
+                availabilityRules,
+                ScheduleConstraints.of(unavailabilityRules, appointments),
+                startDate,
+                endDate,
+                consumer
+        );
+    }
+
+    @Override
+    public PlanningMetadata streamSlots(
+            UUID contractorId,
+            List<AvailabilityRule> availabilityRules,
+            ScheduleConstraints constraints,
+            LocalDate startDate,
+            LocalDate endDate,
+            SlotConsumer consumer) {
 
         // 1. Validation des paramètres obligatoires
-        if (contractorId == null || availabilityRule == null ||
-                startDate == null || endDate == null) {
-            return Collections.emptyList();
+        if (contractorId == null || startDate == null || endDate == null || consumer == null) {
+            return createEmptyMetadata();
         }
 
         // 2. Vérifier la cohérence des dates
         if (startDate.isAfter(endDate)) {
-            return Collections.emptyList();
-        }
-
-        // 3. Vérifier que la règle est active
-        if (!availabilityRule.isActive()) {
-            return Collections.emptyList();
+            return createEmptyMetadata();
         }
 
-        // 4. Initialiser les listes pour éviter les NPE
-        List<UnavailabilityRule> safeUnavailabilities =
-                unavailabilityRules != null ? unavailabilityRules : Collections.emptyList();
-        List<Appointment> safeAppointments =
-                appointments != null ? appointments : Collections.emptyList();
-
-        // 5. Générer les créneaux bruts pour chaque jour de la période
-        List<TimeSlot> rawSlots = new ArrayList<>();
-        LocalDate currentDate = startDate;
-
-        while (!currentDate.isAfter(endDate)) {
-            // Utiliser generateSlotsForDay qui gère déjà les BreakTimes
-            List<TimeSlot> daySlots = availabilityRule.generateSlotsForDay(currentDate);
-            rawSlots.addAll(daySlots);
-            currentDate = currentDate.plusDays(1);
+        // 3. Fusionner les règles actives en une grille par jour de la semaine (BreakTimes déjà exclus)
+        //    et indexer une seule fois les contraintes
+        AvailabilityIndex index = AvailabilityIndex.of(availabilityRules, constraints, startDate, endDate);
+        MergedSlotGrid grid = index.grid();
+        if (grid.isEmpty()) {
+            return createEmptyMetadata();
         }
 
-        // 6. Trier les créneaux par ordre chronologique
-        rawSlots.sort(Comparator.comparing(TimeSlot::startDateTime));
-
-        // 7. Marquer chaque créneau avec son statut
-        List<AvailableSlot> markedSlots = new ArrayList<>();
-        for (TimeSlot slot : rawSlots) {
-            AvailabilityStatus status = determineSlotStatus(
-                    slot,
-                    safeUnavailabilities,
-                    safeAppointments
-            );
-            markedSlots.add(new AvailableSlot(contractorId, slot, status));
+        PlanningMetadataAccumulator metadata = new PlanningMetadataAccumulator(LocalDateTime.now());
+        long pastLimit = metadata.pastLimit();
+
+        // 4. Parcourir les jours dans l'ordre et apposer la grille du jour :
+        //    les créneaux sont produits triés et marqués en une seule passe
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            DayOfWeek dayOfWeek = date.getDayOfWeek();
+            long midnight = date.toEpochDay() * SECONDS_PER_DAY;
+
+            for (int i = 0; i < grid.size(dayOfWeek); i++) {
+                long start = midnight + grid.startOffsetAt(dayOfWeek, i);
+                int duration = grid.durationAt(dayOfWeek, i);
+                AvailabilityStatus status = index.statusOf(start, start + duration * 60L, pastLimit);
+                metadata.accept(start, duration, status);
+                consumer.accept(start, duration, status);
+            }
         }
 
-        return markedSlots;
+        return metadata.toMetadata();
     }
 
     @Override
     public Optional<TimeSlot> findNextAvailableSlot(AvailabilityRule availabilityRule, List<UnavailabilityRule> unavailabilityRules, List<Appointment> appointments, LocalDateTime fromDateTime, int requiredDuration, int maxDaysToSearch) {
-        return Optional.empty();
+        if (availabilityRule == null || fromDateTime == null || requiredDuration <= 0 || maxDaysToSearch < 0) {
+            return Optional.empty();
+        }
+
+        LocalDate fromDate = fromDateTime.toLocalDate();
+        LocalDate toDate = fromDate.plusDays(maxDaysToSearch);
+        AvailabilityIndex index = AvailabilityIndex.of(
+                List.of(availabilityRule),
+                ScheduleConstraints.of(unavailabilityRules, appointments),
+                fromDate,
+                toDate
+        );
+        return index.findNextAvailable(fromDateTime, toDate, requiredDuration)
+                .map(start -> new TimeSlot(start, requiredDuration));
     }
 
     @Override
@@ -176,7 +279,22 @@ public class ContractorScheduleService  implements ContractorSchedulePort {
 
     @Override
     public boolean isSlotAvailable(AvailabilityRule availabilityRule, List<UnavailabilityRule> unavailabilityRules, List<Appointment> appointments, TimeSlot requestedSlot) {
-        return false;
+        if (availabilityRule == null || requestedSlot == null) {
+            return false;
+        }
+
+        LocalDate date = requestedSlot.startDateTime().toLocalDate();
+        AvailabilityIndex index = AvailabilityIndex.of(
+                List.of(availabilityRule),
+                ScheduleConstraints.of(unavailabilityRules, appointments),
+                date,
+                date
+        );
+        return index.isSlotAvailable(
+                requestedSlot.startDateTime(),
+                requestedSlot.duration(),
+                LocalDateTime.now()
+        );
     }
 
     @Override
@@ -184,57 +302,6 @@ public class ContractorScheduleService  implements ContractorSchedulePort {
         return false;
     }
 
-    /**
-     * Détermine le statut d'un créneau en fonction des contraintes
-     * Ordre de priorité : PAST > UNAVAILABLE > BOOKED > AVAILABLE
-     */
-    private AvailabilityStatus determineSlotStatus(
-            TimeSlot slot,
-            List<UnavailabilityRule> unavailabilities,
-            List<Appointment> appointments) {
-
-        // 1. Vérifier si le créneau est dans le passé
-        if (slot.isInPast()) {
-            return AvailabilityStatus.PAST;
-        }
-
-        // 2. Vérifier les indisponibilités (vacances, absences)
-        for (UnavailabilityRule unavailability : unavailabilities) {
-            if (unavailability.blocksTimeSlot(slot)) {
-                return AvailabilityStatus.UNAVAILABLE;
-            }
-        }
-
-        // 3. Vérifier les rendez-vous existants (seulement PENDING et CONFIRMED)
-        for (Appointment appointment : appointments) {
-            AppointmentStatus status = appointment.getStatus();
-            boolean isActiveAppointment =
-                    status == AppointmentStatus.PENDING ||
-                            status == AppointmentStatus.CONFIRMED;
-
-            if (isActiveAppointment && appointment.getSlot().overlaps(slot)) {
-                return AvailabilityStatus.BOOKED;
-            }
-        }
-
-        // 4. Si aucune contrainte, le créneau est disponible
-        return AvailabilityStatus.AVAILABLE;
-    }
-
-
-    /**
-     * Trouve le prochain créneau disponible à partir de maintenant
-     */
-    private Optional<TimeSlot> findNextAvailableSlotFromNow(List<AvailableSlot> slots) {
-        LocalDateTime now = LocalDateTime.now();
-
-        return slots.stream()
-                .filter(slot -> slot.status() == AvailabilityStatus.AVAILABLE)
-                .map(AvailableSlot::timeSlot)
-                .filter(slot -> slot.startDateTime().isAfter(now))
-                .min(Comparator.comparing(TimeSlot::startDateTime));
-    }
-
     /**
      * Crée des métadonnées vides pour un planning invalide
      */
@@ -248,5 +315,4 @@ public class ContractorScheduleService  implements ContractorSchedulePort {
                 LocalDateTime.now()     // generatedAt
         );
     }
-
 }
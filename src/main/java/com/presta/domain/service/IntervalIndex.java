@@ -0,0 +1,277 @@
+package com.presta.domain.service;
+
+import com.presta.domain.model.Appointment;
+import com.presta.domain.model.UnavailabilityRule;
+import com.presta.domain.model.valueobject.TimeSlot;
+import com.presta.domain.model.valueobject.UnavailabilityPeriod;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Index d'intervalles triés et fusionnés, construit une seule fois par requête.
+ * Les bornes sont exprimées en secondes (LocalDateTime vu comme UTC).
+ *
+ * Les indisponibilités sont des intervalles fermés : un créneau qui les touche est bloqué.
+ * Les rendez-vous sont demi-ouverts [début, fin[, comme {@link TimeSlot#overlaps(TimeSlot)} et la
+ * contrainte d'exclusion : ils sont stockés fermés jusqu'à fin - 1 s et interrogés de même,
+ * si bien que deux créneaux qui se touchent ne se chevauchent pas.
+ *
+ * Les requêtes dont la fin est croissante (créneaux triés) sont servies par un curseur
+ * qui avance de façon monotone : un planning complet se marque en une seule passe.
+ * Les autres requêtes retombent sur une recherche dichotomique en O(log n).
+ * Le curseur rend l'instance non thread-safe : un index par requête.
+ */
+public final class IntervalIndex {
+
+    private final long[] starts;
+    private final long[] ends;
+    private final boolean halfOpen;
+
+    // Curseur de balayage : dernier intervalle dont le début est <= à la dernière fin interrogée
+    private int cursor = -1;
+    private long lastQueryEnd = Long.MIN_VALUE;
+
+    private IntervalIndex(long[] starts, long[] ends, boolean halfOpen) {
+        this.starts = starts;
+        this.ends = ends;
+        this.halfOpen = halfOpen;
+    }
+
+    public static IntervalIndex empty() {
+        return new IntervalIndex(new long[0], new long[0], false);
+    }
+
+    /**
+     * Construit l'index des rendez-vous actifs (PENDING et CONFIRMED)
+     */
+    public static IntervalIndex ofActiveAppointments(List<Appointment> appointments) {
+        if (appointments == null || appointments.isEmpty()) {
+            return empty();
+        }
+
+        Builder builder = Builder.halfOpen();
+        for (Appointment appointment : appointments) {
+            if (appointment.getStatus().isActive()) {
+                builder.add(appointment.getAppointmentDateTime(), appointment.getEndDateTime());
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Construit l'index de créneaux déjà réservés (ex : projection début + durée des rendez-vous actifs)
+     */
+    public static IntervalIndex ofTimeSlots(List<TimeSlot> slots) {
+        if (slots == null || slots.isEmpty()) {
+            return empty();
+        }
+
+        Builder builder = Builder.halfOpen();
+        for (TimeSlot slot : slots) {
+            builder.add(slot.startDateTime(), slot.getEndDateTime());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Construit l'index des indisponibilités, limité à la fenêtre [fromDate, toDate]
+     * pour ne pas déplier inutilement les longues périodes partielles jour par jour.
+     * Les récurrences ne sont dépliées que sur cette fenêtre : leur coût ne dépend pas de leur durée.
+     */
+    public static IntervalIndex ofUnavailabilities(
+            List<UnavailabilityRule> unavailabilities,
+            LocalDate fromDate,
+            LocalDate toDate) {
+
+        if (unavailabilities == null || unavailabilities.isEmpty()) {
+            return empty();
+        }
+
+        Builder builder = new Builder();
+        for (UnavailabilityRule unavailability : unavailabilities) {
+            UnavailabilityPeriod period = unavailability.getPeriod();
+
+            if (period.isFullDay() && !period.isRecurring()) {
+                // Le dernier jour est bloqué jusqu'à minuit exclu
+                builder.add(
+                        toSeconds(period.startDate().atStartOfDay()),
+                        toSeconds(period.endDate().plusDays(1).atStartOfDay()) - 1
+                );
+                continue;
+            }
+
+            // Un créneau peut déborder sur la veille ou le lendemain de la fenêtre
+            LocalDate first = max(period.startDate(), fromDate.minusDays(1));
+            LocalDate last = min(period.endDate(), toDate.plusDays(1));
+
+            for (LocalDate date = first; !date.isAfter(last); date = date.plusDays(1)) {
+                if (!period.occursOn(date)) {
+                    continue;
+                }
+                if (period.isFullDay()) {
+                    builder.add(
+                            toSeconds(date.atStartOfDay()),
+                            toSeconds(date.plusDays(1).atStartOfDay()) - 1
+                    );
+                } else {
+                    builder.add(
+                            LocalDateTime.of(date, period.startTime()),
+                            LocalDateTime.of(date, period.endTime())
+                    );
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Vérifie si l'intervalle [start, end] (fin exclue pour un index demi-ouvert) chevauche un intervalle indexé
+     */
+    public boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        return overlaps(toSeconds(start), toSeconds(end));
+    }
+
+    public boolean overlaps(TimeSlot slot) {
+        return overlaps(slot.startDateTime(), slot.getEndDateTime());
+    }
+
+    public boolean overlaps(long start, long end) {
+        return blockedUntil(start, end) != Long.MIN_VALUE;
+    }
+
+    /**
+     * Dernière seconde bloquée par l'intervalle indexé qui chevauche [start, end], Long.MIN_VALUE s'il n'y en a aucun.
+     * Tout intervalle de même durée commençant au plus tard à cette seconde est lui aussi bloqué :
+     * une recherche peut reprendre directement après elle.
+     */
+    public long blockedUntil(long start, long end) {
+        if (halfOpen) {
+            end--;
+        }
+        if (starts.length == 0 || end < start) {
+            return Long.MIN_VALUE;
+        }
+
+        if (end >= lastQueryEnd) {
+            while (cursor + 1 < starts.length && starts[cursor + 1] <= end) {
+                cursor++;
+            }
+        } else {
+            cursor = lastStartAtOrBefore(end);
+        }
+        lastQueryEnd = end;
+
+        // Les intervalles étant disjoints et triés, le dernier qui commence avant la fin
+        // est aussi celui qui se termine le plus tard
+        return cursor >= 0 && ends[cursor] >= start ? ends[cursor] : Long.MIN_VALUE;
+    }
+
+    public boolean isEmpty() {
+        return starts.length == 0;
+    }
+
+    public int size() {
+        return starts.length;
+    }
+
+    public static long toSeconds(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private int lastStartAtOrBefore(long value) {
+        int low = 0;
+        int high = starts.length - 1;
+        int result = -1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] <= value) {
+                result = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return result;
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    /**
+     * Accumule des intervalles puis les trie et fusionne en tableaux primitifs
+     */
+    public static final class Builder {
+
+        private record Interval(long start, long end) {}
+
+        private final List<Interval> intervals = new ArrayList<>();
+        private final boolean halfOpen;
+
+        public Builder() {
+            this(false);
+        }
+
+        private Builder(boolean halfOpen) {
+            this.halfOpen = halfOpen;
+        }
+
+        /**
+         * Intervalles [début, fin[ : la fin est exclue à l'ajout comme à l'interrogation
+         */
+        public static Builder halfOpen() {
+            return new Builder(true);
+        }
+
+        public Builder add(LocalDateTime start, LocalDateTime end) {
+            return add(toSeconds(start), toSeconds(end));
+        }
+
+        public Builder add(long start, long end) {
+            if (end < start || (halfOpen && end == start)) {
+                throw new IllegalArgumentException("La fin de l'intervalle doit être après son début");
+            }
+            intervals.add(new Interval(start, halfOpen ? end - 1 : end));
+            return this;
+        }
+
+        public IntervalIndex build() {
+            if (intervals.isEmpty()) {
+                return empty();
+            }
+
+            intervals.sort(Comparator.comparingLong(Interval::start));
+
+            long[] starts = new long[intervals.size()];
+            long[] ends = new long[intervals.size()];
+            int size = 0;
+
+            for (Interval interval : intervals) {
+                if (size > 0 && interval.start() <= ends[size - 1]) {
+                    ends[size - 1] = Math.max(ends[size - 1], interval.end());
+                } else {
+                    starts[size] = interval.start();
+                    ends[size] = interval.end();
+                    size++;
+                }
+            }
+
+            return new IntervalIndex(
+                    Arrays.copyOf(starts, size),
+                    Arrays.copyOf(ends, size),
+                    halfOpen
+            );
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.presta.domain.service;
+
+import com.presta.domain.model.AvailabilityRule;
+import com.presta.domain.model.valueobject.DaySlotTemplate;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Grille hebdomadaire issue de la fusion de plusieurs règles de disponibilité actives.
+ *
+ * Pour chaque jour de la semaine, les gabarits compilés des règles applicables sont fusionnés
+ * par un k-way merge (tas des têtes de gabarit) : les créneaux sortent triés par début puis par durée.
+ * Deux créneaux strictement identiques (même début, même durée) ne sont gardés qu'une fois ;
+ * des créneaux qui se chevauchent sans être identiques restent distincts, chacun étant réservable.
+ *
+ * La fusion n'est faite qu'une fois par jour de la semaine, quelle que soit la période générée.
+ */
+public final class MergedSlotGrid {
+
+    private static final DayOfWeek[] DAYS = DayOfWeek.values();
+
+    private final int[][] startOffsets = new int[7][];  // secondes depuis minuit
+    private final int[][] durations = new int[7][];     // minutes
+
+    private MergedSlotGrid(List<AvailabilityRule> rules) {
+        for (DayOfWeek day : DAYS) {
+            merge(day, rules);
+        }
+    }
+
+    /**
+     * Construit la grille à partir des règles actives (les règles inactives ou null sont ignorées)
+     */
+    public static MergedSlotGrid of(List<AvailabilityRule> rules) {
+        List<AvailabilityRule> activeRules = new ArrayList<>();
+        if (rules != null) {
+            for (AvailabilityRule rule : rules) {
+                if (rule != null && rule.isActive()) {
+                    activeRules.add(rule);
+                }
+            }
+        }
+        return new MergedSlotGrid(activeRules);
+    }
+
+    public int size(DayOfWeek day) {
+        return startOffsets[day.ordinal()].length;
+    }
+
+    public boolean isEmpty() {
+        for (int[] offsets : startOffsets) {
+            if (offsets.length > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Début du i-ème créneau du jour, en secondes depuis minuit
+     */
+    public int startOffsetAt(DayOfWeek day, int index) {
+        return startOffsets[day.ordinal()][index];
+    }
+
+    /**
+     * Durée du i-ème créneau du jour, en minutes
+     */
+    public int durationAt(DayOfWeek day, int index) {
+        return durations[day.ordinal()][index];
+    }
+
+    /**
+     * Position du créneau commençant à startOffset (secondes depuis minuit) et durant duration minutes,
+     * -1 s'il n'existe pas dans la grille du jour. Recherche dichotomique sur les débuts triés.
+     */
+    public int indexOf(DayOfWeek day, int startOffset, int duration) {
+        int[] offsets = startOffsets[day.ordinal()];
+        int[] slotDurations = durations[day.ordinal()];
+
+        int low = 0;
+        int high = offsets.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int byStart = Integer.compare(offsets[mid], startOffset);
+            int cmp = byStart != 0 ? byStart : Integer.compare(slotDurations[mid], duration);
+            if (cmp == 0) {
+                return mid;
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Position du premier créneau du jour commençant à startOffset ou après (secondes depuis minuit),
+     * size(day) s'il n'y en a aucun
+     */
+    public int firstStartingAtOrAfter(DayOfWeek day, int startOffset) {
+        int[] offsets = startOffsets[day.ordinal()];
+
+        int low = 0;
+        int high = offsets.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (offsets[mid] < startOffset) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void merge(DayOfWeek day, List<AvailabilityRule> rules) {
+        List<DaySlotTemplate> templates = new ArrayList<>();
+        for (AvailabilityRule rule : rules) {
+            if (rule.appliesTo(day)) {
+                DaySlotTemplate template = rule.slotTemplateFor(day);
+                if (!template.isEmpty()) {
+                    templates.add(template);
+                }
+            }
+        }
+
+        int capacity = 0;
+        for (DaySlotTemplate template : templates) {
+            capacity += template.size();
+        }
+
+        int[] offsets = new int[capacity];
+        int[] slotDurations = new int[capacity];
+        int size = 0;
+
+        if (templates.size() == 1) {
+            DaySlotTemplate template = templates.get(0);
+            for (int i = 0; i < template.size(); i++) {
+                offsets[i] = template.startOffsetAt(i);
+                slotDurations[i] = template.slotDuration();
+            }
+            size = capacity;
+        } else if (!templates.isEmpty()) {
+            // Tête de chaque gabarit : {index du gabarit, position courante}
+            PriorityQueue<int[]> heads = new PriorityQueue<>(templates.size(), (a, b) -> {
+                DaySlotTemplate left = templates.get(a[0]);
+                DaySlotTemplate right = templates.get(b[0]);
+                int byStart = Integer.compare(left.startOffsetAt(a[1]), right.startOffsetAt(b[1]));
+                return byStart != 0 ? byStart : Integer.compare(left.slotDuration(), right.slotDuration());
+            });
+            for (int t = 0; t < templates.size(); t++) {
+                heads.add(new int[]{t, 0});
+            }
+
+            while (!heads.isEmpty()) {
+                int[] head = heads.poll();
+                DaySlotTemplate template = templates.get(head[0]);
+                int offset = template.startOffsetAt(head[1]);
+                int duration = template.slotDuration();
+
+                boolean duplicate = size > 0 && offsets[size - 1] == offset && slotDurations[size - 1] == duration;
+                if (!duplicate) {
+                    offsets[size] = offset;
+                    slotDurations[size] = duration;
+                    size++;
+                }
+
+                if (++head[1] < template.size()) {
+                    heads.add(head);
+                }
+            }
+        }
+
+        startOffsets[day.ordinal()] = Arrays.copyOf(offsets, size);
+        durations[day.ordinal()] = Arrays.copyOf(slotDurations, size);
+    }
+}
@@ -0,0 +1,84 @@
+package com.presta.domain.service;
+
+import com.presta.domain.model.AvailabilityRule;
+import com.presta.domain.model.DailyBookingCount;
+import com.presta.domain.model.OccupancyStat;
+import com.presta.domain.model.valueobject.OccupancyGranularity;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Statistiques d'occupation de plusieurs contractors : la capacité vient de {@link SlotCapacity},
+ * les réservations d'un agrégat par contractor et par jour, sans aucun créneau ni rendez-vous matérialisé.
+ */
+public final class OccupancyCalculator {
+
+    private OccupancyCalculator() {
+    }
+
+    /**
+     * Une statistique par contractor et par période de [startDate, endDate], périodes vides comprises,
+     * triées par contractor (ordre de contractorIds) puis par période
+     */
+    public static List<OccupancyStat> compute(
+            Collection<UUID> contractorIds,
+            List<AvailabilityRule> rules,
+            List<DailyBookingCount> bookings,
+            LocalDate startDate,
+            LocalDate endDate,
+            OccupancyGranularity granularity) {
+
+        Map<UUID, List<AvailabilityRule>> rulesByContractor = rules.stream()
+                .collect(Collectors.groupingBy(AvailabilityRule::getContractorId));
+
+        // Réservations par contractor, indexées par jour depuis startDate
+        int days = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        Map<UUID, long[]> bookedByContractor = new HashMap<>();
+        for (DailyBookingCount booking : bookings) {
+            int day = (int) ChronoUnit.DAYS.between(startDate, booking.date());
+            if (day >= 0 && day < days) {
+                bookedByContractor.computeIfAbsent(booking.contractorId(), id -> new long[days])[day] += booking.count();
+            }
+        }
+
+        List<OccupancyStat> stats = new ArrayList<>();
+        for (UUID contractorId : contractorIds) {
+            SlotCapacity capacity = SlotCapacity.of(rulesByContractor.getOrDefault(contractorId, List.of()));
+            long[] booked = bookedByContractor.get(contractorId);
+
+            for (LocalDate periodStart = startDate; !periodStart.isAfter(endDate); ) {
+                LocalDate periodEnd = granularity.periodEnd(granularity.periodStart(periodStart));
+                if (periodEnd.isAfter(endDate)) {
+                    periodEnd = endDate;
+                }
+
+                long bookedInPeriod = 0;
+                if (booked != null) {
+                    int from = (int) ChronoUnit.DAYS.between(startDate, periodStart);
+                    int to = (int) ChronoUnit.DAYS.between(startDate, periodEnd);
+                    for (int day = from; day <= to; day++) {
+                        bookedInPeriod += booked[day];
+                    }
+                }
+
+                stats.add(new OccupancyStat(
+                        contractorId,
+                        periodStart,
+                        periodEnd,
+                        capacity.slotsBetween(periodStart, periodEnd),
+                        bookedInPeriod
+                ));
+                periodStart = periodEnd.plusDays(1);
+            }
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,67 @@
+package com.presta.domain.service;
+
+import com.presta.domain.model.valueobject.AvailabilityStatus;
+import com.presta.domain.model.valueobject.PlanningMetadata;
+import com.presta.domain.model.valueobject.TimeSlot;
+import com.presta.domain.port.ContractorSchedulePort;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+/**
+ * Compte les créneaux par statut et retient le premier créneau disponible à venir,
+ * ce qui permet de produire les métadonnées sans conserver les créneaux.
+ * Les créneaux doivent être reçus dans l'ordre chronologique.
+ */
+public final class PlanningMetadataAccumulator implements ContractorSchedulePort.SlotConsumer {
+
+    private final LocalDateTime now;
+    private final long nowSeconds;
+    private final int[] statusCounts = new int[AvailabilityStatus.values().length];
+    private int total;
+    private long nextAvailableStart = Long.MIN_VALUE;
+    private int nextAvailableDuration;
+
+    public PlanningMetadataAccumulator(LocalDateTime now) {
+        this.now = now;
+        this.nowSeconds = IntervalIndex.toSeconds(now);
+    }
+
+    /**
+     * Première seconde qui n'est pas dans le passé : un créneau est passé
+     * s'il commence strictement avant maintenant
+     */
+    public long pastLimit() {
+        return nowSeconds + (now.getNano() > 0 ? 1 : 0);
+    }
+
+    @Override
+    public void accept(long startEpochSecond, int duration, AvailabilityStatus status) {
+        total++;
+        statusCounts[status.ordinal()]++;
+        if (nextAvailableStart == Long.MIN_VALUE
+                && status == AvailabilityStatus.AVAILABLE
+                && startEpochSecond > nowSeconds) {
+            nextAvailableStart = startEpochSecond;
+            nextAvailableDuration = duration;
+        }
+    }
+
+    public PlanningMetadata toMetadata() {
+        Optional<TimeSlot> nextAvailable = nextAvailableStart != Long.MIN_VALUE
+                ? Optional.of(new TimeSlot(
+                        LocalDateTime.ofEpochSecond(nextAvailableStart, 0, ZoneOffset.UTC),
+                        nextAvailableDuration))
+                : Optional.empty();
+
+        return new PlanningMetadata(
+                total,
+                statusCounts[AvailabilityStatus.AVAILABLE.ordinal()],
+                statusCounts[AvailabilityStatus.BOOKED.ordinal()],
+                statusCounts[AvailabilityStatus.UNAVAILABLE.ordinal()],
+                nextAvailable,
+                now
+        );
+    }
+}
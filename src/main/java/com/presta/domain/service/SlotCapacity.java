@@ -0,0 +1,61 @@
+package com.presta.domain.service;
+
+import com.presta.domain.model.AvailabilityRule;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Nombre de créneaux offerts par les règles actives d'un contractor, par jour de la semaine.
+ *
+ * Chaque règle est comptée une fois par jour de la semaine, depuis son gabarit compilé (pauses déjà retirées) ;
+ * le nombre de créneaux d'une période s'obtient ensuite par calcul, sans générer aucun créneau.
+ */
+public final class SlotCapacity {
+
+    private final long[] slotsPerDay = new long[7];
+    private final long slotsPerWeek;
+
+    private SlotCapacity(List<AvailabilityRule> rules) {
+        long week = 0;
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            long slots = 0;
+            for (AvailabilityRule rule : rules) {
+                if (rule.isActive() && rule.appliesTo(dayOfWeek)) {
+                    slots += rule.slotTemplateFor(dayOfWeek).size();
+                }
+            }
+            slotsPerDay[dayOfWeek.ordinal()] = slots;
+            week += slots;
+        }
+        this.slotsPerWeek = week;
+    }
+
+    public static SlotCapacity of(List<AvailabilityRule> rules) {
+        return new SlotCapacity(rules != null ? rules : List.of());
+    }
+
+    public long slotsOn(DayOfWeek dayOfWeek) {
+        return slotsPerDay[dayOfWeek.ordinal()];
+    }
+
+    /**
+     * Créneaux offerts entre deux dates incluses : semaines complètes puis au plus 6 jours restants
+     */
+    public long slotsBetween(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            return 0;
+        }
+
+        long days = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        long total = (days / 7) * slotsPerWeek;
+        DayOfWeek dayOfWeek = startDate.getDayOfWeek();
+        for (long i = 0; i < days % 7; i++) {
+            total += slotsPerDay[dayOfWeek.ordinal()];
+            dayOfWeek = dayOfWeek.plus(1);
+        }
+        return total;
+    }
+}
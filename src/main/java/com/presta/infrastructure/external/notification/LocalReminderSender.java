@@ -0,0 +1,25 @@
+package com.presta.infrastructure.external.notification;
+
+import com.presta.domain.model.AppointmentEvent;
+import com.presta.domain.port.ReminderSender;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Envoi local, sans fournisseur : compte les rappels, en attendant un vrai canal (mail, SMS)
+ */
+@Component
+public class LocalReminderSender implements ReminderSender {
+
+    private final AtomicLong sent = new AtomicLong();
+
+    @Override
+    public void sendReminder(AppointmentEvent reminder) {
+        sent.incrementAndGet();
+    }
+
+    public long sentCount() {
+        return sent.get();
+    }
+}
@@ -1,18 +1,28 @@
 package com.presta.infrastructure.persistence.adapters;
 
+import com.presta.domain.exception.AppointmentConflictException;
 import com.presta.domain.exception.AppointmentNotFoundException;
 import com.presta.domain.model.Appointment;
+import com.presta.domain.model.AppointmentEvent;
+import com.presta.domain.model.valueobject.AppointmentEventType;
 import com.presta.domain.model.valueobject.AppointmentStatus;
+import com.presta.domain.model.valueobject.TimeSlot;
 import com.presta.domain.port.AppointmentRepositoryPort;
+import com.presta.domain.port.OutboxPort;
 import com.presta.infrastructure.persistence.entities.AppointmentEntity;
 import com.presta.infrastructure.persistence.mapper.AppointmentMapper;
+import com.presta.infrastructure.persistence.projections.AppointmentSlotView;
 import com.presta.infrastructure.persistence.repositories.JpaAppointmentRepository;
 import jakarta.transaction.Transactional;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Repository;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -20,19 +30,31 @@ import java.util.stream.Collectors;
 @Transactional
 public class AppointmentRepositoryAdapter implements AppointmentRepositoryPort {
 
+    // exclusion_violation : contrainte exclude_overlapping_active_appointments
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
+    private static final List<AppointmentStatus> ACTIVE_STATUSES = List.of(
+            AppointmentStatus.PENDING,
+            AppointmentStatus.CONFIRMED
+    );
+
     private final JpaAppointmentRepository jpaRepository;
     private final AppointmentMapper mapper;
+    private final OutboxPort outboxPort;
 
     public AppointmentRepositoryAdapter(JpaAppointmentRepository jpaRepository,
-                                        AppointmentMapper mapper) {
+                                        AppointmentMapper mapper,
+                                        OutboxPort outboxPort) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.outboxPort = outboxPort;
     }
 
     @Override
     public Appointment save(Appointment appointment) {
         AppointmentEntity entity;
-        if(appointment.getId() == null) {
+        boolean creation = appointment.getId() == null;
+        if(creation) {
             entity = mapper.toEntity(appointment);
         }else {
             Optional<AppointmentEntity> existingEntity =
@@ -47,8 +69,129 @@ public class AppointmentRepositoryAdapter implements AppointmentRepositoryPort {
 
         }
 
-        AppointmentEntity savedEntity = jpaRepository.save(entity);
-        return mapper.toDomain(savedEntity);
+        // Flush immédiat : un chevauchement est refusé ici par la base, pas au commit
+        AppointmentEntity savedEntity;
+        try {
+            savedEntity = jpaRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            if (isExclusionViolation(e)) {
+                throw new AppointmentConflictException(
+                        String.format("Le créneau proposé (%s, durée: %d min) entre en conflit avec un rendez-vous existant",
+                                appointment.getAppointmentDateTime(), appointment.getDuration()),
+                        "CONFLICT",
+                        409
+                );
+            }
+            throw e;
+        }
+
+        Appointment saved = mapper.toDomain(savedEntity);
+        if (creation) {
+            outboxPort.append(List.of(AppointmentEvent.of(AppointmentEventType.BOOKED, saved)));
+        }
+        return saved;
+    }
+
+    @Override
+    public List<Appointment> saveAll(List<Appointment> appointments) {
+        List<AppointmentEntity> entities = appointments.stream()
+                .map(mapper::toEntity)
+                .toList();
+
+        // Inserts regroupés par hibernate.jdbc.batch_size, envoyés au flush
+        List<AppointmentEntity> savedEntities;
+        try {
+            savedEntities = jpaRepository.saveAll(entities);
+            jpaRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (isExclusionViolation(e)) {
+                throw new AppointmentConflictException(
+                        "Un des créneaux du lot entre en conflit avec un rendez-vous existant",
+                        "CONFLICT",
+                        409
+                );
+            }
+            throw e;
+        }
+        List<Appointment> saved = savedEntities.stream()
+                .map(mapper::toDomain)
+                .toList();
+        outboxPort.append(saved.stream()
+                .map(appointment -> AppointmentEvent.of(AppointmentEventType.BOOKED, appointment))
+                .toList());
+        return saved;
+    }
+
+    @Override
+    public void updateState(Appointment appointment, AppointmentStatus expectedStatus) {
+        int updated = jpaRepository.updateStateIfUnchanged(
+                appointment.getId(),
+                expectedStatus,
+                appointment.getVersion(),
+                appointment.getStatus(),
+                appointment.getNotes(),
+                appointment.getUpdatedAt()
+        );
+
+        if (updated == 0) {
+            throw new AppointmentConflictException(
+                    "Le rendez-vous a été modifié entre-temps, veuillez réessayer",
+                    "CONCURRENT_MODIFICATION",
+                    409
+            );
+        }
+
+        if (appointment.getStatus() != expectedStatus) {
+            outboxPort.append(List.of(AppointmentEvent.of(
+                    AppointmentEventType.transitionTo(appointment.getStatus()), appointment)));
+        }
+    }
+
+    @Override
+    public int updateStatusBetween(
+            UUID contractorId,
+            LocalDateTime start,
+            LocalDateTime end,
+            Set<AppointmentStatus> fromStatuses,
+            AppointmentStatus toStatus) {
+
+        return jpaRepository.updateStatusBetween(
+                contractorId, start, end, names(fromStatuses), toStatus.name(),
+                AppointmentEventType.transitionTo(toStatus).name(), LocalDateTime.now());
+    }
+
+    @Override
+    public int updateStatusStartedBefore(
+            UUID contractorId,
+            LocalDateTime before,
+            Set<AppointmentStatus> fromStatuses,
+            AppointmentStatus toStatus) {
+
+        return jpaRepository.updateStatusStartedBefore(
+                contractorId, before, names(fromStatuses), toStatus.name(),
+                AppointmentEventType.transitionTo(toStatus).name(), LocalDateTime.now());
+    }
+
+    @Override
+    public List<Appointment> findReminderCandidates(
+            LocalDateTime start,
+            LocalDateTime end,
+            LocalDateTime afterDateTime,
+            UUID afterId,
+            int limit) {
+
+        return jpaRepository.findReminderCandidates(start, end, afterDateTime, afterId, limit)
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public int markRemindersDue(Collection<UUID> appointmentIds, LocalDateTime now) {
+        if (appointmentIds.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.markRemindersDue(appointmentIds, AppointmentEventType.REMINDER_DUE.name(), now);
     }
 
     @Override
@@ -93,18 +236,26 @@ public class AppointmentRepositoryAdapter implements AppointmentRepositoryPort {
             LocalDateTime end) {
 
         // Récupérer uniquement les RDV avec statut PENDING ou CONFIRMED
-        List<String> activeStatuses = List.of(
-                AppointmentStatus.PENDING.name(),
-                AppointmentStatus.CONFIRMED.name()
-        );
-
         return jpaRepository.findByContractorIdAndAppointmentDateTimeBetweenAndStatusIn(
-                        contractorId, start, end, activeStatuses)
+                        contractorId, start, end, ACTIVE_STATUSES)
                 .stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<TimeSlot> findActiveSlotsByContractorIdAndPeriod(
+            UUID contractorId,
+            LocalDateTime start,
+            LocalDateTime end) {
+
+        return jpaRepository.findSlotsByContractorIdAndPeriodAndStatusIn(
+                        contractorId, start, end, ACTIVE_STATUSES)
+                .stream()
+                .map(AppointmentSlotView::toTimeSlot)
+                .toList();
+    }
+
     @Override
     public boolean existsByContractorAndDateTime(UUID contractorId, LocalDateTime dateTime) {
         return jpaRepository.existsByContractorIdAndAppointmentDateTime(
@@ -116,5 +267,18 @@ public class AppointmentRepositoryAdapter implements AppointmentRepositoryPort {
     public void deleteById(UUID id) {
         jpaRepository.deleteById(id);
     }
+
+    private static List<String> names(Set<AppointmentStatus> statuses) {
+        return statuses.stream().map(Enum::name).toList();
+    }
+
+    private static boolean isExclusionViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && EXCLUSION_VIOLATION.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
 
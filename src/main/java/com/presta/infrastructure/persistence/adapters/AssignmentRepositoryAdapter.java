@@ -7,6 +7,8 @@ import com.presta.infrastructure.persistence.repositories.JpaAssignmentRepositor
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,10 +21,19 @@ import java.util.stream.Collectors;
 @Transactional
 public class AssignmentRepositoryAdapter implements AssignmentPort {
 
+    private static final String ACTIVE_CONTRACTORS_SQL = """
+            SELECT c.id
+            FROM presta.contractor_account c
+            JOIN presta.user_app u ON u.id = c.id
+            WHERE c.assignment_id = :assignmentId AND COALESCE(u.is_active, true)
+            """;
+
     private final JpaAssignmentRepository jpaAssignmentRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
 
-    public AssignmentRepositoryAdapter(JpaAssignmentRepository jpaAssignmentRepository) {
+    public AssignmentRepositoryAdapter(JpaAssignmentRepository jpaAssignmentRepository, NamedParameterJdbcTemplate jdbcTemplate) {
         this.jpaAssignmentRepository = jpaAssignmentRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     private Assignment toDomain(AssignmentEntity e) {
@@ -70,6 +81,13 @@ public class AssignmentRepositoryAdapter implements AssignmentPort {
         return jpaAssignmentRepository.existsById(id);
     }
 
+    @Override
+    public List<UUID> findActiveContractorIds(UUID assignmentId) {
+        return jdbcTemplate.query(ACTIVE_CONTRACTORS_SQL,
+                new MapSqlParameterSource("assignmentId", assignmentId),
+                (rs, rowNum) -> rs.getObject("id", UUID.class));
+    }
+
 
     @Override
     public Page<Assignment> findAssignments(String searchName, Pageable pageable) {
@@ -9,6 +9,7 @@ import com.presta.infrastructure.persistence.repositories.JpaBreakTimeRepository
 import org.springframework.stereotype.Repository;
 import jakarta.transaction.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -36,6 +37,16 @@ public class AvailabilityRepositoryAdapter implements AvailabilityRuleRepository
         );
     }
 
+    @Override
+    public List<AvailabilityRule> findActiveByContractorIds(Collection<UUID> contractorIds) {
+        if (contractorIds.isEmpty()) {
+            return List.of();
+        }
+        return this.availabilityRuleMapper.toDomainList(
+                this.jpaAvailabilityRuleRepository.findActiveByContractorIdIn(contractorIds)
+        );
+    }
+
     @Override
     public AvailabilityRule save(AvailabilityRule availabilityRule) {
         AvailabilityRuleEntity availabilityRuleEntity = this.availabilityRuleMapper.toEntity(availabilityRule);
@@ -0,0 +1,172 @@
+package com.presta.infrastructure.persistence.adapters;
+
+import com.presta.domain.model.AvailabilityRule;
+import com.presta.domain.model.BookingContext;
+import com.presta.domain.model.UnavailabilityRule;
+import com.presta.domain.port.BookingContextPort;
+import com.presta.infrastructure.persistence.entities.AvailabilityRuleEntity;
+import com.presta.infrastructure.persistence.entities.BreakTimeEntity;
+import com.presta.infrastructure.persistence.entities.UnavailabilityRuleEntity;
+import com.presta.infrastructure.persistence.mapper.AvailabilityRuleMapper;
+import com.presta.infrastructure.persistence.mapper.UnavailabilityRuleMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Charge le contexte d'une réservation en une seule requête : chaque sous-requête du UNION ALL
+ * produit des lignes étiquetées par leur nature, projetées sur un jeu de colonnes commun.
+ * Les règles et indisponibilités repassent par les mappers JPA pour garder une seule conversion vers le domaine.
+ */
+@Repository
+public class BookingContextRepositoryAdapter implements BookingContextPort {
+
+    private static final String BOOKING_CONTEXT_SQL = """
+            SELECT 'CONTRACTOR' AS kind, u.id, CAST(NULL AS uuid) AS parent_id, CAST(NULL AS integer[]) AS week_days,
+                   CAST(NULL AS time) AS start_time, CAST(NULL AS time) AS end_time,
+                   CAST(NULL AS date) AS start_date, CAST(NULL AS date) AS end_date,
+                   CAST(NULL AS timestamp) AS start_at, CAST(NULL AS integer) AS duration, CAST(NULL AS integer) AS rest_time,
+                   COALESCE(u.is_active, true) AS active, CAST(NULL AS varchar) AS reason,
+                   CAST(NULL AS varchar) AS recurrence
+            FROM presta.user_app u
+            JOIN presta.contractor_account c ON c.id = u.id
+            WHERE u.id = :contractorId
+            UNION ALL
+            SELECT 'CLIENT', u.id, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL,
+                   COALESCE(u.is_active, true), NULL, NULL
+            FROM presta.user_app u
+            JOIN presta.client_account c ON c.id = u.id
+            WHERE u.id = :clientId
+            UNION ALL
+            SELECT 'RULE', r.id, r.contractor_id, r.week_days, r.start_time, r.end_time, NULL, NULL, NULL,
+                   r.slot_duration, r.rest_time, r.is_active, NULL, NULL
+            FROM presta.availability_rule r
+            WHERE r.contractor_id = :contractorId AND r.is_active = true
+            UNION ALL
+            SELECT 'BREAK', b.id, b.availability_rule_id, b.week_days, b.start_time, b.end_time, NULL, NULL, NULL,
+                   NULL, NULL, NULL, NULL, NULL
+            FROM presta.break_time b
+            JOIN presta.availability_rule r ON r.id = b.availability_rule_id
+            WHERE r.contractor_id = :contractorId AND r.is_active = true
+            UNION ALL
+            SELECT 'UNAVAILABILITY', n.id, n.contractor_id, NULL, n.start_time, n.end_time, n.start_date, n.end_date,
+                   n.created_at, NULL, NULL, NULL, n.reason, n.recurrence
+            FROM presta.unavailability_rule n
+            WHERE n.contractor_id = :contractorId AND n.start_date <= :endDate AND n.end_date >= :startDate
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final AvailabilityRuleMapper availabilityRuleMapper;
+    private final UnavailabilityRuleMapper unavailabilityRuleMapper;
+
+    public BookingContextRepositoryAdapter(NamedParameterJdbcTemplate jdbcTemplate,
+                                           AvailabilityRuleMapper availabilityRuleMapper,
+                                           UnavailabilityRuleMapper unavailabilityRuleMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.availabilityRuleMapper = availabilityRuleMapper;
+        this.unavailabilityRuleMapper = unavailabilityRuleMapper;
+    }
+
+    @Override
+    public BookingContext loadBookingContext(UUID contractorId, UUID clientId, LocalDate startDate, LocalDate endDate) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("contractorId", contractorId)
+                .addValue("clientId", clientId)
+                .addValue("startDate", startDate)
+                .addValue("endDate", endDate);
+
+        Rows rows = new Rows();
+        jdbcTemplate.query(BOOKING_CONTEXT_SQL, params, rows::add);
+        return rows.toContext(availabilityRuleMapper, unavailabilityRuleMapper);
+    }
+
+    /**
+     * Accumule les lignes du UNION ALL selon leur nature
+     */
+    private static final class Rows {
+
+        private boolean contractorActive;
+        private boolean clientActive;
+        private final Map<UUID, AvailabilityRuleEntity> rules = new LinkedHashMap<>();
+        private final List<BreakTimeRow> breakTimes = new ArrayList<>();
+        private final List<UnavailabilityRuleEntity> unavailabilities = new ArrayList<>();
+
+        private void add(ResultSet rs) throws SQLException {
+            switch (rs.getString("kind")) {
+                case "CONTRACTOR" -> contractorActive = rs.getBoolean("active");
+                case "CLIENT" -> clientActive = rs.getBoolean("active");
+                case "RULE" -> {
+                    AvailabilityRuleEntity rule = new AvailabilityRuleEntity();
+                    rule.setId(rs.getObject("id", UUID.class));
+                    rule.setContractorId(rs.getObject("parent_id", UUID.class));
+                    rule.setWeekDays(weekDays(rs));
+                    rule.setStartTime(rs.getObject("start_time", LocalTime.class));
+                    rule.setEndTime(rs.getObject("end_time", LocalTime.class));
+                    rule.setSlotDuration(rs.getInt("duration"));
+                    rule.setRestTime(rs.getObject("rest_time", Integer.class));
+                    rule.setIsActive(rs.getBoolean("active"));
+                    rules.put(rule.getId(), rule);
+                }
+                case "BREAK" -> breakTimes.add(new BreakTimeRow(
+                        rs.getObject("parent_id", UUID.class),
+                        new BreakTimeEntity(
+                                rs.getObject("start_time", LocalTime.class),
+                                rs.getObject("end_time", LocalTime.class),
+                                weekDays(rs)
+                        )
+                ));
+                case "UNAVAILABILITY" -> unavailabilities.add(new UnavailabilityRuleEntity(
+                        rs.getObject("id", UUID.class),
+                        rs.getObject("parent_id", UUID.class),
+                        rs.getObject("start_date", LocalDate.class),
+                        rs.getObject("end_date", LocalDate.class),
+                        rs.getObject("start_time", LocalTime.class),
+                        rs.getObject("end_time", LocalTime.class),
+                        rs.getString("reason"),
+                        rs.getObject("start_at", LocalDateTime.class),
+                        rs.getString("recurrence")
+                ));
+                default -> throw new IllegalStateException("Ligne de contexte inconnue : " + rs.getString("kind"));
+            }
+        }
+
+        private BookingContext toContext(AvailabilityRuleMapper availabilityRuleMapper,
+                                         UnavailabilityRuleMapper unavailabilityRuleMapper) {
+            // Les pauses peuvent arriver avant leur règle : le UNION ALL ne garantit aucun ordre
+            for (BreakTimeRow row : breakTimes) {
+                AvailabilityRuleEntity rule = rules.get(row.ruleId());
+                if (rule != null) {
+                    rule.addBreakTime(row.breakTime());
+                }
+            }
+
+            List<AvailabilityRule> availabilityRules = rules.values().stream()
+                    .map(availabilityRuleMapper::toDomain)
+                    .toList();
+            List<UnavailabilityRule> unavailabilityRules = unavailabilities.stream()
+                    .map(unavailabilityRuleMapper::toDomain)
+                    .toList();
+
+            return new BookingContext(contractorActive, clientActive, availabilityRules, unavailabilityRules);
+        }
+
+        private static Integer[] weekDays(ResultSet rs) throws SQLException {
+            Array array = rs.getArray("week_days");
+            return array != null ? (Integer[]) array.getArray() : null;
+        }
+    }
+
+    private record BreakTimeRow(UUID ruleId, BreakTimeEntity breakTime) {}
+}
@@ -0,0 +1,110 @@
+package com.presta.infrastructure.persistence.adapters;
+
+import com.presta.domain.model.ContractorSlot;
+import com.presta.domain.port.FreeSlotIndexPort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public class FreeSlotIndexRepositoryAdapter implements FreeSlotIndexPort {
+
+    // Verrou consultatif libéré au commit ; un espace de noms propre à l'index des créneaux libres
+    private static final String LOCK_SQL = """
+            SELECT pg_advisory_xact_lock(hashtext('contractor_free_slot'), hashtext(:contractorId))
+            """;
+
+    private static final String DELETE_RANGE_SQL = """
+            DELETE FROM presta.contractor_free_slot
+            WHERE contractor_id = :contractorId AND slot_date BETWEEN :fromDate AND :toDate
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO presta.contractor_free_slot (contractor_id, slot_date, start_time, duration)
+            VALUES (:contractorId, :slotDate, :startTime, :duration)
+            """;
+
+    private static final String UPSERT_HORIZON_SQL = """
+            INSERT INTO presta.contractor_free_slot_horizon (contractor_id, refreshed_until)
+            VALUES (:contractorId, :toDate)
+            ON CONFLICT (contractor_id) DO UPDATE
+            SET refreshed_until = GREATEST(presta.contractor_free_slot_horizon.refreshed_until, EXCLUDED.refreshed_until)
+            """;
+
+    private static final String HORIZONS_BEFORE_SQL = """
+            SELECT c.id, h.refreshed_until
+            FROM presta.contractor_account c
+            LEFT JOIN presta.contractor_free_slot_horizon h ON h.contractor_id = c.id
+            WHERE c.id > :afterId
+              AND (h.refreshed_until IS NULL OR h.refreshed_until < :until)
+              AND EXISTS (SELECT 1 FROM presta.availability_rule r
+                          WHERE r.contractor_id = c.id AND r.is_active = true)
+            ORDER BY c.id
+            LIMIT :limit
+            """;
+
+    private static final String PURGE_SQL = """
+            DELETE FROM presta.contractor_free_slot WHERE slot_date < :date
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public FreeSlotIndexRepositoryAdapter(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lockContractor(UUID contractorId) {
+        jdbcTemplate.execute(LOCK_SQL, new MapSqlParameterSource("contractorId", contractorId.toString()),
+                PreparedStatement::execute);
+    }
+
+    @Override
+    @Transactional
+    public void replaceFreeSlots(UUID contractorId, LocalDate fromDate, LocalDate toDate, List<ContractorSlot> slots) {
+        MapSqlParameterSource range = new MapSqlParameterSource()
+                .addValue("contractorId", contractorId)
+                .addValue("fromDate", fromDate)
+                .addValue("toDate", toDate);
+
+        jdbcTemplate.update(UPSERT_HORIZON_SQL, range);
+        jdbcTemplate.update(DELETE_RANGE_SQL, range);
+
+        if (!slots.isEmpty()) {
+            SqlParameterSource[] batch = slots.stream()
+                    .map(slot -> new MapSqlParameterSource()
+                            .addValue("contractorId", contractorId)
+                            .addValue("slotDate", slot.startDateTime().toLocalDate())
+                            .addValue("startTime", slot.startDateTime().toLocalTime())
+                            .addValue("duration", slot.duration()))
+                    .toArray(SqlParameterSource[]::new);
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        }
+    }
+
+    @Override
+    public List<Horizon> findHorizonsBefore(LocalDate until, UUID afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("until", until)
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(HORIZONS_BEFORE_SQL, params, (rs, rowNum) -> new Horizon(
+                rs.getObject("id", UUID.class),
+                rs.getObject("refreshed_until", LocalDate.class)
+        ));
+    }
+
+    @Override
+    public int purgeBefore(LocalDate date) {
+        return jdbcTemplate.update(PURGE_SQL, new MapSqlParameterSource("date", date));
+    }
+}
@@ -0,0 +1,55 @@
+package com.presta.infrastructure.persistence.adapters;
+
+import com.presta.domain.port.IdempotencyKeyPort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public class IdempotencyKeyRepositoryAdapter implements IdempotencyKeyPort {
+
+    private static final String FIND_SQL = """
+            SELECT appointment_id
+            FROM presta.idempotency_key
+            WHERE client_id = :clientId AND idempotency_key = :idempotencyKey AND created_at >= :notBefore
+            """;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO presta.idempotency_key (client_id, idempotency_key, appointment_id, created_at)
+            VALUES (:clientId, :idempotencyKey, :appointmentId, CURRENT_TIMESTAMP)
+            ON CONFLICT (client_id, idempotency_key)
+            DO UPDATE SET appointment_id = EXCLUDED.appointment_id, created_at = EXCLUDED.created_at
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public IdempotencyKeyRepositoryAdapter(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<UUID> findAppointmentId(UUID clientId, String idempotencyKey, LocalDateTime notBefore) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("clientId", clientId)
+                .addValue("idempotencyKey", idempotencyKey)
+                .addValue("notBefore", notBefore);
+
+        return jdbcTemplate.query(FIND_SQL, params, (rs, rowNum) -> rs.getObject("appointment_id", UUID.class))
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public void save(UUID clientId, String idempotencyKey, UUID appointmentId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("clientId", clientId)
+                .addValue("idempotencyKey", idempotencyKey)
+                .addValue("appointmentId", appointmentId);
+
+        jdbcTemplate.update(UPSERT_SQL, params);
+    }
+}
@@ -0,0 +1,50 @@
+package com.presta.infrastructure.persistence.adapters;
+
+import com.presta.domain.model.DailyBookingCount;
+import com.presta.domain.port.OccupancyQueryPort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public class OccupancyRepositoryAdapter implements OccupancyQueryPort {
+
+    // Parcours de l'index (contractor_id, appointment_datetime, status) : seuls les agrégats remontent
+    private static final String COUNT_BY_DAY_SQL = """
+            SELECT contractor_id, CAST(appointment_datetime AS date) AS day, COUNT(*) AS booked
+            FROM presta.appointment
+            WHERE contractor_id IN (:contractorIds)
+              AND appointment_datetime >= :start AND appointment_datetime < :end
+              AND status <> 'CANCELLED'
+            GROUP BY contractor_id, CAST(appointment_datetime AS date)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public OccupancyRepositoryAdapter(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<DailyBookingCount> countBookingsByDay(Collection<UUID> contractorIds, LocalDate startDate, LocalDate endDate) {
+        if (contractorIds.isEmpty()) {
+            return List.of();
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("contractorIds", contractorIds)
+                .addValue("start", startDate.atStartOfDay())
+                .addValue("end", endDate.plusDays(1).atStartOfDay());
+
+        return jdbcTemplate.query(COUNT_BY_DAY_SQL, params, (rs, rowNum) -> new DailyBookingCount(
+                rs.getObject("contractor_id", UUID.class),
+                rs.getObject("day", LocalDate.class),
+                rs.getLong("booked")
+        ));
+    }
+}
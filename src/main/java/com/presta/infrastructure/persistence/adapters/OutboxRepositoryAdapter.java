@@ -0,0 +1,150 @@
+package com.presta.infrastructure.persistence.adapters;
+
+import com.presta.domain.model.AppointmentEvent;
+import com.presta.domain.model.valueobject.AppointmentEventType;
+import com.presta.domain.port.OutboxPort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public class OutboxRepositoryAdapter implements OutboxPort {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO presta.outbox_event (id, event_type, appointment_id, contractor_id, client_id,
+                                             appointment_datetime, duration, occurred_at, available_at)
+            VALUES (:id, :eventType, :appointmentId, :contractorId, :clientId,
+                    :appointmentDateTime, :duration, :occurredAt, :occurredAt)
+            """;
+
+    // SKIP LOCKED : deux dispatchers ne réservent jamais le même événement et ne s'attendent pas.
+    // Un événement n'est réservé qu'une fois livrés (ou abandonnés) les précédents de son rendez-vous :
+    // l'ordre tient d'un lot à l'autre et d'une instance à l'autre, même quand l'un d'eux est repoussé
+    private static final String CLAIM_SQL = """
+            UPDATE presta.outbox_event e
+            SET available_at = :leaseUntil, attempts = e.attempts + 1
+            WHERE e.id IN (
+                SELECT c.id FROM presta.outbox_event c
+                WHERE c.processed_at IS NULL AND c.available_at <= :now
+                  AND NOT EXISTS (
+                      SELECT 1 FROM presta.outbox_event p
+                      WHERE p.appointment_id = c.appointment_id
+                        AND p.processed_at IS NULL
+                        AND p.occurred_at < c.occurred_at
+                  )
+                ORDER BY c.available_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING e.id, e.event_type, e.appointment_id, e.contractor_id, e.client_id,
+                      e.appointment_datetime, e.duration, e.occurred_at, e.attempts
+            """;
+
+    private static final String MARK_PROCESSED_SQL = """
+            UPDATE presta.outbox_event SET processed_at = :now, last_error = NULL WHERE id IN (:ids)
+            """;
+
+    private static final String MARK_FAILED_SQL = """
+            UPDATE presta.outbox_event SET available_at = :retryAt, last_error = :error WHERE id = :id
+            """;
+
+    private static final String MARK_ABANDONED_SQL = """
+            UPDATE presta.outbox_event SET processed_at = :now, last_error = :error WHERE id = :id
+            """;
+
+    // Les événements abandonnés restent pour analyse
+    private static final String PURGE_SQL = """
+            DELETE FROM presta.outbox_event WHERE processed_at < :before AND last_error IS NULL
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public OutboxRepositoryAdapter(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void append(List<AppointmentEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        SqlParameterSource[] batch = events.stream()
+                .map(event -> new MapSqlParameterSource()
+                        .addValue("id", event.id())
+                        .addValue("eventType", event.type().name())
+                        .addValue("appointmentId", event.appointmentId())
+                        .addValue("contractorId", event.contractorId())
+                        .addValue("clientId", event.clientId())
+                        .addValue("appointmentDateTime", event.appointmentDateTime())
+                        .addValue("duration", event.duration())
+                        .addValue("occurredAt", event.occurredAt()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+    }
+
+    @Override
+    public List<AppointmentEvent> claim(int limit, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("now", now)
+                .addValue("leaseUntil", now.plus(lease))
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(CLAIM_SQL, params, OutboxRepositoryAdapter::toEvent);
+    }
+
+    @Override
+    public void markProcessed(Collection<UUID> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(MARK_PROCESSED_SQL, new MapSqlParameterSource()
+                .addValue("now", LocalDateTime.now())
+                .addValue("ids", eventIds));
+    }
+
+    @Override
+    public void markFailed(UUID eventId, LocalDateTime retryAt, String error) {
+        jdbcTemplate.update(MARK_FAILED_SQL, new MapSqlParameterSource()
+                .addValue("id", eventId)
+                .addValue("retryAt", retryAt)
+                .addValue("error", error));
+    }
+
+    @Override
+    public void markAbandoned(UUID eventId, String error) {
+        jdbcTemplate.update(MARK_ABANDONED_SQL, new MapSqlParameterSource()
+                .addValue("id", eventId)
+                .addValue("now", LocalDateTime.now())
+                .addValue("error", error));
+    }
+
+    @Override
+    public int purgeProcessedBefore(LocalDateTime before) {
+        return jdbcTemplate.update(PURGE_SQL, new MapSqlParameterSource("before", before));
+    }
+
+    private static AppointmentEvent toEvent(ResultSet rs, int rowNum) throws SQLException {
+        return new AppointmentEvent(
+                rs.getObject("id", UUID.class),
+                AppointmentEventType.valueOf(rs.getString("event_type")),
+                rs.getObject("appointment_id", UUID.class),
+                rs.getObject("contractor_id", UUID.class),
+                rs.getObject("client_id", UUID.class),
+                rs.getObject("appointment_datetime", LocalDateTime.class),
+                rs.getInt("duration"),
+                rs.getObject("occurred_at", LocalDateTime.class),
+                rs.getInt("attempts")
+        );
+    }
+}
@@ -12,6 +12,7 @@ import com.presta.domain.port.UserRepositoryPort;
 import com.presta.infrastructure.external.keycloak.KeycloakAdminClient;
 import com.presta.infrastructure.persistence.entities.AssignmentEntity;
 import com.presta.infrastructure.persistence.entities.ClientEntity;
+import com.presta.infrastructure.persistence.entities.ContractorFreeSlotEntity;
 import com.presta.infrastructure.persistence.entities.ContractorEntity;
 import com.presta.infrastructure.persistence.entities.UserEntity;
 import com.presta.infrastructure.persistence.mapper.UserMapper;
@@ -22,12 +23,19 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -267,7 +275,8 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
     }
 
     @Override
-    public Page<Contractor> findContractors(String name, String speciality, String assignmentId, String address, Pageable pageable) {
+    public Page<Contractor> findContractors(String name, String speciality, String assignmentId, String address,
+                                            LocalDate availableOn, LocalTime availableAt, Pageable pageable) {
         Specification<ContractorEntity> spec = Specification.where(null);
 
         // Recherche par nom (fullName)
@@ -302,6 +311,26 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
                     cb.like(cb.lower(root.get("address")), "%" + address.toLowerCase() + "%"));
         }
 
+        // Disponibilité : EXISTS sur l'index des créneaux libres, servi par (slot_date, start_time, contractor_id)
+        if (availableOn != null) {
+            spec = spec.and((root, query, cb) -> {
+                Subquery<Integer> freeSlot = query.subquery(Integer.class);
+                Root<ContractorFreeSlotEntity> slot = freeSlot.from(ContractorFreeSlotEntity.class);
+                List<Predicate> predicates = new ArrayList<>();
+                predicates.add(cb.equal(slot.get("contractorId"), root.get("id")));
+                predicates.add(cb.equal(slot.get("slotDate"), availableOn));
+                if (availableAt != null) {
+                    predicates.add(cb.equal(slot.get("startTime"), availableAt));
+                }
+                // Les créneaux du jour ne sont purgés que le lendemain : écarter ceux déjà commencés
+                if (availableOn.equals(LocalDate.now())) {
+                    predicates.add(cb.greaterThan(slot.get("startTime"), LocalTime.now()));
+                }
+                freeSlot.select(cb.literal(1)).where(predicates.toArray(Predicate[]::new));
+                return cb.exists(freeSlot);
+            });
+        }
+
         Page<ContractorEntity> entityPage = contractorJpaRepository.findAll(spec, pageable);
         return entityPage.map(userMapper::toDomain);
     }
@@ -47,6 +47,10 @@ public class AppointmentEntity {
     @Column(name = "notes")
     private String notes;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
 
     public UUID getContractorId() {
         return contractorId;
@@ -121,6 +125,14 @@ public class AppointmentEntity {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
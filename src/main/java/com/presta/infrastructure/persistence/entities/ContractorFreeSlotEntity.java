@@ -0,0 +1,84 @@
+package com.presta.infrastructure.persistence.entities;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Ligne de l'index des créneaux libres, lue seulement par les Specification de recherche.
+ * La table est écrite en JDBC par lots ({@link com.presta.infrastructure.persistence.adapters.FreeSlotIndexRepositoryAdapter}).
+ */
+@Entity
+@Immutable
+@IdClass(ContractorFreeSlotEntity.Key.class)
+@Table(name = "contractor_free_slot", schema = "presta")
+public class ContractorFreeSlotEntity {
+
+    @Id
+    @Column(name = "contractor_id", nullable = false, columnDefinition = "uuid")
+    private UUID contractorId;
+
+    @Id
+    @Column(name = "slot_date", nullable = false)
+    private LocalDate slotDate;
+
+    @Id
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime;
+
+    @Id
+    @Column(name = "duration", nullable = false)
+    private Integer duration;
+
+    protected ContractorFreeSlotEntity() {
+    }
+
+    public UUID getContractorId() {
+        return contractorId;
+    }
+
+    public LocalDate getSlotDate() {
+        return slotDate;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public Integer getDuration() {
+        return duration;
+    }
+
+    public static class Key implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private UUID contractorId;
+        private LocalDate slotDate;
+        private LocalTime startTime;
+        private Integer duration;
+
+        public Key() {
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(contractorId, key.contractorId)
+                    && Objects.equals(slotDate, key.slotDate)
+                    && Objects.equals(startTime, key.startTime)
+                    && Objects.equals(duration, key.duration);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(contractorId, slotDate, startTime, duration);
+        }
+    }
+}
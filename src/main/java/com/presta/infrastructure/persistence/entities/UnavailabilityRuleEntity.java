@@ -35,6 +35,10 @@ public class UnavailabilityRuleEntity {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    // Règle RRULE, null = tous les jours de la période
+    @Column(name = "recurrence", length = 255)
+    private String recurrence;
+
 
     protected UnavailabilityRuleEntity() {
     }
@@ -48,7 +52,8 @@ public class UnavailabilityRuleEntity {
             LocalTime startTime,
             LocalTime endTime,
             String reason,
-            LocalDateTime createdAt) {
+            LocalDateTime createdAt,
+            String recurrence) {
         this.id = id;
         this.contractorId = contractorId;
         this.startDate = startDate;
@@ -57,6 +62,19 @@ public class UnavailabilityRuleEntity {
         this.endTime = endTime;
         this.reason = reason;
         this.createdAt = createdAt;
+        this.recurrence = recurrence;
+    }
+
+    public UnavailabilityRuleEntity(
+            UUID id,
+            UUID contractorId,
+            LocalDate startDate,
+            LocalDate endDate,
+            LocalTime startTime,
+            LocalTime endTime,
+            String reason,
+            LocalDateTime createdAt) {
+        this(id, contractorId, startDate, endDate, startTime, endTime, reason, createdAt, null);
     }
 
     public UnavailabilityRuleEntity(
@@ -140,4 +158,12 @@ public class UnavailabilityRuleEntity {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    public String getRecurrence() {
+        return recurrence;
+    }
+
+    public void setRecurrence(String recurrence) {
+        this.recurrence = recurrence;
+    }
 }
\ No newline at end of file
@@ -21,7 +21,8 @@ public class AppointmentMapper {
                 entity.getStatus() != null ? entity.getStatus() : AppointmentStatus.PENDING,
                 new AppointmentDetails(entity.getReason(), entity.getNotes()),
                 entity.getCreatedAt(),
-                entity.getUpdatedAt()
+                entity.getUpdatedAt(),
+                entity.getVersion() != null ? entity.getVersion() : 0L
         );
     }
 
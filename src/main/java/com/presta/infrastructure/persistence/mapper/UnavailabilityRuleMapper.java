@@ -2,6 +2,7 @@ package com.presta.infrastructure.persistence.mapper;
 
 
 import com.presta.domain.model.UnavailabilityRule;
+import com.presta.domain.model.valueobject.RecurrenceRule;
 import com.presta.domain.model.valueobject.UnavailabilityPeriod;
 import com.presta.infrastructure.persistence.entities.UnavailabilityRuleEntity;
 import org.springframework.stereotype.Component;
@@ -21,7 +22,8 @@ public class UnavailabilityRuleMapper {
                 entity.getStartDate(),
                 entity.getEndDate(),
                 entity.getStartTime(),
-                entity.getEndTime()
+                entity.getEndTime(),
+                entity.getRecurrence() != null ? RecurrenceRule.parse(entity.getRecurrence()) : null
         );
 
         return new UnavailabilityRule(
@@ -47,7 +49,8 @@ public class UnavailabilityRuleMapper {
                 domain.getStartTime(),
                 domain.getEndTime(),
                 domain.getReason(),
-                domain.getCreatedAt()
+                domain.getCreatedAt(),
+                toRRule(domain)
         );
     }
 
@@ -64,5 +67,11 @@ public class UnavailabilityRuleMapper {
         entity.setEndTime(domain.getEndTime());
         entity.setReason(domain.getReason());
         entity.setCreatedAt(domain.getCreatedAt());
+        entity.setRecurrence(toRRule(domain));
+    }
+
+    private static String toRRule(UnavailabilityRule domain) {
+        RecurrenceRule recurrence = domain.getPeriod().recurrence();
+        return recurrence != null ? recurrence.toRRule() : null;
     }
 }
@@ -0,0 +1,20 @@
+package com.presta.infrastructure.persistence.projections;
+
+import com.presta.domain.model.valueobject.TimeSlot;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection de lecture d'un rendez-vous : seulement son début et sa durée.
+ * Construite par expression constructeur JPQL, elle n'entre pas dans le contexte de persistance
+ * (pas d'entité gérée, pas de snapshot de dirty-checking, pas de colonnes TEXT transférées).
+ */
+public record AppointmentSlotView(
+        LocalDateTime appointmentDateTime,
+        Integer duration
+) {
+
+    public TimeSlot toTimeSlot() {
+        return new TimeSlot(appointmentDateTime, duration);
+    }
+}
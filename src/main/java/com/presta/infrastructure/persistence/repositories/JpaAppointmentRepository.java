@@ -1,19 +1,29 @@
 package com.presta.infrastructure.persistence.repositories;
 
 import com.presta.domain.model.Appointment;
+import com.presta.domain.model.valueobject.AppointmentStatus;
 import com.presta.infrastructure.persistence.entities.AppointmentEntity;
+import com.presta.infrastructure.persistence.projections.AppointmentSlotView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface JpaAppointmentRepository extends JpaRepository<AppointmentEntity, UUID> {
 
+    String OUTBOX_INSERT_FROM_UPDATED =
+            "INSERT INTO presta.outbox_event (id, event_type, appointment_id, contractor_id, client_id, " +
+            "appointment_datetime, duration, occurred_at, available_at) " +
+            "SELECT gen_random_uuid(), :eventType, id, contractor_id, client_id, " +
+            "appointment_datetime, duration, :updatedAt, :updatedAt FROM updated";
+
     List<AppointmentEntity> findByClientId(UUID clientId);
 
     List<AppointmentEntity> findByContractorId(UUID contractorId);
@@ -24,6 +34,9 @@ public interface JpaAppointmentRepository extends JpaRepository<AppointmentEntit
             LocalDateTime end
     );
 
+    /**
+     * Parcours d'une seule plage de l'index (contractor_id, appointment_datetime, status)
+     */
     @Query("SELECT a FROM AppointmentEntity a " +
             "WHERE a.contractorId = :contractorId " +
             "AND a.appointmentDateTime BETWEEN :start AND :end " +
@@ -32,7 +45,131 @@ public interface JpaAppointmentRepository extends JpaRepository<AppointmentEntit
             @Param("contractorId") UUID contractorId,
             @Param("start") LocalDateTime start,
             @Param("end") LocalDateTime end,
-            @Param("statuses") List<String> statuses
+            @Param("statuses") List<AppointmentStatus> statuses
+    );
+
+    /**
+     * Projection début + durée pour le planning et la détection de conflits :
+     * lecture seule depuis l'index couvrant, sans hydrater d'entité
+     */
+    @Query("SELECT new com.presta.infrastructure.persistence.projections.AppointmentSlotView(" +
+            "a.appointmentDateTime, a.duration) " +
+            "FROM AppointmentEntity a " +
+            "WHERE a.contractorId = :contractorId " +
+            "AND a.appointmentDateTime BETWEEN :start AND :end " +
+            "AND a.status IN :statuses " +
+            "ORDER BY a.appointmentDateTime")
+    List<AppointmentSlotView> findSlotsByContractorIdAndPeriodAndStatusIn(
+            @Param("contractorId") UUID contractorId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("statuses") List<AppointmentStatus> statuses
+    );
+
+    /**
+     * Transition conditionnelle en une seule instruction : 0 si le rendez-vous a changé
+     * de statut ou de version depuis sa lecture
+     */
+    @Modifying
+    @Query("UPDATE AppointmentEntity a " +
+            "SET a.status = :status, a.notes = :notes, a.updatedAt = :updatedAt, a.version = a.version + 1 " +
+            "WHERE a.id = :id " +
+            "AND a.status = :expectedStatus " +
+            "AND a.version = :version")
+    int updateStateIfUnchanged(
+            @Param("id") UUID id,
+            @Param("expectedStatus") AppointmentStatus expectedStatus,
+            @Param("version") Long version,
+            @Param("status") AppointmentStatus status,
+            @Param("notes") String notes,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    /**
+     * Transition en masse des rendez-vous du contractor commençant dans [start, end),
+     * avec un événement d'outbox par rendez-vous modifié, dans la même instruction
+     * @return le nombre de rendez-vous modifiés
+     */
+    @Modifying
+    @Query(nativeQuery = true, value =
+            "WITH updated AS (" +
+            "  UPDATE presta.appointment a " +
+            "  SET status = :status, updated_at = :updatedAt, version = a.version + 1 " +
+            "  WHERE a.contractor_id = :contractorId " +
+            "  AND a.appointment_datetime >= :start AND a.appointment_datetime < :end " +
+            "  AND a.status IN (:fromStatuses) " +
+            "  RETURNING a.id, a.contractor_id, a.client_id, a.appointment_datetime, a.duration" +
+            ") " + OUTBOX_INSERT_FROM_UPDATED)
+    int updateStatusBetween(
+            @Param("contractorId") UUID contractorId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("fromStatuses") Collection<String> fromStatuses,
+            @Param("status") String status,
+            @Param("eventType") String eventType,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    /**
+     * Transition en masse des rendez-vous du contractor commencés au plus tard à before,
+     * avec un événement d'outbox par rendez-vous modifié, dans la même instruction
+     * @return le nombre de rendez-vous modifiés
+     */
+    @Modifying
+    @Query(nativeQuery = true, value =
+            "WITH updated AS (" +
+            "  UPDATE presta.appointment a " +
+            "  SET status = :status, updated_at = :updatedAt, version = a.version + 1 " +
+            "  WHERE a.contractor_id = :contractorId " +
+            "  AND a.appointment_datetime <= :before " +
+            "  AND a.status IN (:fromStatuses) " +
+            "  RETURNING a.id, a.contractor_id, a.client_id, a.appointment_datetime, a.duration" +
+            ") " + OUTBOX_INSERT_FROM_UPDATED)
+    int updateStatusStartedBefore(
+            @Param("contractorId") UUID contractorId,
+            @Param("before") LocalDateTime before,
+            @Param("fromStatuses") Collection<String> fromStatuses,
+            @Param("status") String status,
+            @Param("eventType") String eventType,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    /**
+     * Page de rendez-vous confirmés sans rappel commençant dans [start, end), après le curseur
+     * (afterDateTime, afterId) : parcours de l'index partiel idx_appointment_reminder_due
+     */
+    @Query(nativeQuery = true, value =
+            "SELECT * FROM presta.appointment a " +
+            "WHERE a.status = 'CONFIRMED' AND a.reminder_sent_at IS NULL " +
+            "AND a.appointment_datetime >= :start AND a.appointment_datetime < :end " +
+            "AND (a.appointment_datetime, a.id) > (:afterDateTime, :afterId) " +
+            "ORDER BY a.appointment_datetime, a.id " +
+            "LIMIT :limit")
+    List<AppointmentEntity> findReminderCandidates(
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("afterDateTime") LocalDateTime afterDateTime,
+            @Param("afterId") UUID afterId,
+            @Param("limit") int limit
+    );
+
+    /**
+     * Pose le marqueur de rappel des rendez-vous encore confirmés et sans rappel,
+     * avec un événement REMINDER_DUE par rendez-vous marqué, dans la même instruction
+     * @return le nombre de rendez-vous marqués
+     */
+    @Modifying
+    @Query(nativeQuery = true, value =
+            "WITH updated AS (" +
+            "  UPDATE presta.appointment a " +
+            "  SET reminder_sent_at = :updatedAt " +
+            "  WHERE a.id IN (:ids) AND a.status = 'CONFIRMED' AND a.reminder_sent_at IS NULL " +
+            "  RETURNING a.id, a.contractor_id, a.client_id, a.appointment_datetime, a.duration" +
+            ") " + OUTBOX_INSERT_FROM_UPDATED)
+    int markRemindersDue(
+            @Param("ids") Collection<UUID> ids,
+            @Param("eventType") String eventType,
+            @Param("updatedAt") LocalDateTime updatedAt
     );
 
     boolean existsByContractorIdAndAppointmentDateTime(
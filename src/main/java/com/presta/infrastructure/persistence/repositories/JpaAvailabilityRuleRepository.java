@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -14,7 +15,15 @@ public interface JpaAvailabilityRuleRepository extends JpaRepository<Availabilit
             SELECT a
             FROM AvailabilityRuleEntity a,
                  ContractorEntity c , UserEntity u
-            WHERE a.isActive = true AND ( c.id = :contractorId AND c.id = u.id and u.isActive = true )
+            WHERE a.isActive = true AND a.contractorId = c.id AND ( c.id = :contractorId AND c.id = u.id and u.isActive = true )
     """)
     List<AvailabilityRuleEntity> findByIsActiveAndContractorId(UUID contractorId);
+
+    @Query("""
+            SELECT DISTINCT a
+            FROM AvailabilityRuleEntity a
+            LEFT JOIN FETCH a.breakTimes
+            WHERE a.isActive = true AND a.contractorId IN :contractorIds
+    """)
+    List<AvailabilityRuleEntity> findActiveByContractorIdIn(Collection<UUID> contractorIds);
 }
@@ -1,6 +1,8 @@
 package com.presta.infrastructure.web.controllers;
 
 
+import com.presta.application.search.FreeSlotIndexer;
+import com.presta.application.snapshot.PlanningSnapshotStore;
 import com.presta.domain.model.UnavailabilityRule;
 import com.presta.infrastructure.persistence.adapters.UnavailabilityRepositoryAdapter;
 import com.presta.infrastructure.web.dtos.availability.CreateUnavailabilityRuleRequest;
@@ -15,15 +17,20 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/unavailabilityRules")
 public class UnavailabilityRuleController {
     private final UnavailabilityRepositoryAdapter unavailabilityRepositoryAdapter;
+    private final PlanningSnapshotStore planningSnapshotStore;
+    private final FreeSlotIndexer freeSlotIndexer;
 
-    public UnavailabilityRuleController(UnavailabilityRepositoryAdapter unavailabilityRepositoryAdapter) {
+    public UnavailabilityRuleController(UnavailabilityRepositoryAdapter unavailabilityRepositoryAdapter, PlanningSnapshotStore planningSnapshotStore, FreeSlotIndexer freeSlotIndexer) {
         this.unavailabilityRepositoryAdapter = unavailabilityRepositoryAdapter;
+        this.planningSnapshotStore = planningSnapshotStore;
+        this.freeSlotIndexer = freeSlotIndexer;
     }
 
     @PostMapping
     public ResponseEntity<UnavailabilityRule> save(@RequestBody CreateUnavailabilityRuleRequest request) {
-        return new ResponseEntity<>(this.unavailabilityRepositoryAdapter.save(
-                request.toDomain()
-        ), HttpStatusCode.valueOf(201));
+        UnavailabilityRule saved = this.unavailabilityRepositoryAdapter.save(request.toDomain());
+        this.planningSnapshotStore.evictDays(saved.getContractorId(), saved.getPeriod().startDate(), saved.getPeriod().endDate());
+        this.freeSlotIndexer.refresh(saved.getContractorId(), saved.getPeriod().startDate(), saved.getPeriod().endDate());
+        return new ResponseEntity<>(saved, HttpStatusCode.valueOf(201));
     }
 }
@@ -0,0 +1,47 @@
+package com.presta.infrastructure.web.controllers.analytics;
+
+import com.presta.application.usecases.OccupancyAnalyticsUseCase;
+import com.presta.domain.model.OccupancyStat;
+import com.presta.domain.model.valueobject.OccupancyGranularity;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/analytics/occupancy")
+public class OccupancyController {
+
+    private final OccupancyAnalyticsUseCase occupancyAnalyticsUseCase;
+
+    public OccupancyController(OccupancyAnalyticsUseCase occupancyAnalyticsUseCase) {
+        this.occupancyAnalyticsUseCase = occupancyAnalyticsUseCase;
+    }
+
+    /**
+     * Occupation d'un ou plusieurs contractors, par jour, semaine ou mois
+     */
+    @GetMapping
+    public ResponseEntity<List<OccupancyStat>> getOccupancy(
+            @RequestParam List<UUID> contractorIds,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "DAY") OccupancyGranularity granularity) {
+        return ResponseEntity.ok(occupancyAnalyticsUseCase.getOccupancy(contractorIds, startDate, endDate, granularity));
+    }
+
+    /**
+     * Occupation de tous les contractors d'une catégorie
+     */
+    @GetMapping("/assignments/{assignmentId}")
+    public ResponseEntity<List<OccupancyStat>> getAssignmentOccupancy(
+            @PathVariable UUID assignmentId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "DAY") OccupancyGranularity granularity) {
+        return ResponseEntity.ok(occupancyAnalyticsUseCase.getAssignmentOccupancy(assignmentId, startDate, endDate, granularity));
+    }
+}
@@ -2,34 +2,107 @@ package com.presta.infrastructure.web.controllers.appointment;
 
 
 import com.presta.application.usecases.AppointmentUseCase;
+import com.presta.domain.exception.UnauthorizedAppointmentActionException;
+import com.presta.domain.exception.UserNotFoundException;
 import com.presta.domain.model.Appointment;
+import com.presta.domain.model.BatchBookingResult;
+import com.presta.domain.port.UserAuthenticationPort;
+import com.presta.domain.port.UserRepositoryPort;
 import com.presta.infrastructure.persistence.adapters.AppointmentRepositoryAdapter;
+import com.presta.infrastructure.web.dtos.appointment.CreateAppointmentBatchRequest;
 import com.presta.infrastructure.web.dtos.appointment.CreateAppointmentRequest;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+import java.util.UUID;
+
 @RestController
 @RequestMapping("/api/appointments")
 public class AppointmentController {
 
     private final AppointmentUseCase appointmentUseCase;
+    private final UserAuthenticationPort authPort;
+    private final UserRepositoryPort userRepositoryPort;
 
-    public AppointmentController(AppointmentUseCase appointmentUseCase) {
+    public AppointmentController(AppointmentUseCase appointmentUseCase, UserAuthenticationPort authPort, UserRepositoryPort userRepositoryPort) {
         this.appointmentUseCase = appointmentUseCase;
+        this.authPort = authPort;
+        this.userRepositoryPort = userRepositoryPort;
     }
 
 
+    /**
+     * Avec un en-tête Idempotency-Key, une relance du même client renvoie le rendez-vous déjà créé
+     */
     @PostMapping
     public ResponseEntity<Appointment> createAppointment(
-            @Valid @RequestBody CreateAppointmentRequest request) {
+            @Valid @RequestBody CreateAppointmentRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         Appointment appointment = request.toDomain();
-        Appointment saved = appointmentUseCase.bookAppointment(appointment);
+        Appointment saved = appointmentUseCase.bookAppointment(appointment, idempotencyKey);
         return ResponseEntity.status(HttpStatus.CREATED).body(saved);
     }
 
+    /**
+     * Réserve une série de créneaux (liste de dates ou récurrence hebdomadaire) en une seule transaction
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchBookingResult> createAppointments(
+            @Valid @RequestBody CreateAppointmentBatchRequest request) {
+        BatchBookingResult result = appointmentUseCase.bookAppointments(request.toDomain(), request.effectiveMode());
+        HttpStatus status = result.booked().isEmpty() ? HttpStatus.OK : HttpStatus.CREATED;
+        return ResponseEntity.status(status).body(result);
+    }
+
+    /**
+     * Confirme tous les rendez-vous en attente du prestataire pour ce jour ; renvoie le nombre confirmé
+     */
+    @PostMapping("/contractors/{contractorId}/confirm-pending")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Integer> confirmAllPendingForDate(
+            @PathVariable UUID contractorId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        requireCurrentContractor(contractorId);
+        return ResponseEntity.ok(appointmentUseCase.confirmAllPendingForDate(contractorId, date));
+    }
+
+    /**
+     * Termine tous les rendez-vous confirmés et commencés du prestataire ; renvoie le nombre terminé
+     */
+    @PostMapping("/contractors/{contractorId}/complete-past")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Integer> completeAllPast(@PathVariable UUID contractorId) {
+        requireCurrentContractor(contractorId);
+        return ResponseEntity.ok(appointmentUseCase.completeAllPast(contractorId));
+    }
+
+    /**
+     * Les opérations en masse ne sont permises qu'au prestataire lui-même
+     */
+    private void requireCurrentContractor(UUID contractorId) {
+        var authUser = authPort.getCurrentAuthenticatedUser()
+                .orElseThrow(() -> new AccessDeniedException("Not authenticated"));
+
+        var user = userRepositoryPort.findUserByKeycloakId(authUser.keycloakId())
+                .orElseThrow(() -> new UserNotFoundException(authUser.keycloakId().getValue()));
+
+        if (!user.id().equals(contractorId)) {
+            throw new UnauthorizedAppointmentActionException(
+                    "Seul le prestataire peut modifier ses rendez-vous en masse"
+            );
+        }
+    }
+
 }
@@ -1,13 +1,18 @@
 package com.presta.infrastructure.web.controllers.assignment;
 
+import com.presta.application.search.EarliestSlotSearch;
 import com.presta.application.usecases.AssignmentUseCase;
 import com.presta.domain.model.Assignment;
+import com.presta.domain.model.EarliestSlots;
 import com.presta.domain.port.AssignmentPort;
 import com.presta.infrastructure.web.dtos.assignment.CreateAssignmentRequest;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @RestController
@@ -15,9 +20,11 @@ import java.util.UUID;
 public class AssignmentController {
 
     private final AssignmentUseCase assignmentUseCase;
+    private final EarliestSlotSearch earliestSlotSearch;
 
-    public AssignmentController(AssignmentUseCase assignmentUseCase) {
+    public AssignmentController(AssignmentUseCase assignmentUseCase, EarliestSlotSearch earliestSlotSearch) {
         this.assignmentUseCase = assignmentUseCase;
+        this.earliestSlotSearch = earliestSlotSearch;
     }
 
     @GetMapping
@@ -43,6 +50,18 @@ public class AssignmentController {
         return assignmentUseCase.getAssignment(id);
     }
 
+    /**
+     * Créneaux libres les plus proches, tous prestataires de la catégorie confondus
+     */
+    @GetMapping("/{id}/earliest-slots")
+    public ResponseEntity<EarliestSlots> earliestSlots(
+            @PathVariable UUID id,
+            @RequestParam int duration,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(earliestSlotSearch.findEarliest(id, duration, from, limit));
+    }
+
     @PostMapping
     public ResponseEntity<Assignment> create(@RequestBody CreateAssignmentRequest request) {
         Assignment createdAssignment = assignmentUseCase.createAssignment(request.name(), request.description());
@@ -1,5 +1,7 @@
 package com.presta.infrastructure.web.controllers.availability;
 
+import com.presta.application.search.FreeSlotIndexer;
+import com.presta.application.snapshot.PlanningSnapshotStore;
 import com.presta.domain.model.AvailabilityRule;
 import com.presta.infrastructure.persistence.adapters.AvailabilityRepositoryAdapter;
 import com.presta.infrastructure.web.dtos.availability.CreateAvailabilityRuleRequest;
@@ -15,9 +17,13 @@ import java.util.UUID;
 public class AvailabilityRuleController{
 
     private final AvailabilityRepositoryAdapter availabilityRepositoryAdapter;
+    private final PlanningSnapshotStore planningSnapshotStore;
+    private final FreeSlotIndexer freeSlotIndexer;
 
-    public AvailabilityRuleController(AvailabilityRepositoryAdapter availabilityRepositoryAdapter) {
+    public AvailabilityRuleController(AvailabilityRepositoryAdapter availabilityRepositoryAdapter, PlanningSnapshotStore planningSnapshotStore, FreeSlotIndexer freeSlotIndexer) {
         this.availabilityRepositoryAdapter = availabilityRepositoryAdapter;
+        this.planningSnapshotStore = planningSnapshotStore;
+        this.freeSlotIndexer = freeSlotIndexer;
     }
 
     @GetMapping("/{id}")
@@ -27,12 +33,13 @@ public class AvailabilityRuleController{
 
     @PostMapping
     public ResponseEntity<AvailabilityRule> saveAvailabilityRule(@RequestBody CreateAvailabilityRuleRequest createAvailabilityRuleRequest){
-            return new ResponseEntity<AvailabilityRule>(
-                    this.availabilityRepositoryAdapter.save(
-                            createAvailabilityRuleRequest.toDomain()
-                    ),
-                    HttpStatusCode.valueOf(201)
+            AvailabilityRule saved = this.availabilityRepositoryAdapter.save(
+                    createAvailabilityRuleRequest.toDomain()
             );
+            // La grille hebdomadaire change : tout le planning du contractor est à recalculer
+            this.planningSnapshotStore.evictContractor(saved.getContractorId());
+            this.freeSlotIndexer.refreshContractor(saved.getContractorId());
+            return new ResponseEntity<AvailabilityRule>(saved, HttpStatusCode.valueOf(201));
     }
 
     @PatchMapping
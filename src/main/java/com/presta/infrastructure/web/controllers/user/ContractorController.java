@@ -9,14 +9,20 @@ import com.presta.domain.port.UserAuthenticationPort;
 import com.presta.domain.port.UserRepositoryPort;
 import com.presta.infrastructure.web.dtos.contractor.ContractorDto;
 import com.presta.infrastructure.web.dtos.contractor.UpdateContractorRequest;
+import com.presta.infrastructure.web.dtos.planning.CompactPlanningDto;
+import com.presta.infrastructure.web.streaming.PlanningJsonWriter;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.UUID;
 
 @RestController
@@ -27,12 +33,14 @@ public class ContractorController {
     private final UserAuthenticationPort authPort;
     private final UserRepositoryPort userRepositoryPort;
     private final SchedulingUseCase schedulingUseCase;
+    private final PlanningJsonWriter planningJsonWriter;
 
-    public ContractorController(ContractorRepositoryPort contractorRepositoryPort, UserAuthenticationPort authPort, UserRepositoryPort userRepositoryPort, SchedulingUseCase schedulingUseCase) {
+    public ContractorController(ContractorRepositoryPort contractorRepositoryPort, UserAuthenticationPort authPort, UserRepositoryPort userRepositoryPort, SchedulingUseCase schedulingUseCase, PlanningJsonWriter planningJsonWriter) {
         this.contractorRepositoryPort = contractorRepositoryPort;
         this.authPort = authPort;
         this.userRepositoryPort = userRepositoryPort;
         this.schedulingUseCase = schedulingUseCase;
+        this.planningJsonWriter = planningJsonWriter;
     }
 
     @GetMapping
@@ -41,6 +49,8 @@ public class ContractorController {
             @RequestParam(required = false,name = "speciality") String speciality,
             @RequestParam(required = false,name = "assignmentId") String assignmentId,
             @RequestParam(required = false,name = "address") String address,
+            @RequestParam(required = false, name = "availableOn") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableOn,
+            @RequestParam(required = false, name = "availableAt") @DateTimeFormat(pattern = "HH:mm") LocalTime availableAt,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id") String sortBy,
@@ -48,7 +58,7 @@ public class ContractorController {
     ) {
         ContractorRepositoryPort.ContractorSearchCriteria criteria =
                 new ContractorRepositoryPort.ContractorSearchCriteria(
-                        name, speciality, assignmentId, address, page, size, sortBy, sortDirection
+                        name, speciality, assignmentId, address, availableOn, availableAt, page, size, sortBy, sortDirection
                 );
 
         Page<Contractor> contractors = contractorRepositoryPort.searchContractors(criteria);
@@ -100,4 +110,48 @@ public class ContractorController {
         ContractorPlanning contractorPlanning = this.schedulingUseCase.generatePlanning(id,startDate,endDate);
         return ResponseEntity.ok(contractorPlanning);
     }
+
+    /**
+     * Variante en flux : les créneaux sont écrits dans la réponse au fur et à mesure de leur génération,
+     * les métadonnées en fin de document. Les données sont chargées avant le premier octet,
+     * les erreurs (contractor inconnu...) gardent donc leur code HTTP.
+     */
+    @GetMapping(value = "/{id}/plannings", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamContractorPlanning(
+            @PathVariable UUID id ,
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate
+            ){
+        var planningStream = this.schedulingUseCase.openPlanningStream(id,startDate,endDate);
+        StreamingResponseBody body = out -> this.planningJsonWriter.write(id, startDate, endDate, planningStream, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /**
+     * Variante compacte (grilles de créneaux + statuts encodés par plages), en JSON ou en CBOR
+     * selon l'en-tête Accept
+     */
+    @GetMapping(value = "/{id}/plannings", produces = {CompactPlanningDto.MEDIA_TYPE_JSON, CompactPlanningDto.MEDIA_TYPE_CBOR})
+    public ResponseEntity<CompactPlanningDto> compactContractorPlanning(
+            @PathVariable UUID id ,
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate
+            ){
+        var planningStream = this.schedulingUseCase.openPlanningStream(id,startDate,endDate);
+        return ResponseEntity.ok(CompactPlanningDto.encode(id, startDate, endDate, planningStream));
+    }
+
+    /**
+     * Même variante compacte demandée par paramètre (format=compact), utile sans contrôle de l'en-tête Accept
+     */
+    @GetMapping(value = "/{id}/plannings", params = "format=compact", produces = {CompactPlanningDto.MEDIA_TYPE_JSON, CompactPlanningDto.MEDIA_TYPE_CBOR, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<CompactPlanningDto> compactContractorPlanningByParam(
+            @PathVariable UUID id ,
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate
+            ){
+        return compactContractorPlanning(id, startDate, endDate);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.presta.infrastructure.web.dtos.appointment;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.presta.domain.model.Appointment;
+import com.presta.domain.model.valueobject.BatchBookingMode;
+import jakarta.validation.constraints.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Réservation groupée : soit une liste explicite de dates, soit une récurrence hebdomadaire
+ * (première date, nombre de séances, intervalle en semaines)
+ */
+public record CreateAppointmentBatchRequest(
+
+        @NotNull(message = "L'ID du prestataire est obligatoire")
+        UUID contractorId,
+
+        @NotNull(message = "L'ID du client est obligatoire")
+        UUID clientId,
+
+        @NotNull(message = "La durée est obligatoire")
+        @Min(value = 15, message = "La durée minimale est de 15 minutes")
+        @Max(value = 480, message = "La durée maximale est de 8 heures (480 minutes)")
+        Integer duration,
+
+        @Size(max = 52, message = "Un lot ne peut pas dépasser 52 réservations")
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        List<@NotNull LocalDateTime> appointmentDateTimes,
+
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime firstAppointmentDateTime,
+
+        @Min(value = 1, message = "Au moins une séance")
+        @Max(value = 52, message = "Un lot ne peut pas dépasser 52 réservations")
+        Integer occurrences,
+
+        @Min(value = 1, message = "L'intervalle minimal est d'une semaine")
+        @Max(value = 4, message = "L'intervalle maximal est de 4 semaines")
+        Integer intervalWeeks,
+
+        BatchBookingMode mode,
+
+        @Size(max = 500, message = "La raison ne peut dépasser 500 caractères")
+        String reason,
+
+        @Size(max = 1000, message = "Les notes ne peuvent dépasser 1000 caractères")
+        String notes
+) {
+
+    public BatchBookingMode effectiveMode() {
+        return mode != null ? mode : BatchBookingMode.ALL_OR_NOTHING;
+    }
+
+    public List<Appointment> toDomain() {
+        List<Appointment> appointments = new ArrayList<>();
+        for (LocalDateTime dateTime : dateTimes()) {
+            appointments.add(Appointment.create(
+                    null,
+                    this.clientId(),
+                    this.contractorId(),
+                    dateTime,
+                    this.duration(),
+                    this.reason(),
+                    this.notes()
+            ));
+        }
+        return appointments;
+    }
+
+    private List<LocalDateTime> dateTimes() {
+        if (appointmentDateTimes != null && !appointmentDateTimes.isEmpty()) {
+            return appointmentDateTimes;
+        }
+
+        if (firstAppointmentDateTime == null || occurrences == null) {
+            throw new IllegalArgumentException(
+                    "Indiquez les dates des rendez-vous ou une récurrence (première date et nombre de séances)"
+            );
+        }
+
+        int weeks = intervalWeeks != null ? intervalWeeks : 1;
+        List<LocalDateTime> dateTimes = new ArrayList<>(occurrences);
+        for (int i = 0; i < occurrences; i++) {
+            dateTimes.add(firstAppointmentDateTime.plusWeeks((long) i * weeks));
+        }
+        return dateTimes;
+    }
+}
@@ -2,6 +2,7 @@ package com.presta.infrastructure.web.dtos.availability;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.presta.domain.model.UnavailabilityRule;
+import com.presta.domain.model.valueobject.RecurrenceRule;
 import com.presta.infrastructure.persistence.entities.UnavailabilityRuleEntity;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -31,7 +32,11 @@ public record CreateUnavailabilityRuleRequest(
         LocalTime endTime,
 
         @Size(max = 500, message = "La raison ne peut dépasser 500 caractères")
-        String reason
+        String reason,
+
+        // RRULE, ex : "FREQ=MONTHLY;BYDAY=MO;BYSETPOS=1" ; absente = tous les jours de la période
+        @Size(max = 255, message = "La récurrence ne peut dépasser 255 caractères")
+        String recurrence
 ) {
 
 
@@ -49,6 +54,7 @@ public record CreateUnavailabilityRuleRequest(
                 this.endDate(),
                 this.startTime(),
                 this.endTime(),
+                recurrenceRule(),
                 this.reason()
         );
     }
@@ -66,7 +72,12 @@ public record CreateUnavailabilityRuleRequest(
                 this.startTime(),
                 this.endTime(),
                 this.reason(),
-                LocalDateTime.now()
+                LocalDateTime.now(),
+                recurrenceRule() != null ? recurrenceRule().toRRule() : null
         );
     }
+
+    private RecurrenceRule recurrenceRule() {
+        return recurrence != null && !recurrence.isBlank() ? RecurrenceRule.parse(recurrence) : null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,179 @@
+package com.presta.infrastructure.web.dtos.planning;
+
+import com.presta.domain.model.valueobject.AvailabilityStatus;
+import com.presta.domain.model.valueobject.PlanningMetadata;
+import com.presta.domain.port.ContractorSchedulePort;
+import com.presta.domain.port.ContractorScheduleUseCasePort.PlanningStream;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Représentation compacte d'un planning pour le calendrier client.
+ *
+ * Les grilles de créneaux distinctes sont décrites une seule fois, sous forme de séries régulières
+ * (début en minutes depuis minuit, durée, repos entre deux créneaux, nombre de créneaux).
+ * Chaque jour référence sa grille et porte ses statuts encodés par plages :
+ * "A6B2U1" = 6 AVAILABLE, 2 BOOKED puis 1 UNAVAILABLE (P pour PAST).
+ * Les jours sans créneau sont omis.
+ */
+public record CompactPlanningDto(
+        UUID contractorId,
+        LocalDate startDate,
+        LocalDate endDate,
+        List<List<GridSegment>> grids,
+        List<CompactDay> days,
+        PlanningMetadata metadata
+) {
+
+    public static final String MEDIA_TYPE_JSON = "application/vnd.presta.planning+json";
+    public static final String MEDIA_TYPE_CBOR = "application/vnd.presta.planning+cbor";
+
+    /**
+     * Série régulière de créneaux : start, start + duration + rest, ... (count créneaux)
+     */
+    public record GridSegment(int start, int duration, int rest, int count) {}
+
+    public record CompactDay(LocalDate date, int grid, String statuses) {}
+
+    public static CompactPlanningDto encode(UUID contractorId,
+                                            LocalDate startDate,
+                                            LocalDate endDate,
+                                            PlanningStream planning) {
+        Encoder encoder = new Encoder();
+        PlanningMetadata metadata = planning.writeTo(encoder);
+        encoder.flushDay();
+
+        return new CompactPlanningDto(
+                contractorId,
+                startDate,
+                endDate,
+                encoder.grids,
+                encoder.days,
+                metadata
+        );
+    }
+
+    public static char statusCode(AvailabilityStatus status) {
+        return switch (status) {
+            case AVAILABLE -> 'A';
+            case BOOKED -> 'B';
+            case UNAVAILABLE -> 'U';
+            case PAST -> 'P';
+        };
+    }
+
+    /**
+     * Regroupe les créneaux reçus dans l'ordre chronologique par jour,
+     * en séries régulières et en plages de statuts identiques
+     */
+    private static final class Encoder implements ContractorSchedulePort.SlotConsumer {
+
+        private static final long SECONDS_PER_DAY = 86_400L;
+
+        private final List<List<GridSegment>> grids = new ArrayList<>();
+        private final Map<List<GridSegment>, Integer> gridIndexes = new HashMap<>();
+        private final List<CompactDay> days = new ArrayList<>();
+
+        private long currentDay = Long.MIN_VALUE;
+        private final List<GridSegment> segments = new ArrayList<>();
+        private final StringBuilder statuses = new StringBuilder();
+
+        // Série en cours
+        private int segmentStart;
+        private int segmentDuration;
+        private int segmentRest;
+        private int segmentCount;
+        private int lastStart;
+
+        // Plage de statuts en cours
+        private AvailabilityStatus runStatus;
+        private int runLength;
+
+        @Override
+        public void accept(long startEpochSecond, int duration, AvailabilityStatus status) {
+            long day = Math.floorDiv(startEpochSecond, SECONDS_PER_DAY);
+            if (day != currentDay) {
+                flushDay();
+                currentDay = day;
+            }
+
+            int minuteOfDay = (int) ((startEpochSecond - day * SECONDS_PER_DAY) / 60);
+            appendToSegment(minuteOfDay, duration);
+            appendToRun(status);
+        }
+
+        private void appendToSegment(int start, int duration) {
+            if (segmentCount > 0 && duration == segmentDuration) {
+                int rest = start - lastStart - duration;
+                if (segmentCount == 1 && rest >= 0) {
+                    segmentRest = rest;
+                    segmentCount++;
+                    lastStart = start;
+                    return;
+                }
+                if (segmentCount > 1 && rest == segmentRest) {
+                    segmentCount++;
+                    lastStart = start;
+                    return;
+                }
+            }
+
+            closeSegment();
+            segmentStart = start;
+            segmentDuration = duration;
+            segmentRest = 0;
+            segmentCount = 1;
+            lastStart = start;
+        }
+
+        private void appendToRun(AvailabilityStatus status) {
+            if (status == runStatus) {
+                runLength++;
+                return;
+            }
+            closeRun();
+            runStatus = status;
+            runLength = 1;
+        }
+
+        private void closeSegment() {
+            if (segmentCount > 0) {
+                segments.add(new GridSegment(segmentStart, segmentDuration, segmentRest, segmentCount));
+                segmentCount = 0;
+            }
+        }
+
+        private void closeRun() {
+            if (runLength > 0) {
+                statuses.append(statusCode(runStatus)).append(runLength);
+                runLength = 0;
+                runStatus = null;
+            }
+        }
+
+        private void flushDay() {
+            if (currentDay == Long.MIN_VALUE) {
+                return;
+            }
+
+            closeSegment();
+            closeRun();
+
+            List<GridSegment> grid = List.copyOf(segments);
+            int gridIndex = gridIndexes.computeIfAbsent(grid, key -> {
+                grids.add(key);
+                return grids.size() - 1;
+            });
+            days.add(new CompactDay(LocalDate.ofEpochDay(currentDay), gridIndex, statuses.toString()));
+
+            segments.clear();
+            statuses.setLength(0);
+            currentDay = Long.MIN_VALUE;
+        }
+    }
+}
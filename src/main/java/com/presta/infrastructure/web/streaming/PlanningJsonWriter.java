@@ -0,0 +1,77 @@
+package com.presta.infrastructure.web.streaming;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.presta.domain.model.valueobject.AvailableSlot;
+import com.presta.domain.model.valueobject.PlanningMetadata;
+import com.presta.domain.model.valueobject.TimeSlot;
+import com.presta.domain.port.ContractorScheduleUseCasePort.PlanningStream;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Écrit un planning en JSON au fur et à mesure de sa génération.
+ *
+ * Le document a la même forme que ContractorPlanning sérialisé par Jackson
+ * (contractorId, startDate, endDate, slots, metadata), les métadonnées étant écrites en dernier.
+ * Les listes dérivées availableSlots / bookedSlots ne sont pas émises : elles dupliquent slots.
+ * La sortie est vidée à chaque changement de jour, la mémoire utilisée ne dépend pas de la période.
+ */
+@Component
+public class PlanningJsonWriter {
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+
+    private final ObjectMapper objectMapper;
+
+    public PlanningJsonWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public void write(UUID contractorId,
+                      LocalDate startDate,
+                      LocalDate endDate,
+                      PlanningStream planning,
+                      OutputStream out) throws IOException {
+
+        try (JsonGenerator generator = objectMapper.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeObjectField("contractorId", contractorId);
+            generator.writeObjectField("startDate", startDate);
+            generator.writeObjectField("endDate", endDate);
+
+            generator.writeArrayFieldStart("slots");
+            long[] currentDay = {Long.MIN_VALUE};
+            PlanningMetadata metadata;
+            try {
+                metadata = planning.writeTo((start, duration, status) -> {
+                    try {
+                        long day = Math.floorDiv(start, SECONDS_PER_DAY);
+                        if (day != currentDay[0]) {
+                            generator.flush();
+                            currentDay[0] = day;
+                        }
+                        TimeSlot timeSlot = new TimeSlot(LocalDateTime.ofEpochSecond(start, 0, ZoneOffset.UTC), duration);
+                        generator.writeObject(new AvailableSlot(contractorId, timeSlot, status));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            generator.writeEndArray();
+
+            generator.writeObjectField("metadata", metadata);
+            generator.writeEndObject();
+        }
+    }
+}
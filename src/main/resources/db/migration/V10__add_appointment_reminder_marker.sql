@@ -0,0 +1,9 @@
+-- Marqueur d'envoi du rappel : posé une seule fois, par une mise à jour conditionnelle.
+ALTER TABLE presta.appointment
+    ADD COLUMN reminder_sent_at TIMESTAMP;
+
+-- Ne contient que les rendez-vous confirmés encore sans rappel : chaque passage du planificateur
+-- ne lit que ceux entrés dans la fenêtre de rappel depuis le passage précédent.
+CREATE INDEX idx_appointment_reminder_due
+    ON presta.appointment (appointment_datetime, id)
+    WHERE status = 'CONFIRMED' AND reminder_sent_at IS NULL;
@@ -0,0 +1,32 @@
+-- Index des créneaux libres : une ligne par créneau disponible de chaque contractor sur l'horizon glissant.
+-- Dénormalisé depuis les règles, pauses, indisponibilités et rendez-vous actifs, il permet de filtrer
+-- les contractors disponibles à une date (et une heure) par une seule requête indexée.
+CREATE TABLE presta.contractor_free_slot (
+    contractor_id UUID NOT NULL,
+    slot_date DATE NOT NULL,
+    start_time TIME NOT NULL,
+    duration INTEGER NOT NULL,
+
+    CONSTRAINT pk_contractor_free_slot
+        PRIMARY KEY (contractor_id, slot_date, start_time, duration),
+
+    CONSTRAINT fk_contractor_free_slot_contractor
+        FOREIGN KEY (contractor_id)
+        REFERENCES presta.contractor_account(id)
+        ON DELETE CASCADE
+);
+
+-- Recherche « libre tel jour (à telle heure) » : parcours par date puis heure
+CREATE INDEX idx_contractor_free_slot_search
+    ON presta.contractor_free_slot (slot_date, start_time, contractor_id);
+
+-- Dernier jour indexé par contractor : le rafraîchissement périodique n'ajoute que les jours manquants
+CREATE TABLE presta.contractor_free_slot_horizon (
+    contractor_id UUID PRIMARY KEY,
+    refreshed_until DATE NOT NULL,
+
+    CONSTRAINT fk_contractor_free_slot_horizon_contractor
+        FOREIGN KEY (contractor_id)
+        REFERENCES presta.contractor_account(id)
+        ON DELETE CASCADE
+);
@@ -0,0 +1,13 @@
+-- Récurrence des indisponibilités (sous-ensemble RRULE : FREQ, INTERVAL, BYDAY, BYSETPOS).
+-- start_date / end_date deviennent l'enveloppe des occurrences : une seule ligne par règle,
+-- dépliée à la lecture sur la seule fenêtre demandée.
+ALTER TABLE presta.unavailability_rule
+    ADD COLUMN recurrence VARCHAR(255);
+
+-- Lecture par fenêtre d'un contractor (contractor_id = ? AND end_date >= ? AND start_date <= ?) :
+-- les règles échues sont écartées par l'index, quelle que soit l'ancienneté de l'historique.
+-- Il couvre aussi les recherches par contractor seul, ce qui rend l'ancien index inutile.
+CREATE INDEX idx_unavailability_contractor_range
+    ON presta.unavailability_rule (contractor_id, end_date, start_date);
+
+DROP INDEX presta.idx_unavailability_contractor;
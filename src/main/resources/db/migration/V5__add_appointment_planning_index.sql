@@ -0,0 +1,9 @@
+-- Index couvrant pour la génération de planning :
+-- contractor_id = ? AND appointment_datetime BETWEEN ? AND ? AND status IN (...)
+-- est servi par un seul parcours de plage, duration étant lue depuis l'index.
+CREATE INDEX idx_appointment_contractor_datetime_status
+    ON presta.appointment (contractor_id, appointment_datetime, status)
+    INCLUDE (duration);
+
+-- Redondant : contractor_id est le préfixe du nouvel index
+DROP INDEX IF EXISTS presta.idx_appointment_contractor;
@@ -0,0 +1,35 @@
+-- Deux rendez-vous actifs d'un même prestataire ne peuvent pas se chevaucher.
+-- Créneaux demi-ouverts [début, fin[, comme TimeSlot.overlaps : deux rendez-vous qui se touchent
+-- (10:00-10:30 puis 10:30-11:00, temps de repos nul) restent compatibles.
+-- La contrainte est vérifiée par la base à l'insertion, sans verrou applicatif.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Seule unique_contractor_datetime protégeait jusqu'ici les réservations : des rendez-vous actifs
+-- chevauchants mais de débuts différents peuvent exister et feraient échouer la contrainte.
+-- Le plus ancien (created_at, puis id) est conservé, les suivants sont annulés avec une note.
+UPDATE presta.appointment a
+SET status = 'CANCELLED',
+    notes = CONCAT_WS(E'\n', a.notes, 'Annulé à la migration : chevauche un rendez-vous réservé auparavant'),
+    updated_at = CURRENT_TIMESTAMP
+WHERE a.status IN ('PENDING', 'CONFIRMED')
+  AND EXISTS (
+      SELECT 1
+      FROM presta.appointment o
+      WHERE o.contractor_id = a.contractor_id
+        AND o.status IN ('PENDING', 'CONFIRMED')
+        AND o.id <> a.id
+        AND o.appointment_datetime < a.appointment_datetime + a.duration * INTERVAL '1 minute'
+        AND a.appointment_datetime < o.appointment_datetime + o.duration * INTERVAL '1 minute'
+        AND (COALESCE(o.created_at, '-infinity'), o.id) < (COALESCE(a.created_at, '-infinity'), a.id)
+  );
+
+ALTER TABLE presta.appointment
+    ADD CONSTRAINT exclude_overlapping_active_appointments
+    EXCLUDE USING gist (
+        contractor_id WITH =,
+        tsrange(appointment_datetime, appointment_datetime + duration * INTERVAL '1 minute', '[)') WITH &&
+    )
+    WHERE (status IN ('PENDING', 'CONFIRMED'));
+
+-- Couverte par la contrainte d'exclusion, et bloquait à tort la reprise d'un créneau annulé
+ALTER TABLE presta.appointment DROP CONSTRAINT unique_contractor_datetime;
@@ -0,0 +1,17 @@
+-- Clés Idempotency-Key des réservations : une relance du client avec la même clé
+-- renvoie le rendez-vous déjà créé au lieu de refaire la réservation.
+-- Portée par client, écrite dans la même transaction que le rendez-vous.
+CREATE TABLE presta.idempotency_key (
+    client_id UUID NOT NULL,
+    idempotency_key VARCHAR(255) NOT NULL,
+    appointment_id UUID NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT pk_idempotency_key
+        PRIMARY KEY (client_id, idempotency_key),
+
+    CONSTRAINT fk_idempotency_key_appointment
+        FOREIGN KEY (appointment_id)
+        REFERENCES presta.appointment(id)
+        ON DELETE CASCADE
+);
@@ -0,0 +1,4 @@
+-- Verrouillage optimiste des transitions de statut :
+-- UPDATE ... WHERE id = ? AND status = ? AND version = ? échoue si une autre transition est passée entre-temps.
+ALTER TABLE presta.appointment
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
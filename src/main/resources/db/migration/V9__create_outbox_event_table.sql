@@ -0,0 +1,27 @@
+-- Outbox transactionnelle : les événements de rendez-vous sont écrits dans la même transaction
+-- que le rendez-vous, puis livrés en arrière-plan par le dispatcher.
+-- available_at sert à la fois de bail (événement réservé par un dispatcher) et de date de nouvel essai.
+CREATE TABLE presta.outbox_event (
+    id UUID PRIMARY KEY,
+    event_type VARCHAR(20) NOT NULL,
+    appointment_id UUID NOT NULL,
+    contractor_id UUID NOT NULL,
+    client_id UUID NOT NULL,
+    appointment_datetime TIMESTAMP NOT NULL,
+    duration INTEGER NOT NULL,
+    occurred_at TIMESTAMP NOT NULL,
+    available_at TIMESTAMP NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    processed_at TIMESTAMP,
+    last_error TEXT
+);
+
+-- Seuls les événements en attente sont parcourus par le dispatcher
+CREATE INDEX idx_outbox_event_pending
+    ON presta.outbox_event (available_at)
+    WHERE processed_at IS NULL;
+
+-- Réservation : recherche d'un événement antérieur non traité du même rendez-vous
+CREATE INDEX idx_outbox_event_pending_appointment
+    ON presta.outbox_event (appointment_id, occurred_at)
+    WHERE processed_at IS NULL;
@@ -0,0 +1,116 @@
+package com.presta.application.booking;
+
+import com.presta.domain.exception.AppointmentConflictException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookingCoordinatorTest {
+
+    @Test
+    @DisplayName("Bookings for one contractor should never overlap")
+    void execute_SerializesSameContractor() throws Exception {
+        BookingCoordinator coordinator = new BookingCoordinator(64, Duration.ofSeconds(10));
+        UUID contractorId = UUID.randomUUID();
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger maxInside = new AtomicInteger();
+        int[] bookings = new int[1];
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                futures.add(executor.submit(() -> coordinator.execute(contractorId, () -> {
+                    maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+                    Thread.yield();
+                    int booked = ++bookings[0];
+                    inside.decrementAndGet();
+                    return booked;
+                })));
+            }
+            for (Future<Integer> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        }
+
+        assertEquals(1, maxInside.get());
+        assertEquals(500, bookings[0]);
+    }
+
+    @Test
+    @DisplayName("Bookings for different contractors should run in parallel")
+    void execute_DoesNotBlockOtherContractors() throws Exception {
+        BookingCoordinator coordinator = new BookingCoordinator(64, Duration.ofSeconds(10));
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        while (coordinator.stripeOf(second) == coordinator.stripeOf(first)) {
+            second = UUID.randomUUID();
+        }
+
+        // Chaque réservation attend que l'autre soit entrée : impossible si elles étaient sérialisées
+        CountDownLatch bothInside = new CountDownLatch(2);
+        UUID secondId = second;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Boolean> a = executor.submit(() -> coordinator.execute(first, () -> enterAndWait(bothInside)));
+            Future<Boolean> b = executor.submit(() -> coordinator.execute(secondId, () -> enterAndWait(bothInside)));
+
+            assertTrue(a.get(5, TimeUnit.SECONDS));
+            assertTrue(b.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    @DisplayName("A booking waiting too long for its contractor should be rejected")
+    void execute_RejectsWhenLockIsNotAcquiredInTime() throws Exception {
+        BookingCoordinator coordinator = new BookingCoordinator(8, Duration.ofMillis(50));
+        UUID contractorId = UUID.randomUUID();
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(() -> coordinator.execute(contractorId, () -> {
+                holding.countDown();
+                return await(release);
+            }));
+            assertTrue(holding.await(5, TimeUnit.SECONDS));
+
+            AppointmentConflictException exception = assertThrows(AppointmentConflictException.class,
+                    () -> coordinator.execute(contractorId, () -> true));
+            assertEquals(503, exception.getStatusCode());
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Stripe count should be rounded up to a power of two")
+    void constructor_RoundsStripeCount() {
+        assertEquals(128, new BookingCoordinator(100, Duration.ofSeconds(1)).stripeCount());
+        assertEquals(1, new BookingCoordinator(1, Duration.ofSeconds(1)).stripeCount());
+        assertThrows(IllegalArgumentException.class, () -> new BookingCoordinator(0, Duration.ofSeconds(1)));
+    }
+
+    private static boolean enterAndWait(CountDownLatch latch) {
+        latch.countDown();
+        return await(latch);
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
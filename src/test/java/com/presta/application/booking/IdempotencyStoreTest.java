@@ -0,0 +1,73 @@
+package com.presta.application.booking;
+
+import com.presta.domain.model.Appointment;
+import com.presta.domain.port.AppointmentRepositoryPort;
+import com.presta.domain.port.IdempotencyKeyPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class IdempotencyStoreTest {
+
+    private IdempotencyKeyPort idempotencyKeyPort;
+    private AppointmentRepositoryPort appointmentRepositoryPort;
+    private UUID clientId;
+    private Appointment appointment;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyKeyPort = mock(IdempotencyKeyPort.class);
+        appointmentRepositoryPort = mock(AppointmentRepositoryPort.class);
+        clientId = UUID.randomUUID();
+        appointment = Appointment.create(UUID.randomUUID(), clientId, UUID.randomUUID(),
+                LocalDateTime.now().plusDays(2).withNano(0), 30, "Consultation", null);
+    }
+
+    @Test
+    @DisplayName("A cached response should be served without touching the database")
+    void find_ServesCachedResponse() {
+        IdempotencyStore store = new IdempotencyStore(idempotencyKeyPort, appointmentRepositoryPort, 100, Duration.ofHours(1));
+        store.cache(clientId, "retry-1", appointment);
+
+        assertSame(appointment, store.find(clientId, "retry-1").orElseThrow());
+        assertTrue(store.find(UUID.randomUUID(), "retry-1").isEmpty(), "keys are scoped per client");
+        verify(appointmentRepositoryPort, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("A key missing from the cache should be read back from the database once")
+    void find_FallsBackToDatabase() {
+        IdempotencyStore store = new IdempotencyStore(idempotencyKeyPort, appointmentRepositoryPort, 100, Duration.ofHours(1));
+        when(idempotencyKeyPort.findAppointmentId(eq(clientId), eq("retry-1"), any()))
+                .thenReturn(Optional.of(appointment.getId()));
+        when(appointmentRepositoryPort.findById(appointment.getId())).thenReturn(Optional.of(appointment));
+
+        assertSame(appointment, store.find(clientId, "retry-1").orElseThrow());
+        assertSame(appointment, store.find(clientId, "retry-1").orElseThrow());
+        verify(idempotencyKeyPort, times(1)).findAppointmentId(eq(clientId), eq("retry-1"), any());
+    }
+
+    @Test
+    @DisplayName("Expired or evicted entries should not be served from the cache")
+    void find_IgnoresExpiredAndEvictedEntries() {
+        IdempotencyStore expiring = new IdempotencyStore(idempotencyKeyPort, appointmentRepositoryPort, 100, Duration.ZERO.minusMillis(1));
+        expiring.cache(clientId, "retry-1", appointment);
+        assertTrue(expiring.find(clientId, "retry-1").isEmpty());
+
+        IdempotencyStore bounded = new IdempotencyStore(idempotencyKeyPort, appointmentRepositoryPort, 1, Duration.ofHours(1));
+        bounded.cache(clientId, "retry-1", appointment);
+        bounded.cache(clientId, "retry-2", appointment);
+        assertTrue(bounded.find(clientId, "retry-1").isEmpty());
+        assertTrue(bounded.find(clientId, "retry-2").isPresent());
+    }
+}
@@ -0,0 +1,190 @@
+package com.presta.application.outbox;
+
+import com.presta.domain.model.AppointmentEvent;
+import com.presta.domain.model.valueobject.AppointmentEventType;
+import com.presta.domain.port.AppointmentEventHandler;
+import com.presta.domain.port.OutboxPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutboxDispatcherTest {
+
+    @Test
+    @DisplayName("Delivered events should be acknowledged, all batches included")
+    void dispatchPending_DeliversEveryBatch() {
+        InMemoryOutbox outbox = new InMemoryOutbox();
+        for (int i = 0; i < 25; i++) {
+            outbox.pending.add(event(UUID.randomUUID(), AppointmentEventType.BOOKED, i, 1));
+        }
+        Set<UUID> handled = ConcurrentHashMap.newKeySet();
+
+        int claimed = dispatcher(outbox, event -> handled.add(event.id()), 10).dispatchPending();
+
+        assertEquals(25, claimed);
+        assertEquals(25, handled.size());
+        assertEquals(handled, outbox.processed);
+        assertTrue(outbox.failed.isEmpty());
+    }
+
+    @Test
+    @DisplayName("A failed event should be retried later, its appointment's next events waiting for it")
+    void dispatchPending_RetriesFailuresInOrder() {
+        InMemoryOutbox outbox = new InMemoryOutbox();
+        UUID appointmentId = UUID.randomUUID();
+        AppointmentEvent booked = event(appointmentId, AppointmentEventType.BOOKED, 0, 1);
+        AppointmentEvent cancelled = event(appointmentId, AppointmentEventType.CANCELLED, 1, 1);
+        AppointmentEvent other = event(UUID.randomUUID(), AppointmentEventType.BOOKED, 2, 1);
+        outbox.pending.addAll(List.of(cancelled, other, booked));
+        List<AppointmentEvent> handled = new ArrayList<>();
+        boolean[] notificationDown = {true};
+        OutboxDispatcher dispatcher = dispatcher(outbox, event -> {
+            if (notificationDown[0] && event.id().equals(booked.id())) {
+                throw new IllegalStateException("notification indisponible");
+            }
+            synchronized (handled) {
+                handled.add(event);
+            }
+        }, 10);
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatchPending();
+
+        // CANCELLED n'est pas réservé tant que BOOKED reste à traiter
+        assertEquals(List.of(other), handled);
+        assertEquals(Set.of(other.id()), outbox.processed);
+        assertTrue(outbox.failed.get(booked.id()).isAfter(before.plusSeconds(4)));
+        assertFalse(outbox.failed.containsKey(cancelled.id()));
+
+        // Au-delà du délai, BOOKED est livré, puis CANCELLED au lot suivant
+        notificationDown[0] = false;
+        outbox.now = outbox.failed.get(booked.id());
+        dispatcher.dispatchPending();
+        dispatcher.dispatchPending();
+
+        assertEquals(List.of(other, booked, cancelled), handled);
+        assertEquals(Set.of(other.id(), booked.id(), cancelled.id()), outbox.processed);
+    }
+
+    @Test
+    @DisplayName("Events of one appointment written together should wait for a failed one of the same batch")
+    void dispatchPending_HoldsBackSameInstantEvents() {
+        InMemoryOutbox outbox = new InMemoryOutbox();
+        UUID appointmentId = UUID.randomUUID();
+        AppointmentEvent booked = event(appointmentId, AppointmentEventType.BOOKED, 0, 1);
+        AppointmentEvent confirmed = new AppointmentEvent(UUID.randomUUID(), AppointmentEventType.CONFIRMED, appointmentId,
+                booked.contractorId(), booked.clientId(), booked.appointmentDateTime(), 30, booked.occurredAt(), 1);
+        outbox.pending.addAll(List.of(booked, confirmed));
+        List<AppointmentEvent> handled = new ArrayList<>();
+
+        dispatcher(outbox, event -> {
+            if (event.type() == AppointmentEventType.BOOKED) {
+                throw new IllegalStateException("notification indisponible");
+            }
+            handled.add(event);
+        }, 10).dispatchPending();
+
+        assertTrue(handled.isEmpty());
+        assertTrue(outbox.failed.get(confirmed.id()).isAfter(outbox.failed.get(booked.id())));
+    }
+
+    @Test
+    @DisplayName("An event failing too many times should be abandoned")
+    void dispatchPending_AbandonsAfterMaxAttempts() {
+        InMemoryOutbox outbox = new InMemoryOutbox();
+        AppointmentEvent event = event(UUID.randomUUID(), AppointmentEventType.CONFIRMED, 0, 3);
+        outbox.pending.add(event);
+
+        dispatcher(outbox, e -> { throw new IllegalStateException("boom"); }, 10).dispatchPending();
+
+        assertTrue(outbox.failed.isEmpty());
+        assertTrue(outbox.abandoned.get(event.id()).contains("boom"));
+    }
+
+    @Test
+    @DisplayName("Backoff should double per attempt up to the cap")
+    void backoff_IsExponentialAndCapped() {
+        OutboxDispatcher dispatcher = dispatcher(new InMemoryOutbox(), e -> {}, 10);
+
+        assertEquals(Duration.ofSeconds(5), dispatcher.backoff(1));
+        assertEquals(Duration.ofSeconds(20), dispatcher.backoff(3));
+        assertEquals(Duration.ofMinutes(1), dispatcher.backoff(50));
+    }
+
+    private static OutboxDispatcher dispatcher(InMemoryOutbox outbox, AppointmentEventHandler handler, int batchSize) {
+        return new OutboxDispatcher(outbox, List.of(handler), batchSize, Duration.ofMinutes(1),
+                Duration.ofSeconds(5), Duration.ofMinutes(1), 3, Duration.ofDays(7));
+    }
+
+    private static AppointmentEvent event(UUID appointmentId, AppointmentEventType type, int order, int attempts) {
+        LocalDateTime start = LocalDateTime.now().plusDays(3).withNano(0);
+        return new AppointmentEvent(UUID.randomUUID(), type, appointmentId, UUID.randomUUID(), UUID.randomUUID(),
+                start, 30, LocalDateTime.now().minusMinutes(10).plusSeconds(order), attempts);
+    }
+
+    /**
+     * Outbox en mémoire, réservée comme CLAIM_SQL : un événement en attente est dû à partir de availableAt
+     * et n'est réservé qu'une fois traités les événements antérieurs (occurredAt strictement inférieur)
+     * de son rendez-vous. Les acquittements sont enregistrés.
+     */
+    private static final class InMemoryOutbox implements OutboxPort {
+
+        private final List<AppointmentEvent> pending = new ArrayList<>();
+        private final Map<UUID, LocalDateTime> availableAt = new ConcurrentHashMap<>();
+        private final Set<UUID> processed = ConcurrentHashMap.newKeySet();
+        private final Map<UUID, LocalDateTime> failed = new ConcurrentHashMap<>();
+        private final Map<UUID, String> abandoned = new ConcurrentHashMap<>();
+        private LocalDateTime now = LocalDateTime.now();
+
+        @Override
+        public void append(List<AppointmentEvent> events) {
+            pending.addAll(events);
+        }
+
+        @Override
+        public synchronized List<AppointmentEvent> claim(int limit, Duration lease) {
+            List<AppointmentEvent> batch = pending.stream()
+                    .filter(event -> !availableAt.getOrDefault(event.id(), LocalDateTime.MIN).isAfter(now))
+                    .filter(event -> pending.stream().noneMatch(earlier -> earlier.appointmentId().equals(event.appointmentId())
+                            && earlier.occurredAt().isBefore(event.occurredAt())))
+                    .limit(limit)
+                    .toList();
+            batch.forEach(event -> availableAt.put(event.id(), now.plus(lease)));
+            return batch;
+        }
+
+        @Override
+        public synchronized void markProcessed(Collection<UUID> eventIds) {
+            processed.addAll(eventIds);
+            pending.removeIf(event -> eventIds.contains(event.id()));
+        }
+
+        @Override
+        public void markFailed(UUID eventId, LocalDateTime retryAt, String error) {
+            failed.put(eventId, retryAt);
+            availableAt.put(eventId, retryAt);
+        }
+
+        @Override
+        public synchronized void markAbandoned(UUID eventId, String error) {
+            abandoned.put(eventId, error);
+            pending.removeIf(event -> event.id().equals(eventId));
+        }
+
+        @Override
+        public int purgeProcessedBefore(LocalDateTime before) {
+            return 0;
+        }
+    }
+}
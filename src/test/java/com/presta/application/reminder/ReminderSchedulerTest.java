@@ -0,0 +1,68 @@
+package com.presta.application.reminder;
+
+import com.presta.domain.model.Appointment;
+import com.presta.domain.model.valueobject.AppointmentStatus;
+import com.presta.domain.model.valueobject.TimeSlot;
+import com.presta.domain.port.AppointmentRepositoryPort;
+import com.presta.domain.service.AppointmentDomainService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ReminderSchedulerTest {
+
+    private final AppointmentDomainService domainService = new AppointmentDomainService();
+    private final LocalDateTime now = LocalDateTime.of(2025, 1, 20, 10, 0);
+
+    @Test
+    @DisplayName("Candidates should be read page by page with a keyset cursor")
+    void scheduleDueReminders_PagesWithKeysetCursor() {
+        AppointmentRepositoryPort repository = mock(AppointmentRepositoryPort.class);
+        Appointment first = confirmed(now.plusHours(30));
+        Appointment second = confirmed(now.plusHours(31));
+        Appointment third = confirmed(now.plusHours(40));
+        LocalDateTime windowStart = now.plusHours(24);
+        LocalDateTime windowEnd = now.plusHours(49);
+
+        when(repository.findReminderCandidates(windowStart, windowEnd, windowStart, new UUID(0L, 0L), 2))
+                .thenReturn(List.of(first, second));
+        when(repository.findReminderCandidates(windowStart, windowEnd, second.getAppointmentDateTime(), second.getId(), 2))
+                .thenReturn(List.of(third));
+        when(repository.markRemindersDue(any(), eq(now)))
+                .thenAnswer(invocation -> ((Collection<?>) invocation.getArgument(0)).size());
+
+        int scheduled = new ReminderScheduler(repository, domainService, 2).scheduleDueReminders(now);
+
+        assertEquals(3, scheduled);
+        verify(repository).markRemindersDue(List.of(first.getId(), second.getId()), now);
+        verify(repository).markRemindersDue(List.of(third.getId()), now);
+        verify(repository, times(2)).findReminderCandidates(any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("The SQL window should match shouldSendReminder at both ends")
+    void reminderWindow_MatchesShouldSendReminder() {
+        LocalDateTime windowStart = domainService.reminderWindowStart(now);
+        LocalDateTime windowEnd = domainService.reminderWindowEnd(now);
+
+        assertTrue(domainService.shouldSendReminder(confirmed(windowStart), now));
+        assertTrue(domainService.shouldSendReminder(confirmed(windowEnd.minusMinutes(1)), now));
+        assertFalse(domainService.shouldSendReminder(confirmed(windowStart.minusMinutes(1)), now));
+        assertFalse(domainService.shouldSendReminder(confirmed(windowEnd), now));
+    }
+
+    private static Appointment confirmed(LocalDateTime start) {
+        return new Appointment(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                new TimeSlot(start, 30), AppointmentStatus.CONFIRMED, null, start.minusDays(5), start.minusDays(5));
+    }
+}
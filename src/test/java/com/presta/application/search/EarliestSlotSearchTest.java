@@ -0,0 +1,127 @@
+package com.presta.application.search;
+
+import com.presta.domain.model.AvailabilityRule;
+import com.presta.domain.model.ContractorSlot;
+import com.presta.domain.model.EarliestSlots;
+import com.presta.domain.model.valueobject.SlotConfiguration;
+import com.presta.domain.model.valueobject.TimeRange;
+import com.presta.domain.model.valueobject.TimeSlot;
+import com.presta.domain.port.AppointmentRepositoryPort;
+import com.presta.domain.port.AssignmentPort;
+import com.presta.domain.port.AvailabilityRuleRepositoryPort;
+import com.presta.domain.port.UnavailabilityRuleRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class EarliestSlotSearchTest {
+
+    private final AssignmentPort assignmentPort = mock(AssignmentPort.class);
+    private final AvailabilityRuleRepositoryPort ruleRepository = mock(AvailabilityRuleRepositoryPort.class);
+    private final UnavailabilityRuleRepositoryPort unavailabilityRepository = mock(UnavailabilityRuleRepositoryPort.class);
+    private final AppointmentRepositoryPort appointmentRepository = mock(AppointmentRepositoryPort.class);
+
+    private final UUID assignmentId = UUID.randomUUID();
+    private final UUID first = UUID.randomUUID();
+    private final UUID second = UUID.randomUUID();
+    private final LocalDate tomorrow = LocalDate.now().plusDays(1);
+
+    @BeforeEach
+    void setUp() {
+        when(assignmentPort.exists(assignmentId)).thenReturn(true);
+        when(assignmentPort.findActiveContractorIds(assignmentId)).thenReturn(List.of(first, second));
+        when(ruleRepository.findActiveByContractorIds(List.of(first, second))).thenReturn(List.of(
+                dailyRule(first, LocalTime.of(9, 0)),
+                dailyRule(second, LocalTime.of(10, 0))
+        ));
+        when(unavailabilityRepository.findByContractorIdAndDateRange(any(), any(), any())).thenReturn(List.of());
+        when(appointmentRepository.findActiveSlotsByContractorIdAndPeriod(eq(first), any(), any()))
+                .thenReturn(List.of(new TimeSlot(tomorrow.atTime(9, 0), 30)));
+    }
+
+    @Test
+    @DisplayName("Slots of all contractors should be merged by start time")
+    void findEarliest_MergesContractorsByStartTime() {
+        when(appointmentRepository.findActiveSlotsByContractorIdAndPeriod(eq(second), any(), any())).thenReturn(List.of());
+
+        EarliestSlots result = search(Duration.ofSeconds(5)).findEarliest(assignmentId, 30, tomorrow.atStartOfDay(), 3);
+
+        assertEquals(List.of(
+                new ContractorSlot(first, tomorrow.atTime(9, 40), 30),
+                new ContractorSlot(second, tomorrow.atTime(10, 0), 30),
+                new ContractorSlot(first, tomorrow.atTime(10, 20), 30)
+        ), result.slots());
+        assertEquals(2, result.searchedContractors());
+        assertEquals(0, result.skippedContractors());
+    }
+
+    @Test
+    @DisplayName("Contractors not loaded within the time budget should be skipped")
+    void findEarliest_SkipsSlowContractors() {
+        when(appointmentRepository.findActiveSlotsByContractorIdAndPeriod(eq(second), any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return List.of();
+        });
+
+        EarliestSlots result = search(Duration.ofMillis(200)).findEarliest(assignmentId, 30, tomorrow.atStartOfDay(), 2);
+
+        assertEquals(List.of(
+                new ContractorSlot(first, tomorrow.atTime(9, 40), 30),
+                new ContractorSlot(first, tomorrow.atTime(10, 20), 30)
+        ), result.slots());
+        assertEquals(1, result.skippedContractors());
+        assertEquals(0, result.failedContractors());
+    }
+
+    @Test
+    @DisplayName("Contractors whose load fails should be reported apart from slow ones")
+    void findEarliest_ReportsFailedContractors() {
+        when(appointmentRepository.findActiveSlotsByContractorIdAndPeriod(eq(second), any(), any()))
+                .thenThrow(new IllegalStateException("requête invalide"));
+
+        EarliestSlots result = search(Duration.ofSeconds(5)).findEarliest(assignmentId, 30, tomorrow.atStartOfDay(), 1);
+
+        assertEquals(List.of(new ContractorSlot(first, tomorrow.atTime(9, 40), 30)), result.slots());
+        assertEquals(0, result.skippedContractors());
+        assertEquals(1, result.failedContractors());
+    }
+
+    @Test
+    @DisplayName("The number of requested slots should be bounded")
+    void findEarliest_RejectsInvalidLimit() {
+        EarliestSlotSearch search = search(Duration.ofSeconds(5));
+
+        assertThrows(IllegalArgumentException.class, () -> search.findEarliest(assignmentId, 30, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> search.findEarliest(assignmentId, 30, null, 51));
+    }
+
+    private EarliestSlotSearch search(Duration timeout) {
+        return new EarliestSlotSearch(assignmentPort, ruleRepository,
+                unavailabilityRepository, appointmentRepository, 4, timeout, 30, 50);
+    }
+
+    private static AvailabilityRule dailyRule(UUID contractorId, LocalTime start) {
+        return new AvailabilityRule(
+                UUID.randomUUID(),
+                contractorId,
+                EnumSet.allOf(DayOfWeek.class),
+                new TimeRange(start, LocalTime.of(12, 0)),
+                new SlotConfiguration(30, 10),
+                List.of(),
+                true
+        );
+    }
+}
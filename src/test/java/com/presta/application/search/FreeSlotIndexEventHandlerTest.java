@@ -0,0 +1,52 @@
+package com.presta.application.search;
+
+import com.presta.domain.model.AppointmentEvent;
+import com.presta.domain.model.valueobject.AppointmentEventType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class FreeSlotIndexEventHandlerTest {
+
+    private final FreeSlotIndexer indexer = mock(FreeSlotIndexer.class);
+    private final FreeSlotIndexEventHandler handler = new FreeSlotIndexEventHandler(indexer);
+
+    // Événements qui changent les rendez-vous actifs, donc les créneaux occupés
+    private final Set<AppointmentEventType> refreshing =
+            EnumSet.of(AppointmentEventType.BOOKED, AppointmentEventType.CANCELLED, AppointmentEventType.COMPLETED);
+
+    @Test
+    @DisplayName("Booking, cancellation and completion should refresh the days of the appointment")
+    void handle_RefreshesOccupiedDays() {
+        for (AppointmentEventType type : refreshing) {
+            AppointmentEvent event = event(type, LocalDateTime.of(2025, 3, 10, 23, 30));
+
+            handler.handle(event);
+
+            verify(indexer).refresh(event.contractorId(), event.appointmentDateTime().toLocalDate(),
+                    event.appointmentDateTime().toLocalDate().plusDays(1));
+        }
+    }
+
+    @Test
+    @DisplayName("Other events should leave the index untouched")
+    void handle_IgnoresOtherEvents() {
+        for (AppointmentEventType type : EnumSet.complementOf(EnumSet.copyOf(refreshing))) {
+            handler.handle(event(type, LocalDateTime.of(2025, 3, 10, 10, 0)));
+        }
+
+        verify(indexer, never()).refresh(any(), any(), any());
+    }
+
+    private static AppointmentEvent event(AppointmentEventType type, LocalDateTime start) {
+        return new AppointmentEvent(UUID.randomUUID(), type, UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                start, 60, LocalDateTime.now(), 1);
+    }
+}
@@ -0,0 +1,120 @@
+package com.presta.application.search;
+
+import com.presta.domain.model.AvailabilityRule;
+import com.presta.domain.model.ContractorSlot;
+import com.presta.domain.model.valueobject.SlotConfiguration;
+import com.presta.domain.model.valueobject.TimeRange;
+import com.presta.domain.model.valueobject.TimeSlot;
+import com.presta.domain.port.AppointmentRepositoryPort;
+import com.presta.domain.port.AvailabilityRuleRepositoryPort;
+import com.presta.domain.port.FreeSlotIndexPort;
+import com.presta.domain.port.UnavailabilityRuleRepositoryPort;
+import com.presta.domain.service.ContractorScheduleService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class FreeSlotIndexerTest {
+
+    private final FreeSlotIndexPort indexPort = mock(FreeSlotIndexPort.class);
+    private final AvailabilityRuleRepositoryPort ruleRepository = mock(AvailabilityRuleRepositoryPort.class);
+    private final UnavailabilityRuleRepositoryPort unavailabilityRepository = mock(UnavailabilityRuleRepositoryPort.class);
+    private final AppointmentRepositoryPort appointmentRepository = mock(AppointmentRepositoryPort.class);
+    private final FreeSlotIndexer indexer = new FreeSlotIndexer(indexPort, ruleRepository, unavailabilityRepository,
+            appointmentRepository, new ContractorScheduleService(),
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), 30, 2);
+
+    private final UUID contractorId = UUID.randomUUID();
+    private final LocalDate tomorrow = LocalDate.now().plusDays(1);
+
+    @BeforeEach
+    void setUp() {
+        when(ruleRepository.findActiveByContractorIds(List.of(contractorId))).thenReturn(List.of(new AvailabilityRule(
+                UUID.randomUUID(),
+                contractorId,
+                EnumSet.allOf(DayOfWeek.class),
+                new TimeRange(LocalTime.of(9, 0), LocalTime.of(11, 0)),
+                new SlotConfiguration(30, 10),
+                List.of(),
+                true
+        )));
+        when(unavailabilityRepository.findByContractorIdAndDateRange(any(), any(), any())).thenReturn(List.of());
+        when(appointmentRepository.findActiveSlotsByContractorIdAndPeriod(eq(contractorId), any(), any()))
+                .thenReturn(List.of(new TimeSlot(tomorrow.atTime(9, 40), 30)));
+    }
+
+    @Test
+    @DisplayName("Only available slots of the refreshed days should be indexed")
+    void refresh_IndexesAvailableSlotsOnly() {
+        indexer.refresh(contractorId, tomorrow, tomorrow);
+
+        verify(indexPort).replaceFreeSlots(contractorId, tomorrow, tomorrow, List.of(
+                new ContractorSlot(contractorId, tomorrow.atTime(9, 0), 30),
+                new ContractorSlot(contractorId, tomorrow.atTime(10, 20), 30)
+        ));
+    }
+
+    @Test
+    @DisplayName("The contractor should be locked before its schedule is read")
+    void refresh_LocksBeforeReading() {
+        indexer.refresh(contractorId, tomorrow, tomorrow);
+
+        InOrder inOrder = inOrder(indexPort, ruleRepository, appointmentRepository);
+        inOrder.verify(indexPort).lockContractor(contractorId);
+        inOrder.verify(ruleRepository).findActiveByContractorIds(List.of(contractorId));
+        inOrder.verify(appointmentRepository).findActiveSlotsByContractorIdAndPeriod(eq(contractorId), any(), any());
+        inOrder.verify(indexPort).replaceFreeSlots(eq(contractorId), eq(tomorrow), eq(tomorrow), any());
+    }
+
+    @Test
+    @DisplayName("Refreshed days should be clamped to the horizon")
+    void refresh_ClampsToHorizon() {
+        LocalDate today = LocalDate.now();
+
+        indexer.refresh(contractorId, today.minusDays(5), today.plusDays(90));
+        indexer.refresh(contractorId, today.plusDays(40), today.plusDays(50));
+
+        verify(indexPort).lockContractor(contractorId);
+        verify(indexPort).replaceFreeSlots(eq(contractorId), eq(today), eq(today.plusDays(30)), any());
+        verifyNoMoreInteractions(indexPort);
+    }
+
+    @Test
+    @DisplayName("Rolling should only index the days missing from each horizon")
+    void roll_ExtendsHorizonsPageByPage() {
+        LocalDate today = LocalDate.now();
+        LocalDate horizonEnd = today.plusDays(30);
+        UUID first = new UUID(0L, 1L);
+        UUID second = new UUID(0L, 2L);
+        UUID third = new UUID(0L, 3L);
+
+        when(indexPort.findHorizonsBefore(horizonEnd, new UUID(0L, 0L), 2)).thenReturn(List.of(
+                new FreeSlotIndexPort.Horizon(first, null),
+                new FreeSlotIndexPort.Horizon(second, horizonEnd.minusDays(1))
+        ));
+        when(indexPort.findHorizonsBefore(horizonEnd, second, 2))
+                .thenReturn(List.of(new FreeSlotIndexPort.Horizon(third, horizonEnd.minusDays(3))));
+
+        assertEquals(3, indexer.roll());
+
+        verify(indexPort).purgeBefore(today);
+        verify(indexPort).replaceFreeSlots(eq(first), eq(today), eq(horizonEnd), any());
+        verify(indexPort).replaceFreeSlots(eq(second), eq(horizonEnd), eq(horizonEnd), any());
+        verify(indexPort).replaceFreeSlots(eq(third), eq(horizonEnd.minusDays(2)), eq(horizonEnd), any());
+    }
+}
@@ -0,0 +1,142 @@
+package com.presta.application.snapshot;
+
+import com.presta.domain.model.AvailabilityRule;
+import com.presta.domain.model.ContractorPlanning;
+import com.presta.domain.model.ScheduleConstraints;
+import com.presta.domain.model.valueobject.*;
+import com.presta.domain.service.ContractorScheduleService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlanningSnapshotStoreTest {
+
+    private final ContractorScheduleService service = new ContractorScheduleService();
+
+    private PlanningSnapshotStore store;
+    private UUID contractorId;
+    private AvailabilityRule rule;
+    private LocalDate start;
+    private List<LocalDate[]> loads;
+
+    @BeforeEach
+    void setUp() {
+        store = new PlanningSnapshotStore(100, Duration.ofMinutes(10));
+        contractorId = UUID.randomUUID();
+        rule = new AvailabilityRule(
+                UUID.randomUUID(),
+                contractorId,
+                EnumSet.allOf(DayOfWeek.class),
+                new TimeRange(LocalTime.of(9, 0), LocalTime.of(12, 0)),
+                new SlotConfiguration(60, 0),
+                List.of(),
+                true
+        );
+        start = LocalDate.now().plusDays(1);
+        loads = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("Replayed snapshots should match the generated planning")
+    void getDays_ReplaysSameSlotsAsGeneratedPlanning() {
+        LocalDate end = start.plusDays(6);
+
+        List<AvailableSlot> replayed = new ArrayList<>();
+        PlanningMetadata metadata = DaySnapshot.replayAll(store.getDays(contractorId, start, end, this::load),
+                (startEpochSecond, duration, status) -> replayed.add(slot(startEpochSecond, duration, status)));
+
+        ContractorPlanning planning = service.generatePlanning(contractorId, List.of(rule), ScheduleConstraints.none(), start, end);
+        assertEquals(planning.slots(), replayed);
+        assertEquals(planning.metadata().totalSlots(), metadata.totalSlots());
+        assertEquals(planning.metadata().availableCount(), metadata.availableCount());
+    }
+
+    @Test
+    @DisplayName("Warm reads should not recompute, partial overlaps should compute only the missing days")
+    void getDays_ComputesOnlyMissingDays() {
+        store.getDays(contractorId, start, start.plusDays(2), this::load);
+        List<DaySnapshot> days = store.getDays(contractorId, start, start.plusDays(2), this::load);
+        store.getDays(contractorId, start, start.plusDays(4), this::load);
+
+        assertEquals(3, days.size());
+        assertEquals(2, loads.size());
+        assertEquals(start.plusDays(3), loads.get(1)[0]);
+        assertEquals(start.plusDays(4), loads.get(1)[1]);
+    }
+
+    @Test
+    @DisplayName("Booking should patch the cached day without recomputing it")
+    void markBooked_PatchesCachedDay() {
+        store.getDays(contractorId, start, start, this::load);
+
+        store.markBooked(contractorId, new TimeSlot(start.atTime(10, 15), 30));
+        List<DaySnapshot> days = store.getDays(contractorId, start, start, this::load);
+
+        assertEquals(1, loads.size());
+        assertEquals(
+                List.of(AvailabilityStatus.AVAILABLE, AvailabilityStatus.BOOKED, AvailabilityStatus.AVAILABLE),
+                statuses(days)
+        );
+    }
+
+    @Test
+    @DisplayName("Evicted days should be recomputed on next read")
+    void evictDays_ForcesReloadOfEvictedDaysOnly() {
+        store.getDays(contractorId, start, start.plusDays(4), this::load);
+
+        store.evictDays(contractorId, start.plusDays(1), start.plusDays(2));
+        store.getDays(contractorId, start, start.plusDays(4), this::load);
+
+        assertEquals(2, loads.size());
+        assertEquals(start.plusDays(1), loads.get(1)[0]);
+        assertEquals(start.plusDays(2), loads.get(1)[1]);
+    }
+
+    @Test
+    @DisplayName("A computation overtaken by a write should not be stored")
+    void getDays_DoesNotStoreDaysComputedBeforeAWrite() {
+        store.getDays(contractorId, start, start, this::load);
+        store.evictDays(contractorId, start, start);
+
+        // Une invalidation arrive pendant le calcul
+        store.getDays(contractorId, start, start, (from, to) -> {
+            store.evictDays(contractorId, from, to);
+            return load(from, to);
+        });
+        store.getDays(contractorId, start, start, this::load);
+
+        assertEquals(3, loads.size());
+    }
+
+    private List<DaySnapshot> load(LocalDate from, LocalDate to) {
+        loads.add(new LocalDate[]{from, to});
+        DaySnapshot.Collector collector = new DaySnapshot.Collector(from, to);
+        service.streamSlots(contractorId, List.of(rule), ScheduleConstraints.none(), from, to, collector);
+        return collector.build();
+    }
+
+    private List<AvailabilityStatus> statuses(List<DaySnapshot> days) {
+        List<AvailabilityStatus> statuses = new ArrayList<>();
+        DaySnapshot.replayAll(days, (startEpochSecond, duration, status) -> statuses.add(status));
+        return statuses;
+    }
+
+    private AvailableSlot slot(long startEpochSecond, int duration, AvailabilityStatus status) {
+        TimeSlot timeSlot = new TimeSlot(
+                LocalDateTime.ofEpochSecond(startEpochSecond, 0, ZoneOffset.UTC), duration);
+        return new AvailableSlot(contractorId, timeSlot, status);
+    }
+}
@@ -0,0 +1,141 @@
+package com.presta.application.usecases;
+
+import com.presta.application.booking.BookingCoordinator;
+import com.presta.application.booking.IdempotencyStore;
+import com.presta.application.snapshot.PlanningSnapshotStore;
+import com.presta.domain.exception.AppointmentConflictException;
+import com.presta.domain.exception.UnauthorizedAppointmentActionException;
+import com.presta.domain.model.Appointment;
+import com.presta.domain.model.valueobject.AppointmentDetails;
+import com.presta.domain.model.valueobject.AppointmentStatus;
+import com.presta.domain.model.valueobject.TimeSlot;
+import com.presta.domain.port.*;
+import com.presta.domain.service.AppointmentDomainService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class AppointmentUseCaseTest {
+
+    private final AppointmentRepositoryPort appointmentRepository = mock(AppointmentRepositoryPort.class);
+    private final PlanningSnapshotStore planningSnapshotStore = mock(PlanningSnapshotStore.class);
+    private final AppointmentUseCase useCase = new AppointmentUseCase(
+            appointmentRepository,
+            mock(ContractorRepositoryPort.class),
+            mock(ClientRepositoryPort.class),
+            mock(UserRepositoryPort.class),
+            mock(AppointmentDomainService.class),
+            mock(AvailabilityRuleRepositoryPort.class),
+            mock(UnavailabilityRuleRepositoryPort.class),
+            planningSnapshotStore,
+            mock(ContractorScheduleUseCasePort.class),
+            mock(BookingContextPort.class),
+            mock(TransactionTemplate.class),
+            mock(BookingCoordinator.class),
+            mock(IdempotencyStore.class)
+    );
+
+    private final UUID appointmentId = UUID.randomUUID();
+    private final UUID clientId = UUID.randomUUID();
+    private final UUID contractorId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Confirmation should be written against the status and version that were read")
+    void confirmAppointment_UpdatesFromReadState() {
+        givenAppointment(AppointmentStatus.PENDING, LocalDateTime.now().plusDays(3), 4L);
+
+        useCase.confirmAppointment(appointmentId);
+
+        ArgumentCaptor<Appointment> written = ArgumentCaptor.forClass(Appointment.class);
+        verify(appointmentRepository).updateState(written.capture(), eq(AppointmentStatus.PENDING));
+        assertEquals(AppointmentStatus.CONFIRMED, written.getValue().getStatus());
+        assertEquals(4L, written.getValue().getVersion());
+    }
+
+    @Test
+    @DisplayName("A concurrent modification should surface as a 409 and leave the planning untouched")
+    void cancelAppointment_PropagatesConcurrentModification() {
+        givenAppointment(AppointmentStatus.CONFIRMED, LocalDateTime.now().plusDays(3), 2L);
+        doThrow(new AppointmentConflictException("Le rendez-vous a été modifié entre-temps", "CONCURRENT_MODIFICATION", 409))
+                .when(appointmentRepository).updateState(any(), eq(AppointmentStatus.CONFIRMED));
+
+        AppointmentConflictException conflict = assertThrows(AppointmentConflictException.class,
+                () -> useCase.cancelAppointment(appointmentId, "Empêchement", clientId));
+
+        assertEquals("CONCURRENT_MODIFICATION", conflict.getCode());
+        assertEquals(409, conflict.getStatusCode());
+        verifyNoInteractions(planningSnapshotStore);
+    }
+
+    @Test
+    @DisplayName("Cancellation should release the slot once written")
+    void cancelAppointment_ReleasesSlot() {
+        LocalDateTime start = LocalDateTime.now().plusDays(3);
+        givenAppointment(AppointmentStatus.PENDING, start, 0L);
+
+        useCase.cancelAppointment(appointmentId, null, contractorId);
+
+        verify(appointmentRepository).updateState(
+                argThat(appointment -> appointment.getStatus() == AppointmentStatus.CANCELLED),
+                eq(AppointmentStatus.PENDING));
+        verify(planningSnapshotStore).evictDays(contractorId, start.toLocalDate(), start.plusMinutes(30).toLocalDate());
+    }
+
+    @Test
+    @DisplayName("Only the client or the contractor should be able to cancel")
+    void cancelAppointment_RejectsOtherUsers() {
+        givenAppointment(AppointmentStatus.PENDING, LocalDateTime.now().plusDays(3), 0L);
+
+        assertThrows(UnauthorizedAppointmentActionException.class,
+                () -> useCase.cancelAppointment(appointmentId, null, UUID.randomUUID()));
+        verify(appointmentRepository, never()).updateState(any(), any());
+    }
+
+    @Test
+    @DisplayName("Completion should expect the confirmed status")
+    void completeAppointment_UpdatesFromConfirmed() {
+        givenAppointment(AppointmentStatus.CONFIRMED, LocalDateTime.now().minusHours(2), 7L);
+
+        useCase.completeAppointment(appointmentId);
+
+        verify(appointmentRepository).updateState(
+                argThat(appointment -> appointment.getStatus() == AppointmentStatus.COMPLETED && appointment.getVersion() == 7L),
+                eq(AppointmentStatus.CONFIRMED));
+    }
+
+    @Test
+    @DisplayName("A note should be written without changing the expected status")
+    void addNoteToAppointment_KeepsStatus() {
+        givenAppointment(AppointmentStatus.CONFIRMED, LocalDateTime.now().plusDays(3), 1L);
+
+        useCase.addNoteToAppointment(appointmentId, "Apporter le devis");
+
+        verify(appointmentRepository).updateState(
+                argThat(appointment -> appointment.getNotes().contains("Apporter le devis")),
+                eq(AppointmentStatus.CONFIRMED));
+    }
+
+    private void givenAppointment(AppointmentStatus status, LocalDateTime start, long version) {
+        when(appointmentRepository.findById(appointmentId)).thenReturn(Optional.of(new Appointment(
+                appointmentId,
+                clientId,
+                contractorId,
+                new TimeSlot(start, 30),
+                status,
+                new AppointmentDetails("Consultation", null),
+                LocalDateTime.now().minusDays(1),
+                LocalDateTime.now().minusDays(1),
+                version
+        )));
+    }
+}
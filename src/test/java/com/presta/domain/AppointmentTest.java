@@ -9,6 +9,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.BeforeEach;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -143,6 +144,18 @@ class AppointmentTest {
         );
     }
 
+    @Test
+    @DisplayName("Les statuts des transitions en masse suivent les règles unitaires")
+    void testBulkTransitionStatuses() {
+        assertEquals(EnumSet.of(AppointmentStatus.PENDING), AppointmentStatus.confirmableStatuses());
+        assertEquals(EnumSet.of(AppointmentStatus.CONFIRMED), AppointmentStatus.completableStatuses());
+
+        for (AppointmentStatus status : AppointmentStatus.values()) {
+            assertEquals(status.canBeConfirmed(), AppointmentStatus.confirmableStatuses().contains(status));
+            assertEquals(status.canBeCompleted(), AppointmentStatus.completableStatuses().contains(status));
+        }
+    }
+
 //    @Test
 //    @DisplayName("Test 4: Validation des données obligatoires à la création")
 //    void testAppointmentValidation() {
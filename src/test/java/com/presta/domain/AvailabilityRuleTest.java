@@ -107,6 +107,58 @@ public class AvailabilityRuleTest {
 
 
 
+    @Test
+    void SHOULD_REFRESH_CACHED_TEMPLATE_WHEN_RULE_CHANGES(){
+        // GIVEN
+        TimeRange rangeMorning = new TimeRange(LocalTime.of(9, 0), LocalTime.of(12, 0));
+        AvailabilityRule availabilityRule =
+                AvailabilityRule.create(activeContractorID, weekDays, rangeMorning, new SlotConfiguration(30,0));
+        LocalDate day = LocalDate.of(2025,10, 8);
+        assertEquals(6, availabilityRule.generateSlotsForDay(day).size());
+
+        // WHEN
+        availabilityRule.updateSlotConfiguration(new SlotConfiguration(60, 0));
+        int afterConfigUpdate = availabilityRule.generateSlotsForDay(day).size();
+        availabilityRule.addBreakTime(new BreakTime(new TimeRange(LocalTime.of(10, 0), LocalTime.of(11, 0)), null));
+        int afterBreakTime = availabilityRule.generateSlotsForDay(day).size();
+        availabilityRule.updateSchedule(Set.of(DayOfWeek.MONDAY), rangeMorning);
+        int afterScheduleUpdate = availabilityRule.generateSlotsForDay(day).size();
+
+        // THEN
+        assertEquals(3, afterConfigUpdate);
+        assertEquals(2, afterBreakTime);
+        assertEquals(0, afterScheduleUpdate);
+    }
+
+    @Test
+    void SHOULD_APPLY_BREAK_TIME_ONLY_ON_ITS_WEEK_DAYS(){
+        // GIVEN
+        AvailabilityRule availabilityRule =
+                AvailabilityRule.create(activeContractorID, weekDays, range, slotConfig);
+        availabilityRule.addBreakTime(new BreakTime(
+                new TimeRange(LocalTime.of(12, 0), LocalTime.of(14, 0)),
+                Set.of(DayOfWeek.WEDNESDAY)
+        ));
+        LocalDate monday = LocalDate.of(2025, 10, 6);
+        LocalDate wednesday = LocalDate.of(2025, 10, 8);
+
+        // WHEN
+        List<TimeSlot> mondaySlots = availabilityRule.generateSlotsForDay(monday);
+        List<TimeSlot> wednesdaySlots = availabilityRule.generateSlotsForDay(wednesday);
+        List<TimeSlot> week = availabilityRule.generateSlotsBetween(monday, monday.plusDays(6));
+
+        // THEN
+        assertEquals(12, mondaySlots.size());
+        assertEquals(8, wednesdaySlots.size());
+        assertEquals(mondaySlots.size() + wednesdaySlots.size(), week.size());
+        assertTrue(wednesdaySlots.stream().noneMatch(slot ->
+                slot.startDateTime().toLocalTime().isBefore(LocalTime.of(14, 0)) &&
+                        slot.getEndDateTime().toLocalTime().isAfter(LocalTime.of(12, 0))));
+    }
+
+
+
+
     private static void printTimeSlots(List<TimeSlot> slots) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
 
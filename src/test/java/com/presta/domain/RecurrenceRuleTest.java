@@ -0,0 +1,84 @@
+package com.presta.domain;
+
+import com.presta.domain.model.valueobject.RecurrenceRule;
+import com.presta.domain.model.valueobject.UnavailabilityPeriod;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecurrenceRuleTest {
+
+    // Mercredi
+    private static final LocalDate ANCHOR = LocalDate.of(2025, 1, 1);
+
+    @Test
+    @DisplayName("First Monday of the month should occur once per month")
+    void occursOn_FirstMondayOfMonth() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY;BYDAY=MO;BYSETPOS=1");
+
+        assertTrue(rule.occursOn(LocalDate.of(2025, 1, 6), ANCHOR));
+        assertTrue(rule.occursOn(LocalDate.of(2025, 2, 3), ANCHOR));
+        assertTrue(rule.occursOn(LocalDate.of(2025, 9, 1), ANCHOR));
+        assertFalse(rule.occursOn(LocalDate.of(2025, 1, 13), ANCHOR));
+        assertFalse(rule.occursOn(LocalDate.of(2025, 2, 4), ANCHOR));
+    }
+
+    @Test
+    @DisplayName("Last Friday of the month should be found with a negative position")
+    void occursOn_LastFridayOfMonth() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY;BYDAY=FR;BYSETPOS=-1");
+
+        assertTrue(rule.occursOn(LocalDate.of(2025, 1, 31), ANCHOR));
+        assertTrue(rule.occursOn(LocalDate.of(2025, 2, 28), ANCHOR));
+        assertFalse(rule.occursOn(LocalDate.of(2025, 1, 24), ANCHOR));
+    }
+
+    @Test
+    @DisplayName("Alternate Fridays should be counted in weeks from the anchor")
+    void occursOn_AlternateFridays() {
+        RecurrenceRule rule = RecurrenceRule.parse("RRULE:FREQ=WEEKLY;INTERVAL=2;BYDAY=FR");
+
+        assertTrue(rule.occursOn(LocalDate.of(2025, 1, 3), ANCHOR));
+        assertFalse(rule.occursOn(LocalDate.of(2025, 1, 10), ANCHOR));
+        assertTrue(rule.occursOn(LocalDate.of(2025, 1, 17), ANCHOR));
+        assertTrue(rule.occursOn(LocalDate.of(2026, 1, 2), ANCHOR));
+        assertFalse(rule.occursOn(LocalDate.of(2024, 12, 27), ANCHOR), "before the anchor");
+    }
+
+    @Test
+    @DisplayName("A rule should survive a round trip through its stored form")
+    void toRRule_RoundTrips() {
+        RecurrenceRule rule = RecurrenceRule.parse("byday=fr,mo;freq=weekly;interval=2");
+
+        assertEquals("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,FR", rule.toRRule());
+        assertEquals(rule, RecurrenceRule.parse(rule.toRRule()));
+    }
+
+    @Test
+    @DisplayName("Unsupported or inconsistent rules should be rejected")
+    void parse_RejectsInvalidRules() {
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("INTERVAL=2"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=YEARLY"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=XX"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO;BYSETPOS=1"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=DAILY;INTERVAL=0"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=WEEKLY;COUNT=3"));
+    }
+
+    @Test
+    @DisplayName("A recurring period should only block its occurrence days")
+    void period_BlocksOccurrenceDaysOnly() {
+        UnavailabilityPeriod period = new UnavailabilityPeriod(ANCHOR, ANCHOR.plusYears(5),
+                LocalTime.of(14, 0), LocalTime.of(16, 0), RecurrenceRule.parse("FREQ=MONTHLY;BYDAY=MO;BYSETPOS=1"));
+        LocalDate firstMonday = LocalDate.of(2027, 3, 1);
+
+        assertTrue(period.contains(firstMonday.atTime(15, 0)));
+        assertFalse(period.contains(firstMonday.plusWeeks(1).atTime(15, 0)));
+        assertTrue(period.overlapsWithSlot(firstMonday.atTime(13, 30), firstMonday.atTime(14, 30)));
+        assertFalse(period.overlapsWithSlot(firstMonday.plusDays(1).atTime(13, 30), firstMonday.plusDays(1).atTime(14, 30)));
+    }
+}
@@ -0,0 +1,72 @@
+package com.presta.domain;
+
+import com.presta.domain.model.valueobject.UnavailabilityPeriod;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnavailabilityPeriodTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    @Test
+    @DisplayName("Overlap check should match a day by day scan of the period")
+    void overlapsWithSlot_MatchesDayByDayScan() {
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            LocalDate startDate = START.plusDays(random.nextInt(20));
+            LocalDate endDate = startDate.plusDays(random.nextInt(10));
+            LocalTime startTime = LocalTime.of(random.nextInt(23), random.nextInt(4) * 15);
+            int minutesLeft = (int) Duration.between(startTime, LocalTime.MAX).toMinutes();
+            LocalTime endTime = startTime.plusMinutes(15 + random.nextInt(minutesLeft - 14));
+            UnavailabilityPeriod period = random.nextInt(5) == 0
+                    ? new UnavailabilityPeriod(startDate, endDate, null, null)
+                    : new UnavailabilityPeriod(startDate, endDate, startTime, endTime);
+
+            LocalDateTime slotStart = START.minusDays(2).atStartOfDay().plusMinutes(random.nextInt(35 * 24 * 4) * 15L);
+            LocalDateTime slotEnd = slotStart.plusMinutes(random.nextInt(4) == 0 ? 60L * 24 * random.nextInt(4) : 15 + random.nextInt(480));
+
+            assertEquals(scan(period, slotStart, slotEnd), period.overlapsWithSlot(slotStart, slotEnd),
+                    period + " / " + slotStart + " -> " + slotEnd);
+        }
+    }
+
+    @Test
+    @DisplayName("Long partial periods should be checked on the slot's own days")
+    void overlapsWithSlot_HandlesLongPeriods() {
+        UnavailabilityPeriod everyMorning = new UnavailabilityPeriod(
+                START, START.plusYears(10), LocalTime.of(8, 0), LocalTime.of(9, 0));
+        LocalDate lastYear = START.plusYears(9).plusDays(200);
+
+        assertTrue(everyMorning.overlapsWithSlot(lastYear.atTime(8, 30), lastYear.atTime(9, 30)));
+        assertTrue(everyMorning.overlapsWithSlot(lastYear.atTime(9, 0), lastYear.atTime(9, 30)), "closed bounds");
+        assertFalse(everyMorning.overlapsWithSlot(lastYear.atTime(9, 10), lastYear.atTime(9, 40)));
+        assertTrue(everyMorning.overlapsWithSlot(lastYear.atTime(23, 0), lastYear.plusDays(1).atTime(8, 15)), "over midnight");
+        assertFalse(everyMorning.overlapsWithSlot(START.plusYears(11).atTime(8, 0), START.plusYears(11).atTime(8, 30)));
+    }
+
+    /**
+     * Référence : parcours de tous les jours de la période
+     */
+    private static boolean scan(UnavailabilityPeriod period, LocalDateTime slotStart, LocalDateTime slotEnd) {
+        if (period.isFullDay()) {
+            return !slotEnd.toLocalDate().isBefore(period.startDate()) && !slotStart.toLocalDate().isAfter(period.endDate());
+        }
+        for (LocalDate date = period.startDate(); !date.isAfter(period.endDate()); date = date.plusDays(1)) {
+            LocalDateTime rangeStart = LocalDateTime.of(date, period.startTime());
+            LocalDateTime rangeEnd = LocalDateTime.of(date, period.endTime());
+            if (!slotEnd.isBefore(rangeStart) && !slotStart.isAfter(rangeEnd)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
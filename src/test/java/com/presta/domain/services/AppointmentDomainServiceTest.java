@@ -413,6 +413,33 @@ class AppointmentDomainServiceTest {
         assertTrue(canCreate, "Un RDV annulé ne devrait pas bloquer le créneau");
     }
 
+    /**
+     * TEST : Détection de conflit à partir de la projection (créneaux seuls)
+     *
+     * Objectif: Vérifier que la variante sur TimeSlot donne le même résultat que sur les rendez-vous
+     * Scenario: RDV actif 10h-10h30, tentatives à 10h15, 10h30 (bord) et 11h
+     * Attendu: Conflit à 10h15 ; pas à 10h30 (créneaux demi-ouverts [début, fin[) ni à 11h
+     */
+    @Test
+    void testHasConflictWithBookedSlots_MatchesAppointmentCheck() {
+        // Given
+        LocalDateTime bookedAt = LocalDateTime.of(2025, 1, 20, 10, 0);
+        Appointment appointment = createAppointment(bookedAt, AppointmentStatus.CONFIRMED);
+        List<TimeSlot> bookedSlots = List.of(appointment.getSlot());
+
+        // When / Then
+        for (LocalDateTime proposed : List.of(bookedAt.plusMinutes(15), bookedAt.plusMinutes(30), bookedAt.plusHours(1))) {
+            assertEquals(
+                    service.hasConflictWithExistingAppointments(proposed, 30, List.of(appointment)),
+                    service.hasConflictWithBookedSlots(proposed, 30, bookedSlots),
+                    "Résultat divergent pour " + proposed
+            );
+        }
+        assertTrue(service.hasConflictWithBookedSlots(bookedAt.plusMinutes(15), 30, bookedSlots));
+        assertFalse(service.hasConflictWithBookedSlots(bookedAt.plusMinutes(30), 30, bookedSlots));
+        assertFalse(service.hasConflictWithBookedSlots(bookedAt.plusHours(1), 30, bookedSlots));
+    }
+
     // ========== Méthodes utilitaires ==========
 
     private AvailabilityRule createStandardRule(DayOfWeek day) {
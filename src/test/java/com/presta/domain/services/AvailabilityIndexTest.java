@@ -0,0 +1,185 @@
+package com.presta.domain.services;
+
+import com.presta.domain.model.AvailabilityRule;
+import com.presta.domain.model.BreakTime;
+import com.presta.domain.model.ContractorPlanning;
+import com.presta.domain.model.ScheduleConstraints;
+import com.presta.domain.model.UnavailabilityRule;
+import com.presta.domain.model.valueobject.*;
+import com.presta.domain.service.AvailabilityIndex;
+import com.presta.domain.service.ContractorScheduleService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AvailabilityIndexTest {
+
+    private UUID contractorId;
+    private LocalDate start;
+    private LocalDate end;
+    private List<AvailabilityRule> rules;
+    private ScheduleConstraints constraints;
+
+    @BeforeEach
+    void setUp() {
+        contractorId = UUID.randomUUID();
+        start = LocalDate.now().plusDays(1);
+        end = start.plusDays(13);
+
+        AvailabilityRule morning = new AvailabilityRule(
+                UUID.randomUUID(),
+                contractorId,
+                EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY),
+                new TimeRange(LocalTime.of(8, 0), LocalTime.of(18, 0)),
+                new SlotConfiguration(30, 10),
+                List.of(),
+                true
+        );
+        morning.addBreakTime(new BreakTime(new TimeRange(LocalTime.of(12, 0), LocalTime.of(13, 0)), null));
+        AvailabilityRule saturday = new AvailabilityRule(
+                UUID.randomUUID(),
+                contractorId,
+                EnumSet.of(DayOfWeek.SATURDAY),
+                new TimeRange(LocalTime.of(9, 0), LocalTime.of(12, 0)),
+                new SlotConfiguration(45, 0),
+                List.of(),
+                true
+        );
+        rules = List.of(morning, saturday);
+
+        constraints = new ScheduleConstraints(
+                List.of(UnavailabilityRule.create(UUID.randomUUID(), contractorId,
+                        start.plusDays(3), start.plusDays(5), LocalTime.of(14, 0), LocalTime.of(16, 0), "Formation")),
+                List.of(
+                        new TimeSlot(start.plusDays(1).atTime(9, 20), 30),
+                        new TimeSlot(start.plusDays(8).atTime(10, 0), 90)
+                )
+        );
+    }
+
+    @Test
+    @DisplayName("Single-slot checks should agree with the generated planning")
+    void isSlotAvailable_MatchesGeneratedPlanning() {
+        ContractorPlanning planning = new ContractorScheduleService()
+                .generatePlanning(contractorId, rules, constraints, start, end);
+        AvailabilityIndex index = AvailabilityIndex.of(rules, constraints, start, end);
+        LocalDateTime now = LocalDateTime.now();
+
+        assertFalse(planning.slots().isEmpty());
+        for (AvailableSlot slot : planning.slots()) {
+            assertEquals(
+                    slot.status() == AvailabilityStatus.AVAILABLE,
+                    index.isSlotAvailable(slot.timeSlot().startDateTime(), slot.timeSlot().duration(), now),
+                    slot.toString()
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("Slots outside the grid should not be available")
+    void isSlotAvailable_RejectsSlotsOffTheGrid() {
+        AvailabilityIndex index = AvailabilityIndex.of(rules, ScheduleConstraints.none(), start, end);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate monday = start.with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+
+        assertTrue(index.isSlotAvailable(monday.atTime(8, 40), 30, now));
+        assertFalse(index.isSlotAvailable(monday.atTime(8, 30), 30, now), "misaligned");
+        assertFalse(index.isSlotAvailable(monday.atTime(8, 40), 45, now), "wrong duration");
+        assertFalse(index.isSlotAvailable(monday.atTime(12, 0), 30, now), "break time");
+        assertFalse(index.isSlotAvailable(monday.plusDays(6).atTime(9, 0), 30, now), "no rule on sunday");
+    }
+
+    @Test
+    @DisplayName("Past slots should not be available")
+    void isSlotAvailable_RejectsPastSlots() {
+        AvailabilityIndex index = AvailabilityIndex.of(rules, ScheduleConstraints.none(), start, end);
+        LocalDate monday = start.with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+
+        assertFalse(index.isSlotAvailable(monday.atTime(8, 0), 30, monday.atTime(8, 1)));
+        assertTrue(index.isSlotAvailable(monday.atTime(8, 0), 30, monday.atTime(8, 0)));
+    }
+
+    @Test
+    @DisplayName("A booking should not block the adjacent slots when there is no rest time")
+    void isSlotAvailable_AllowsAdjacentSlotsWithoutRestTime() {
+        LocalDate monday = start.with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        List<AvailabilityRule> noRest = List.of(new AvailabilityRule(
+                UUID.randomUUID(),
+                contractorId,
+                EnumSet.of(DayOfWeek.MONDAY),
+                new TimeRange(LocalTime.of(9, 0), LocalTime.of(12, 0)),
+                new SlotConfiguration(30, 0),
+                List.of(),
+                true
+        ));
+        ScheduleConstraints booked = new ScheduleConstraints(List.of(), List.of(new TimeSlot(monday.atTime(10, 0), 30)));
+        AvailabilityIndex index = AvailabilityIndex.of(noRest, booked, monday, monday);
+        LocalDateTime now = monday.atStartOfDay();
+
+        assertTrue(index.isSlotAvailable(monday.atTime(9, 30), 30, now));
+        assertFalse(index.isSlotAvailable(monday.atTime(10, 0), 30, now));
+        assertTrue(index.isSlotAvailable(monday.atTime(10, 30), 30, now));
+        assertEquals(Optional.of(monday.atTime(10, 30)), index.findNextAvailable(monday.atTime(10, 0), monday, 30));
+        assertFalse(new TimeSlot(monday.atTime(10, 0), 30).overlaps(monday.atTime(10, 30), 30));
+    }
+
+    @Test
+    @DisplayName("Next available slot should be the first available slot of the generated planning")
+    void findNextAvailable_MatchesGeneratedPlanning() {
+        ContractorPlanning planning = new ContractorScheduleService()
+                .generatePlanning(contractorId, rules, constraints, start, end);
+
+        for (int duration : new int[]{30, 45}) {
+            Optional<LocalDateTime> expected = planning.slots().stream()
+                    .filter(slot -> slot.status() == AvailabilityStatus.AVAILABLE)
+                    .filter(slot -> slot.timeSlot().duration() == duration)
+                    .map(slot -> slot.timeSlot().startDateTime())
+                    .findFirst();
+            AvailabilityIndex index = AvailabilityIndex.of(rules, constraints, start, end);
+
+            assertTrue(expected.isPresent());
+            assertEquals(expected, index.findNextAvailable(start.atStartOfDay(), end, duration));
+        }
+    }
+
+    @Test
+    @DisplayName("Next available slot should skip unavailable and fully booked days")
+    void findNextAvailable_SkipsBlockedDays() {
+        LocalDate monday = start.with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        LocalDate thursday = monday.plusDays(3);
+
+        // Lundi et mardi indisponibles, mercredi entièrement réservé
+        List<TimeSlot> booked = new ArrayList<>();
+        for (LocalDateTime slot = thursday.minusDays(1).atTime(8, 0);
+             slot.toLocalTime().isBefore(LocalTime.of(18, 0));
+             slot = slot.plusMinutes(40)) {
+            booked.add(new TimeSlot(slot, 30));
+        }
+        ScheduleConstraints blocked = new ScheduleConstraints(
+                List.of(UnavailabilityRule.createFullDay(UUID.randomUUID(), contractorId,
+                        monday, monday.plusDays(1), "Congés")),
+                booked
+        );
+        AvailabilityIndex index = AvailabilityIndex.of(rules, blocked, monday, monday.plusDays(13));
+
+        assertEquals(Optional.of(thursday.atTime(8, 0)),
+                index.findNextAvailable(monday.atStartOfDay(), monday.plusDays(13), 30));
+        assertEquals(Optional.of(thursday.atTime(8, 40)),
+                index.findNextAvailable(thursday.atTime(8, 1), monday.plusDays(13), 30));
+        assertEquals(Optional.empty(),
+                index.findNextAvailable(monday.atStartOfDay(), thursday.minusDays(1), 30));
+    }
+}
@@ -2,6 +2,7 @@ package com.presta.domain.services;
 
 import com.presta.domain.model.Appointment;
 import com.presta.domain.model.AvailabilityRule;
+import com.presta.domain.model.ContractorPlanning;
 import com.presta.domain.model.UnavailabilityRule;
 import com.presta.domain.model.valueobject.*;
 import com.presta.domain.service.ContractorScheduleService;
@@ -13,9 +14,13 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneOffset;
 import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
 
@@ -305,8 +310,209 @@ class ContractorScheduleServiceTest {
         }
     }
 
+    @Test
+    @DisplayName("Should give the same statuses as a naive scan for a busy contractor")
+    void generateSlots_WithManyConstraints_MatchesNaiveScan() {
+        // Given
+        AvailabilityRule rule = createMondayToFridayRule();
+        LocalDate start = getNextMonday();
+        LocalDate end = start.plusDays(90);
+        Random random = new Random(7);
+
+        List<Appointment> appointments = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            LocalDateTime startTime = start.plusDays(random.nextInt(90))
+                    .atTime(8 + random.nextInt(10), random.nextInt(4) * 15);
+            AppointmentStatus status = AppointmentStatus.values()[random.nextInt(AppointmentStatus.values().length)];
+            appointments.add(createAppointment(new TimeSlot(startTime, 15 + random.nextInt(4) * 15), status));
+        }
+
+        List<UnavailabilityRule> unavailabilities = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            LocalDate day = start.plusDays(random.nextInt(90));
+            unavailabilities.add(i % 2 == 0
+                    ? UnavailabilityRule.createSingleDay(UUID.randomUUID(), contractorId, day, "Congé")
+                    : UnavailabilityRule.create(UUID.randomUUID(), contractorId, day, day.plusDays(5),
+                    LocalTime.of(12, 0), LocalTime.of(13, 30), "Pause"));
+        }
+
+        // When
+        List<AvailableSlot> result = service.generateSlots(
+                contractorId, rule, unavailabilities, appointments, start, end
+        );
+
+        // Then
+        assertFalse(result.isEmpty());
+        for (AvailableSlot slot : result) {
+            TimeSlot timeSlot = slot.timeSlot();
+            AvailabilityStatus expected;
+            if (unavailabilities.stream().anyMatch(u -> u.blocksTimeSlot(timeSlot))) {
+                expected = AvailabilityStatus.UNAVAILABLE;
+            } else if (appointments.stream().anyMatch(a -> a.getStatus().isActive() && a.getSlot().overlaps(timeSlot))) {
+                expected = AvailabilityStatus.BOOKED;
+            } else {
+                expected = AvailabilityStatus.AVAILABLE;
+            }
+            assertEquals(expected, slot.status(), "Mismatch for " + timeSlot);
+        }
+    }
+
+    @Test
+    @DisplayName("Should build planning metadata from the packed slot counters")
+    void generatePlanning_WithBookedSlot_ComputesMetadata() {
+        // Given
+        AvailabilityRule rule = createMondayToFridayRule();
+        LocalDate monday = getNextMonday();
+        Appointment booked = createAppointment(new TimeSlot(monday.atTime(9, 0), 60), AppointmentStatus.CONFIRMED);
+
+        // When
+        ContractorPlanning planning = service.generatePlanning(
+                contractorId, rule, List.of(), List.of(booked), monday, monday
+        );
+
+        // Then
+        assertEquals(8, planning.metadata().totalSlots());
+        assertEquals(planning.slots().size(), planning.metadata().totalSlots());
+        // Sans temps de repos, le créneau de 10h touche le rendez-vous sans le chevaucher
+        assertEquals(1, planning.metadata().bookedCount());
+        assertEquals(7, planning.metadata().availableCount());
+        assertEquals(7, planning.getAvailableSlots().size());
+        assertEquals(monday.atTime(10, 0), planning.metadata().nextAvailable().orElseThrow().startDateTime());
+        assertEquals(new AvailableSlot(contractorId, new TimeSlot(monday.atTime(9, 0), 60), AvailabilityStatus.BOOKED),
+                planning.slots().get(0));
+    }
+
+    @Test
+    @DisplayName("Should stream the same slots and metadata as the materialized planning")
+    void streamSlots_MatchesGeneratedPlanning() {
+        // Given
+        AvailabilityRule rule = createMondayToFridayRule();
+        LocalDate monday = getNextMonday();
+        Appointment booked = createAppointment(new TimeSlot(monday.atTime(10, 0), 60), AppointmentStatus.PENDING);
+        UnavailabilityRule dayOff = UnavailabilityRule.createFullDay(
+                UUID.randomUUID(), contractorId, monday.plusDays(2), monday.plusDays(2), "Congé"
+        );
+        ContractorPlanning planning = service.generatePlanning(
+                contractorId, rule, List.of(dayOff), List.of(booked), monday, monday.plusDays(13)
+        );
+
+        // When
+        List<AvailableSlot> streamed = new ArrayList<>();
+        PlanningMetadata metadata = service.streamSlots(
+                contractorId, rule, List.of(dayOff), List.of(booked), monday, monday.plusDays(13),
+                (start, duration, status) -> streamed.add(new AvailableSlot(
+                        contractorId,
+                        new TimeSlot(LocalDateTime.ofEpochSecond(start, 0, ZoneOffset.UTC), duration),
+                        status))
+        );
+
+        // Then
+        assertEquals(planning.slots(), streamed);
+        assertEquals(planning.metadata().totalSlots(), metadata.totalSlots());
+        assertEquals(planning.metadata().availableCount(), metadata.availableCount());
+        assertEquals(planning.metadata().bookedCount(), metadata.bookedCount());
+        assertEquals(planning.metadata().unavailableCount(), metadata.unavailableCount());
+        assertEquals(planning.metadata().nextAvailable(), metadata.nextAvailable());
+    }
+
+    @Test
+    @DisplayName("Should merge morning and afternoon rules and drop identical slots")
+    void generatePlanning_WithMorningAndAfternoonRules_MergesSortedSlots() {
+        // Given
+        LocalDate monday = getNextMonday();
+        AvailabilityRule morning = createRule(EnumSet.of(DayOfWeek.MONDAY), LocalTime.of(9, 0), LocalTime.of(12, 0), 60, 0);
+        AvailabilityRule afternoon = createRule(EnumSet.of(DayOfWeek.MONDAY), LocalTime.of(14, 0), LocalTime.of(17, 0), 60, 0);
+        AvailabilityRule sameMorning = createRule(EnumSet.of(DayOfWeek.MONDAY), LocalTime.of(9, 0), LocalTime.of(12, 0), 60, 0);
+
+        // When
+        ContractorPlanning planning = service.generatePlanning(
+                contractorId, List.of(afternoon, morning, sameMorning), List.of(), List.of(), monday, monday
+        );
+
+        // Then
+        List<LocalTime> starts = planning.slots().stream()
+                .map(slot -> slot.timeSlot().startDateTime().toLocalTime())
+                .toList();
+        assertEquals(List.of(LocalTime.of(9, 0), LocalTime.of(10, 0), LocalTime.of(11, 0),
+                LocalTime.of(14, 0), LocalTime.of(15, 0), LocalTime.of(16, 0)), starts);
+        assertEquals(6, planning.metadata().totalSlots());
+    }
+
+    @Test
+    @DisplayName("Should return an empty planning when no rule is active")
+    void generatePlanning_WithoutActiveRules_ReturnsEmptyPlanning() {
+        // When
+        ContractorPlanning planning = service.generatePlanning(
+                contractorId, List.of(createInactiveAvailabilityRule()), List.of(), List.of(), today, tomorrow
+        );
+        ContractorPlanning noRules = service.generatePlanning(
+                contractorId, List.<AvailabilityRule>of(), List.of(), List.of(), today, tomorrow
+        );
+
+        // Then
+        assertTrue(planning.slots().isEmpty());
+        assertTrue(noRules.slots().isEmpty());
+        assertEquals(0, noRules.metadata().totalSlots());
+    }
+
+    @Test
+    @DisplayName("Should merge a dozen overlapping rules like a concat-sort-distinct")
+    void generatePlanning_WithManyRules_MatchesConcatSortDistinct() {
+        // Given : 12 règles qui se chevauchent (durées, pas et jours variés)
+        Random random = new Random(7);
+        List<AvailabilityRule> rules = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            EnumSet<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+            for (DayOfWeek day : DayOfWeek.values()) {
+                if (random.nextBoolean()) {
+                    days.add(day);
+                }
+            }
+            if (days.isEmpty()) {
+                days.add(DayOfWeek.MONDAY);
+            }
+            int startHour = 7 + random.nextInt(5);
+            rules.add(createRule(days, LocalTime.of(startHour, 0), LocalTime.of(startHour + 4 + random.nextInt(5), 0),
+                    15 * (1 + random.nextInt(4)), 5 * random.nextInt(3)));
+        }
+        rules.add(rules.get(0));
+        LocalDate start = getNextMonday();
+        LocalDate end = start.plusWeeks(12);
+
+        // When
+        ContractorPlanning planning = service.generatePlanning(contractorId, rules, List.of(), List.of(), start, end);
+
+        // Then
+        List<TimeSlot> expected = new ArrayList<>();
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            for (AvailabilityRule rule : rules) {
+                expected.addAll(rule.generateSlotsForDay(date));
+            }
+        }
+        List<TimeSlot> expectedSorted = expected.stream()
+                .distinct()
+                .sorted(Comparator.comparing(TimeSlot::startDateTime).thenComparingInt(TimeSlot::duration))
+                .toList();
+
+        List<TimeSlot> actual = planning.slots().stream().map(AvailableSlot::timeSlot).toList();
+        assertEquals(expectedSorted, actual);
+        assertTrue(planning.slots().stream().allMatch(slot -> slot.status() == AvailabilityStatus.AVAILABLE));
+    }
+
     // ========== Helper Methods ==========
 
+    private AvailabilityRule createRule(Set<DayOfWeek> days, LocalTime from, LocalTime to, int duration, int rest) {
+        return new AvailabilityRule(
+                UUID.randomUUID(),
+                contractorId,
+                days,
+                new TimeRange(from, to),
+                new SlotConfiguration(duration, rest),
+                List.of(),
+                true
+        );
+    }
+
     private AvailabilityRule createBasicAvailabilityRule() {
         Set<DayOfWeek> allDays = EnumSet.allOf(DayOfWeek.class);
         TimeRange timeRange = new TimeRange(LocalTime.of(9, 0), LocalTime.of(17, 0));
@@ -0,0 +1,118 @@
+package com.presta.domain.services;
+
+import com.presta.domain.model.Appointment;
+import com.presta.domain.model.UnavailabilityRule;
+import com.presta.domain.model.valueobject.AppointmentDetails;
+import com.presta.domain.model.valueobject.AppointmentStatus;
+import com.presta.domain.model.valueobject.TimeSlot;
+import com.presta.domain.service.IntervalIndex;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntervalIndexTest {
+
+    private final UUID contractorId = UUID.randomUUID();
+    private final LocalDate day = LocalDate.of(2030, 3, 4);
+
+    @Test
+    void overlaps_TouchingBoundaries_AreConsideredOverlapping() {
+        IntervalIndex index = new IntervalIndex.Builder()
+                .add(day.atTime(10, 0), day.atTime(11, 0))
+                .build();
+
+        assertTrue(index.overlaps(day.atTime(9, 0), day.atTime(10, 0)));
+        assertTrue(index.overlaps(day.atTime(11, 0), day.atTime(11, 30)));
+        assertFalse(index.overlaps(day.atTime(11, 1), day.atTime(11, 30)));
+        assertFalse(index.overlaps(day.atTime(8, 0), day.atTime(9, 59)));
+    }
+
+    @Test
+    void overlaps_UnsortedQueries_FallBackToBinarySearch() {
+        IntervalIndex index = new IntervalIndex.Builder()
+                .add(day.atTime(14, 0), day.atTime(15, 0))
+                .add(day.atTime(9, 0), day.atTime(9, 30))
+                .build();
+
+        assertTrue(index.overlaps(day.atTime(14, 30), day.atTime(14, 45)));
+        assertTrue(index.overlaps(day.atTime(9, 10), day.atTime(9, 20)));
+        assertFalse(index.overlaps(day.atTime(12, 0), day.atTime(13, 0)));
+        assertTrue(index.overlaps(day.atTime(14, 50), day.atTime(16, 0)));
+    }
+
+    @Test
+    void build_MergesOverlappingIntervals() {
+        IntervalIndex index = new IntervalIndex.Builder()
+                .add(day.atTime(9, 0), day.atTime(10, 0))
+                .add(day.atTime(9, 30), day.atTime(11, 0))
+                .add(day.atTime(11, 0), day.atTime(11, 15))
+                .add(day.atTime(13, 0), day.atTime(14, 0))
+                .build();
+
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void ofActiveAppointments_IgnoresCancelledAndCompleted() {
+        IntervalIndex index = IntervalIndex.ofActiveAppointments(List.of(
+                appointment(day.atTime(9, 0), 30, AppointmentStatus.CANCELLED),
+                appointment(day.atTime(10, 0), 30, AppointmentStatus.COMPLETED),
+                appointment(day.atTime(11, 0), 30, AppointmentStatus.PENDING)
+        ));
+
+        assertFalse(index.overlaps(day.atTime(9, 5), day.atTime(9, 10)));
+        assertFalse(index.overlaps(day.atTime(10, 5), day.atTime(10, 10)));
+        assertTrue(index.overlaps(day.atTime(11, 5), day.atTime(11, 10)));
+    }
+
+    @Test
+    void ofUnavailabilities_MatchesBlocksTimeSlotOnRandomData() {
+        Random random = new Random(42);
+        List<UnavailabilityRule> rules = new ArrayList<>();
+
+        for (int i = 0; i < 40; i++) {
+            LocalDate start = day.plusDays(random.nextInt(60));
+            LocalDate end = start.plusDays(random.nextInt(10));
+            if (random.nextBoolean()) {
+                rules.add(UnavailabilityRule.createFullDay(null, contractorId, start, end, "Congé"));
+            } else {
+                int hour = 8 + random.nextInt(8);
+                rules.add(UnavailabilityRule.create(null, contractorId, start, end,
+                        LocalTime.of(hour, 0), LocalTime.of(hour + 1, 30), "Absence"));
+            }
+        }
+
+        LocalDate from = day;
+        LocalDate to = day.plusDays(75);
+        IntervalIndex index = IntervalIndex.ofUnavailabilities(rules, from, to);
+
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            for (int minute = 8 * 60; minute < 18 * 60; minute += 20) {
+                TimeSlot slot = new TimeSlot(date.atStartOfDay().plusMinutes(minute), 30);
+                boolean expected = rules.stream().anyMatch(rule -> rule.blocksTimeSlot(slot));
+                assertEquals(expected, index.overlaps(slot), "Mismatch for " + slot);
+            }
+        }
+    }
+
+    private Appointment appointment(LocalDateTime start, int duration, AppointmentStatus status) {
+        return new Appointment(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                contractorId,
+                new TimeSlot(start, duration),
+                status,
+                new AppointmentDetails("Test", null),
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,116 @@
+package com.presta.domain.services;
+
+import com.presta.domain.model.AvailabilityRule;
+import com.presta.domain.model.BreakTime;
+import com.presta.domain.model.DailyBookingCount;
+import com.presta.domain.model.OccupancyStat;
+import com.presta.domain.model.valueobject.OccupancyGranularity;
+import com.presta.domain.model.valueobject.SlotConfiguration;
+import com.presta.domain.model.valueobject.TimeRange;
+import com.presta.domain.service.OccupancyCalculator;
+import com.presta.domain.service.SlotCapacity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlotCapacityTest {
+
+    private UUID contractorId;
+    private List<AvailabilityRule> rules;
+
+    @BeforeEach
+    void setUp() {
+        contractorId = UUID.randomUUID();
+        AvailabilityRule week = new AvailabilityRule(
+                UUID.randomUUID(),
+                contractorId,
+                EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY),
+                new TimeRange(LocalTime.of(8, 0), LocalTime.of(18, 0)),
+                new SlotConfiguration(30, 10),
+                List.of(),
+                true
+        );
+        week.addBreakTime(new BreakTime(new TimeRange(LocalTime.of(12, 0), LocalTime.of(13, 0)), null));
+        AvailabilityRule saturday = new AvailabilityRule(
+                UUID.randomUUID(),
+                contractorId,
+                EnumSet.of(DayOfWeek.SATURDAY),
+                new TimeRange(LocalTime.of(9, 0), LocalTime.of(12, 0)),
+                new SlotConfiguration(45, 0),
+                List.of(),
+                true
+        );
+        AvailabilityRule inactive = new AvailabilityRule(
+                UUID.randomUUID(),
+                contractorId,
+                EnumSet.allOf(DayOfWeek.class),
+                new TimeRange(LocalTime.of(19, 0), LocalTime.of(21, 0)),
+                new SlotConfiguration(30, 0),
+                List.of(),
+                false
+        );
+        rules = List.of(week, saturday, inactive);
+    }
+
+    @Test
+    @DisplayName("Arithmetic capacity should match the generated slots for any range")
+    void slotsBetween_MatchesGeneratedSlots() {
+        SlotCapacity capacity = SlotCapacity.of(rules);
+        LocalDate origin = LocalDate.of(2025, 3, 5);
+
+        for (int offset = 0; offset < 7; offset++) {
+            for (int length = 0; length < 40; length += 3) {
+                LocalDate start = origin.plusDays(offset);
+                LocalDate end = start.plusDays(length);
+                assertEquals(generatedSlots(start, end), capacity.slotsBetween(start, end), start + " -> " + end);
+            }
+        }
+        assertEquals(0, capacity.slotsBetween(origin, origin.minusDays(1)));
+    }
+
+    @Test
+    @DisplayName("Weekly occupancy should sum capacity and bookings over each clipped week")
+    void compute_GroupsByWeek() {
+        LocalDate wednesday = LocalDate.of(2025, 3, 5);
+        LocalDate nextTuesday = wednesday.plusDays(6);
+        List<DailyBookingCount> bookings = List.of(
+                new DailyBookingCount(contractorId, wednesday, 3),
+                new DailyBookingCount(contractorId, wednesday.plusDays(3), 2),
+                new DailyBookingCount(contractorId, nextTuesday, 4),
+                new DailyBookingCount(UUID.randomUUID(), wednesday, 9)
+        );
+
+        List<OccupancyStat> stats = OccupancyCalculator.compute(
+                List.of(contractorId), rules, bookings, wednesday, nextTuesday, OccupancyGranularity.WEEK);
+
+        assertEquals(2, stats.size());
+        assertEquals(wednesday, stats.get(0).periodStart());
+        assertEquals(wednesday.plusDays(4), stats.get(0).periodEnd());
+        assertEquals(generatedSlots(wednesday, wednesday.plusDays(4)), stats.get(0).capacity());
+        assertEquals(5, stats.get(0).booked());
+        assertEquals(wednesday.plusDays(5), stats.get(1).periodStart());
+        assertEquals(4, stats.get(1).booked());
+        assertEquals((double) 4 / stats.get(1).capacity() * 100, stats.get(1).rate(), 1e-9);
+    }
+
+    private long generatedSlots(LocalDate start, LocalDate end) {
+        long count = 0;
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            for (AvailabilityRule rule : rules) {
+                if (rule.isActive()) {
+                    count += rule.generateSlotsForDay(date).size();
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,87 @@
+package com.presta.infrastructure.persistence.adapters;
+
+import com.presta.domain.exception.AppointmentConflictException;
+import com.presta.domain.model.Appointment;
+import com.presta.domain.model.AppointmentEvent;
+import com.presta.domain.model.valueobject.AppointmentDetails;
+import com.presta.domain.model.valueobject.AppointmentEventType;
+import com.presta.domain.model.valueobject.AppointmentStatus;
+import com.presta.domain.model.valueobject.TimeSlot;
+import com.presta.domain.port.OutboxPort;
+import com.presta.infrastructure.persistence.mapper.AppointmentMapper;
+import com.presta.infrastructure.persistence.repositories.JpaAppointmentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class AppointmentRepositoryAdapterTest {
+
+    private final JpaAppointmentRepository jpaRepository = mock(JpaAppointmentRepository.class);
+    private final OutboxPort outboxPort = mock(OutboxPort.class);
+    private final AppointmentRepositoryAdapter adapter =
+            new AppointmentRepositoryAdapter(jpaRepository, mock(AppointmentMapper.class), outboxPort);
+
+    private final Appointment appointment = new Appointment(
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            new TimeSlot(LocalDateTime.now().plusDays(3), 30),
+            AppointmentStatus.CONFIRMED,
+            new AppointmentDetails("Consultation", "Note"),
+            LocalDateTime.now().minusDays(1),
+            LocalDateTime.now(),
+            5L
+    );
+
+    @Test
+    @DisplayName("The update should be conditioned on the expected status and the version read")
+    void updateState_PassesExpectedStatusAndVersion() {
+        when(jpaRepository.updateStateIfUnchanged(any(), any(), any(), any(), any(), any())).thenReturn(1);
+
+        adapter.updateState(appointment, AppointmentStatus.PENDING);
+
+        verify(jpaRepository).updateStateIfUnchanged(
+                appointment.getId(),
+                AppointmentStatus.PENDING,
+                5L,
+                AppointmentStatus.CONFIRMED,
+                "Note",
+                appointment.getUpdatedAt()
+        );
+        verify(outboxPort).append(argThat((List<AppointmentEvent> events) -> events.size() == 1
+                && events.getFirst().type() == AppointmentEventType.CONFIRMED
+                && events.getFirst().appointmentId().equals(appointment.getId())));
+    }
+
+    @Test
+    @DisplayName("No updated row should be reported as a concurrent modification")
+    void updateState_RejectsStaleAppointment() {
+        when(jpaRepository.updateStateIfUnchanged(any(), any(), any(), any(), any(), any())).thenReturn(0);
+
+        AppointmentConflictException conflict = assertThrows(AppointmentConflictException.class,
+                () -> adapter.updateState(appointment, AppointmentStatus.PENDING));
+
+        assertEquals("CONCURRENT_MODIFICATION", conflict.getCode());
+        assertEquals(409, conflict.getStatusCode());
+        verifyNoInteractions(outboxPort);
+    }
+
+    @Test
+    @DisplayName("An update without status change should not publish any event")
+    void updateState_WithoutTransition_PublishesNothing() {
+        when(jpaRepository.updateStateIfUnchanged(any(), eq(AppointmentStatus.CONFIRMED), eq(5L), any(), any(), any()))
+                .thenReturn(1);
+
+        adapter.updateState(appointment, AppointmentStatus.CONFIRMED);
+
+        verifyNoInteractions(outboxPort);
+    }
+}
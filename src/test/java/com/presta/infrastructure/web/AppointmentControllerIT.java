@@ -24,7 +24,10 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
 import java.util.UUID;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -54,11 +57,12 @@ public class AppointmentControllerIT {
 
     @Test
     void shouldCreateAppointmentSuccessfully() throws Exception {
-        // Arrange
+        // Arrange : créneau futur de la grille de Jean Dupont (lundi, 9h-17h, 30 min)
+        LocalDate monday = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
         CreateAppointmentRequest request = new CreateAppointmentRequest(
                 CONTRACTOR_ID,
                 CLIENT_ID,
-                LocalDateTime.of(2025, 10, 13, 14, 30, 0),
+                monday.atTime(14, 30),
                 30,
                 "Consultation initiale",
                 "Client préfère être contacté par email"
@@ -75,6 +79,29 @@ public class AppointmentControllerIT {
                 .andExpect(jsonPath("$.status").exists())
                 .andExpect(jsonPath("$.createdAt").exists());
     }
+
+    @Test
+    void shouldBookAdjacentSlotsWithoutRestTime() throws Exception {
+        // Arrange : créneaux de 30 min sans temps de repos (règle de Jean Dupont)
+        LocalDate monday = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+
+        // Act & Assert : le second créneau commence à la fin du premier
+        for (LocalDateTime start : new LocalDateTime[]{monday.atTime(15, 0), monday.atTime(15, 30)}) {
+            CreateAppointmentRequest request = new CreateAppointmentRequest(
+                    CONTRACTOR_ID,
+                    CLIENT_ID,
+                    start,
+                    30,
+                    "Consultation",
+                    null
+            );
+
+            mockMvc.perform(post("/api/appointments")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+    }
 }
 
 
@@ -0,0 +1,134 @@
+package com.presta.infrastructure.web.dtos;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.presta.domain.model.Appointment;
+import com.presta.domain.model.AvailabilityRule;
+import com.presta.domain.model.BreakTime;
+import com.presta.domain.model.ContractorPlanning;
+import com.presta.domain.model.valueobject.*;
+import com.presta.domain.service.ContractorScheduleService;
+import com.presta.infrastructure.web.dtos.planning.CompactPlanningDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactPlanningDtoTest {
+
+    private final ContractorScheduleService service = new ContractorScheduleService();
+    private final UUID contractorId = UUID.randomUUID();
+    private final LocalDate start = LocalDate.now().minusDays(3);
+    private final LocalDate end = start.plusDays(89);
+
+    @Test
+    void encode_DecodesBackToTheSameSlots() {
+        AvailabilityRule rule = createRuleWithLunchBreak();
+        List<Appointment> appointments = List.of(
+                appointment(start.plusDays(7).atTime(10, 0), 45),
+                appointment(start.plusDays(20).atTime(15, 30), 30)
+        );
+
+        ContractorPlanning planning = service.generatePlanning(contractorId, rule, List.of(), appointments, start, end);
+        CompactPlanningDto compact = CompactPlanningDto.encode(contractorId, start, end,
+                consumer -> service.streamSlots(contractorId, rule, List.of(), appointments, start, end, consumer));
+
+        assertEquals(planning.slots(), decode(compact));
+        assertEquals(1, compact.grids().size());
+        assertEquals(planning.metadata().totalSlots(), compact.metadata().totalSlots());
+    }
+
+    @Test
+    void encode_CutsJsonPayloadByAnOrderOfMagnitude() throws Exception {
+        AvailabilityRule rule = createRuleWithLunchBreak();
+        ObjectMapper mapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        ContractorPlanning planning = service.generatePlanning(contractorId, rule, List.of(), List.of(), start, end);
+        CompactPlanningDto compact = CompactPlanningDto.encode(contractorId, start, end,
+                consumer -> service.streamSlots(contractorId, rule, List.of(), List.of(), start, end, consumer));
+
+        int fullSize = mapper.writeValueAsBytes(planning).length;
+        int compactSize = mapper.writeValueAsBytes(compact).length;
+        assertTrue(compactSize * 10 < fullSize, "compact=" + compactSize + " full=" + fullSize);
+    }
+
+    /**
+     * Décodeur de référence, tel que l'implémente le client
+     */
+    private List<AvailableSlot> decode(CompactPlanningDto compact) {
+        List<AvailableSlot> slots = new ArrayList<>();
+        for (CompactPlanningDto.CompactDay day : compact.days()) {
+            List<int[]> grid = new ArrayList<>();
+            for (CompactPlanningDto.GridSegment segment : compact.grids().get(day.grid())) {
+                for (int i = 0; i < segment.count(); i++) {
+                    grid.add(new int[]{segment.start() + i * (segment.duration() + segment.rest()), segment.duration()});
+                }
+            }
+
+            List<AvailabilityStatus> statuses = new ArrayList<>();
+            String runs = day.statuses();
+            for (int i = 0; i < runs.length(); ) {
+                char code = runs.charAt(i++);
+                int from = i;
+                while (i < runs.length() && Character.isDigit(runs.charAt(i))) {
+                    i++;
+                }
+                int length = Integer.parseInt(runs.substring(from, i));
+                AvailabilityStatus status = EnumSet.allOf(AvailabilityStatus.class).stream()
+                        .filter(s -> CompactPlanningDto.statusCode(s) == code)
+                        .findFirst()
+                        .orElseThrow();
+                for (int k = 0; k < length; k++) {
+                    statuses.add(status);
+                }
+            }
+
+            assertEquals(grid.size(), statuses.size());
+            for (int i = 0; i < grid.size(); i++) {
+                TimeSlot timeSlot = new TimeSlot(day.date().atStartOfDay().plusMinutes(grid.get(i)[0]), grid.get(i)[1]);
+                slots.add(new AvailableSlot(compact.contractorId(), timeSlot, statuses.get(i)));
+            }
+        }
+        return slots;
+    }
+
+    private AvailabilityRule createRuleWithLunchBreak() {
+        AvailabilityRule rule = new AvailabilityRule(
+                UUID.randomUUID(),
+                contractorId,
+                EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY),
+                new TimeRange(LocalTime.of(8, 0), LocalTime.of(18, 0)),
+                new SlotConfiguration(30, 10),
+                List.of(),
+                true
+        );
+        rule.addBreakTime(new BreakTime(
+                new TimeRange(LocalTime.of(12, 0), LocalTime.of(13, 30)),
+                null
+        ));
+        return rule;
+    }
+
+    private Appointment appointment(LocalDateTime startDateTime, int duration) {
+        return new Appointment(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                contractorId,
+                new TimeSlot(startDateTime, duration),
+                AppointmentStatus.CONFIRMED,
+                new AppointmentDetails("Test", null),
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,61 @@
+package com.presta.infrastructure.web.dtos;
+
+import com.presta.domain.model.Appointment;
+import com.presta.domain.model.valueobject.BatchBookingMode;
+import com.presta.infrastructure.web.dtos.appointment.CreateAppointmentBatchRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CreateAppointmentBatchRequestTest {
+
+    private final UUID contractorId = UUID.randomUUID();
+    private final UUID clientId = UUID.randomUUID();
+    private final LocalDateTime first = LocalDateTime.now().plusDays(7).withHour(10).withMinute(0).withSecond(0).withNano(0);
+
+    @Test
+    @DisplayName("A weekly recurrence should expand to one appointment per occurrence")
+    void toDomain_ExpandsRecurrence() {
+        CreateAppointmentBatchRequest request = new CreateAppointmentBatchRequest(
+                contractorId, clientId, 30, null, first, 4, 2, null, "Suivi", null);
+
+        List<Appointment> appointments = request.toDomain();
+
+        assertEquals(4, appointments.size());
+        for (int i = 0; i < appointments.size(); i++) {
+            Appointment appointment = appointments.get(i);
+            assertEquals(first.plusWeeks(2L * i), appointment.getSlot().startDateTime());
+            assertEquals(30, appointment.getSlot().duration());
+            assertEquals(contractorId, appointment.getContractorId());
+            assertEquals(clientId, appointment.getClientId());
+        }
+        assertEquals(BatchBookingMode.ALL_OR_NOTHING, request.effectiveMode());
+    }
+
+    @Test
+    @DisplayName("Explicit dates should take precedence over the recurrence")
+    void toDomain_UsesExplicitDates() {
+        List<LocalDateTime> dates = List.of(first, first.plusDays(1).plusHours(2));
+        CreateAppointmentBatchRequest request = new CreateAppointmentBatchRequest(
+                contractorId, clientId, 45, dates, first, 10, 1, BatchBookingMode.BEST_EFFORT, null, null);
+
+        List<Appointment> appointments = request.toDomain();
+
+        assertEquals(dates, appointments.stream().map(a -> a.getSlot().startDateTime()).toList());
+        assertEquals(BatchBookingMode.BEST_EFFORT, request.effectiveMode());
+    }
+
+    @Test
+    @DisplayName("A request without dates nor recurrence should be rejected")
+    void toDomain_RejectsEmptyRequest() {
+        CreateAppointmentBatchRequest request = new CreateAppointmentBatchRequest(
+                contractorId, clientId, 30, List.of(), null, null, null, null, null, null);
+
+        assertThrows(IllegalArgumentException.class, request::toDomain);
+    }
+}